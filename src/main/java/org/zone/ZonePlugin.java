@@ -19,11 +19,15 @@ import org.zone.ai.HumanAIListener;
 import org.zone.annotations.Typed;
 import org.zone.commands.structure.ZoneCommands;
 import org.zone.config.ZoneConfig;
+import org.zone.config.node.ZoneNodes;
 import org.zone.event.listener.PlayerListener;
 import org.zone.keys.ZoneKeys;
 import org.zone.memory.MemoryHolder;
 import org.zone.region.Zone;
+import org.zone.region.ZoneLoader;
 import org.zone.region.ZoneManager;
+import org.zone.region.border.ZoneBorderRenderer;
+import org.zone.region.explosion.ExplosionProtection;
 import org.zone.region.flag.Flag;
 import org.zone.region.flag.FlagManager;
 import org.zone.region.flag.FlagType;
@@ -48,6 +52,8 @@ import org.zone.region.flag.entity.player.move.greetings.GreetingsFlagListener;
 import org.zone.region.flag.entity.player.move.leaving.LeavingFlagListener;
 import org.zone.region.flag.entity.player.move.preventing.PreventPlayersListener;
 import org.zone.region.group.key.GroupKeyManager;
+import org.zone.region.presence.ZoneMovementCoalescer;
+import org.zone.region.presence.ZonePresenceTracker;
 import org.zone.region.shop.type.ShopManager;
 import org.zone.region.shop.type.inventory.display.DisplayCaseShopListener;
 import org.zone.utils.Messages;
@@ -56,6 +62,7 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Optional;
@@ -80,6 +87,10 @@ public class ZonePlugin {
     private ShopManager shopManager;
     private ZoneConfig config;
     private MemoryHolder memoryHolder;
+    private ZonePresenceTracker presenceTracker;
+    private ZoneMovementCoalescer movementCoalescer;
+    private ZoneBorderRenderer borderRenderer;
+    private ExplosionProtection explosionProtection;
     private static ZonePlugin zonePlugin;
 
     @SuppressWarnings("SpongeInjection")
@@ -155,6 +166,50 @@ public class ZonePlugin {
         return this.memoryHolder;
     }
 
+    /**
+     * Gets the presence tracker
+     *
+     * @return The instance of the presence tracker
+     * @since 1.0.1
+     * @see ZonePresenceTracker
+     */
+    public @NotNull ZonePresenceTracker getPresenceTracker() {
+        return this.presenceTracker;
+    }
+
+    /**
+     * Gets the movement coalescer
+     *
+     * @return The instance of the movement coalescer
+     * @since 1.0.1
+     * @see ZoneMovementCoalescer
+     */
+    public @NotNull ZoneMovementCoalescer getMovementCoalescer() {
+        return this.movementCoalescer;
+    }
+
+    /**
+     * Gets the border renderer
+     *
+     * @return The instance of the border renderer
+     * @since 1.0.1
+     * @see ZoneBorderRenderer
+     */
+    public @NotNull ZoneBorderRenderer getBorderRenderer() {
+        return this.borderRenderer;
+    }
+
+    /**
+     * Gets the explosion protection
+     *
+     * @return The instance of the explosion protection
+     * @since 1.0.1
+     * @see ExplosionProtection
+     */
+    public @NotNull ExplosionProtection getExplosionProtection() {
+        return this.explosionProtection;
+    }
+
     /**
      * Gets the Group key manager
      *
@@ -189,9 +244,13 @@ public class ZonePlugin {
     public void onConstruct(ConstructPluginEvent event) {
         this.messageDisplayManager = new MessageDisplayManager();
         this.flagManager = new FlagManager();
-        this.zoneManager = new ZoneManager();
+        this.zoneManager = new ZoneManager(this.logger);
         this.groupKeyManager = new GroupKeyManager();
         this.memoryHolder = new MemoryHolder();
+        this.presenceTracker = new ZonePresenceTracker();
+        this.movementCoalescer = new ZoneMovementCoalescer();
+        this.borderRenderer = new ZoneBorderRenderer();
+        this.explosionProtection = new ExplosionProtection();
         this.shopManager = new ShopManager();
         this.config = new ZoneConfig(new File("config/zone/config.conf"));
     }
@@ -204,13 +263,15 @@ public class ZonePlugin {
     private void registerListeners() {
         EventManager eventManager = Sponge.eventManager();
         eventManager.registerListeners(this.plugin, new PlayerListener());
+        eventManager.registerListeners(this.plugin, this.presenceTracker);
+        eventManager.registerListeners(this.plugin, this.movementCoalescer);
+        eventManager.registerListeners(this.plugin, this.borderRenderer);
         eventManager.registerListeners(this.plugin, new MonsterPreventionListener());
         eventManager.registerListeners(this.plugin, new DoorInteractListener());
         eventManager.registerListeners(this.plugin, new BlockBreakListener());
         eventManager.registerListeners(this.plugin, new BlockPlaceListener());
-        eventManager.registerListeners(this.plugin, new GreetingsFlagListener());
-        eventManager.registerListeners(this.plugin, new PreventPlayersListener());
-        eventManager.registerListeners(this.plugin, new LeavingFlagListener());
+        PreventPlayersListener preventPlayersListener = new PreventPlayersListener();
+        eventManager.registerListeners(this.plugin, preventPlayersListener);
         eventManager.registerListeners(this.plugin, new ItemFrameInteractionListener());
         eventManager.registerListeners(this.plugin, new EntityDamagePlayerListener());
         eventManager.registerListeners(this.plugin, new PlayerFallDamageListener());
@@ -224,7 +285,14 @@ public class ZonePlugin {
         eventManager.registerListeners(this.plugin, new WitherGriefListener());
         eventManager.registerListeners(this.plugin, new EnderMiteGriefListener());
         eventManager.registerListeners(this.plugin, new HumanAIListener());
-        eventManager.registerListeners(this.plugin, new DisplayCaseShopListener());
+        DisplayCaseShopListener displayCaseShopListener = new DisplayCaseShopListener();
+        eventManager.registerListeners(this.plugin, displayCaseShopListener);
+
+        //moves that do not cancel the event are handled once per player each tick
+        this.movementCoalescer.register(new GreetingsFlagListener());
+        this.movementCoalescer.register(new LeavingFlagListener());
+        this.movementCoalescer.register(displayCaseShopListener);
+        this.movementCoalescer.register(preventPlayersListener);
     }
 
     /**
@@ -247,6 +315,8 @@ public class ZonePlugin {
     @Listener
     public void onServerStarted(final StartedEngineEvent<Server> event) {
         this.config.loadDefaults();
+        this.movementCoalescer.start();
+        this.borderRenderer.start();
 
 
         FlagManager manager = this.getFlagManager();
@@ -285,32 +355,77 @@ public class ZonePlugin {
             this.getLogger().error("Could not save defaults file");
             e.printStackTrace();
         }
+        try {
+            manager.getDefaultFlags().reload();
+        } catch (ConfigurateException e) {
+            this.getLogger().error("Could not load defaults file");
+            e.printStackTrace();
+        }
 
         Sponge.systemSubject().sendMessage(Messages.getLoadingZonesStart());
         File zonesFolder = new File("config/zone/zones/");
         Sponge.systemSubject().sendMessage(Messages.getZonesLoadingFrom(zonesFolder.getPath()));
 
-        for (PluginContainer container : Sponge.pluginManager().plugins()) {
-            File keyFolder = new File(zonesFolder, container.metadata().id());
-            File[] keyFiles = keyFolder.listFiles();
-            if (keyFiles == null) {
-                continue;
-            }
-            for (File file : keyFiles) {
-                try {
-                    Zone zone = this.zoneManager.load(file);
-                    this.zoneManager.register(zone);
-                } catch (ConfigurateException e) {
-                    Sponge
-                            .systemSubject()
-                            .sendMessage(Messages.getZonesLoadingFail(file.getPath()));
-                    e.printStackTrace();
-                }
-            }
-        }
+        ZoneLoader loader = new ZoneLoader(this.zoneManager);
+        Collection<Zone> zones = loader.load();
+        Sponge.systemSubject().sendMessage(Messages.getZonesLoadTimings(loader.getTimings()));
+        this.zoneManager.registerAll(zones);
         Sponge
                 .systemSubject()
                 .sendMessage(Messages.getZonesLoaded(this.getZoneManager().getRegistered()));
+        this.updateJournal();
+        this.updateFileWatcher();
+        this.updatePriorityZoneCache();
+        this.updateBorderRenderer();
+    }
+
+    private void updateJournal() {
+        try {
+            this.zoneManager
+                    .getJournal()
+                    .setEnabled(this.config.getOrElse(ZoneNodes.ZONE_JOURNAL));
+        } catch (IOException e) {
+            this.getLogger().error("Could not open the zone journal");
+            e.printStackTrace();
+        }
+    }
+
+    private void updateFileWatcher() {
+        try {
+            this.zoneManager
+                    .getFileWatcher()
+                    .setRunning(this.config.getOrElse(ZoneNodes.ZONE_WATCH));
+        } catch (IOException e) {
+            this.getLogger().error("Could not watch the zones folder");
+            e.printStackTrace();
+        }
+    }
+
+    private void updatePriorityZoneCache() {
+        this.zoneManager
+                .getPriorityZoneCache()
+                .setEnabled(this.config.getOrElse(ZoneNodes.PRIORITY_ZONE_CACHE));
+    }
+
+    private void updateBorderRenderer() {
+        this.borderRenderer.setRefreshTicks(this.config.getOrElse(ZoneNodes.BORDER_REFRESH_TICKS));
+        this.borderRenderer.setParticleBudget(this.config.getOrElse(ZoneNodes
+                .BORDER_PARTICLE_BUDGET));
+    }
+
+    /**
+     * Listener of Stopping Engine Event. Writes any zones that are still waiting to be saved
+     *
+     * @param event The event to listen to. Here, {@link StoppingEngineEvent<Server>}
+     * @since 1.0.1
+     */
+    @Listener
+    public void onServerStopping(final StoppingEngineEvent<Server> event) {
+        this.zoneManager.getFileWatcher().stop();
+        this.movementCoalescer.stop();
+        this.borderRenderer.stop();
+        this.zoneManager.getSaveQueue().flush();
+        this.zoneManager.getJournal().close();
     }
 
     /**
@@ -351,8 +466,13 @@ public class ZonePlugin {
         Optional<Audience> opCSender = event.cause().first(Audience.class);
         try {
             this.config.getLoader().load();
+            this.flagManager.getDefaultFlags().reload();
             opCSender.ifPresent(audience -> audience.sendMessage(Messages.getZoneConfigReloadedInfo()));
             this.zoneManager.reloadZones();
+            this.updateJournal();
+            this.updateFileWatcher();
+            this.updatePriorityZoneCache();
+            this.updateBorderRenderer();
             opCSender.ifPresent(audience -> audience.sendMessage(Messages.getZonesReloadedInfo()));
         } catch (ConfigurateException ce) {
             opCSender.ifPresent(audience -> audience.sendMessage(Messages.getZoneConfigReloadFail()));
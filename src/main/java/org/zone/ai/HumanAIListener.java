@@ -92,6 +92,9 @@ public class HumanAIListener {
 
     @Listener
     public void onMove(MoveEntityEvent event, @Getter("entity") Human human) {
+        if (event.originalPosition().toInt().equals(event.destinationPosition().toInt())) {
+            return;
+        }
         Optional<String> opZoneId = human.get(ZoneKeys.HUMAN_AI_ATTACHED_ZONE_ID);
         if (opZoneId.isEmpty()) {
             return;
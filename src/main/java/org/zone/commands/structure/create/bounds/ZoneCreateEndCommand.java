@@ -16,7 +16,6 @@ import org.zone.commands.system.CommandArgument;
 import org.zone.commands.system.arguments.operation.ExactArgument;
 import org.zone.commands.system.context.CommandContext;
 import org.zone.config.node.ZoneNodes;
-import org.zone.event.listener.PlayerListener;
 import org.zone.event.zone.CreateZoneEvent;
 import org.zone.permissions.ZonePermission;
 import org.zone.region.Zone;
@@ -133,10 +132,13 @@ public class ZoneCreateEndCommand implements ArgumentCommand {
                 .unregisterZoneBuilderBossBar(player.uniqueId());
         ChildRegion region = zone.getRegion();
         Collection<BoundedRegion> children = region.getTrueChildren();
-        children.forEach(boundedRegion -> PlayerListener.runOnOutside(boundedRegion,
-                player.location().blockY() + 3,
-                player::resetBlockChange,
-                zone.getParent().isPresent()));
+        //the same outline the selection was drawn with, so it is not walked again
+        int stride = ZonePlugin.getZonesPlugin().getBorderRenderer().getStride();
+        children.forEach(boundedRegion -> boundedRegion
+                .getOutline(stride)
+                .forEachPosition(player.location().blockY() + 3,
+                        zone.getParent().isPresent(),
+                        player::resetBlockChange));
 
         try {
             zone.save();
@@ -6,6 +6,7 @@ import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
 import org.zone.commands.system.ArgumentCommand;
 import org.zone.commands.system.CommandArgument;
 import org.zone.commands.system.arguments.operation.ExactArgument;
@@ -67,6 +68,7 @@ public class EditBoundsEndCommand implements ArgumentCommand {
         }
         Vector3i newPos = opEditingFlag.get().getNewPosition();
         opEditingFlag.get().getRegion().setPosition(opEditingFlag.get().getPositionType(), newPos);
+        ZonePlugin.getZonesPlugin().getZoneManager().updateBounds(zone);
         zone.removeFlag(FlagTypes.EDITING);
         try {
             zone.save();
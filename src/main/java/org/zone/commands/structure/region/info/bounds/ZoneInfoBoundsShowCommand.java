@@ -27,7 +27,6 @@ import org.zone.utils.Messages;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 /**
  * Used to see the bounds of a zone
@@ -68,14 +67,7 @@ public class ZoneInfoBoundsShowCommand implements ArgumentCommand {
 
         Zone specifiedZone = commandContext.getArgument(this, ZONE);
 
-        Collection<Zone> zones = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getRegistered()
-                .parallelStream()
-                .filter(zone1 -> zone1.getParent().isPresent())
-                .filter(zone -> zone.getParent().get().equals(specifiedZone))
-                .collect(Collectors.toSet());
+        Collection<Zone> zones = new HashSet<>(specifiedZone.getChildren());
         zones.add(specifiedZone);
 
         Collection<BlockType> usedColours = new HashSet<>();
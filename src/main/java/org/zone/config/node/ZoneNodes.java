@@ -1,7 +1,14 @@
 package org.zone.config.node;
 
+import org.zone.config.node.border.BorderParticleBudgetNode;
+import org.zone.config.node.border.BorderRefreshTicksNode;
+import org.zone.config.node.cache.PriorityZoneCacheNode;
 import org.zone.config.node.limit.MaxOwnerNode;
 import org.zone.config.node.price.PriceForNewLandNode;
+import org.zone.config.node.storage.ZoneFormatNode;
+import org.zone.config.node.storage.ZoneJournalNode;
+import org.zone.config.node.storage.ZoneStoreNode;
+import org.zone.config.node.storage.ZoneWatchNode;
 import org.zone.config.node.title.DefaultTitleFadeInNode;
 import org.zone.config.node.title.DefaultTitleFadeOutNode;
 import org.zone.config.node.title.DefaultTitleStayNode;
@@ -24,6 +31,13 @@ public final class ZoneNodes {
     public static final DefaultTitleFadeInNode DEFAULT_TITLE_FADE_IN = new DefaultTitleFadeInNode();
     public static final DefaultTitleStayNode DEFAULT_TITLE_STAY = new DefaultTitleStayNode();
     public static final DefaultTitleFadeOutNode DEFAULT_TITLE_FADE_OUT = new DefaultTitleFadeOutNode();
+    public static final ZoneFormatNode ZONE_FORMAT = new ZoneFormatNode();
+    public static final ZoneStoreNode ZONE_STORE = new ZoneStoreNode();
+    public static final ZoneWatchNode ZONE_WATCH = new ZoneWatchNode();
+    public static final ZoneJournalNode ZONE_JOURNAL = new ZoneJournalNode();
+    public static final PriorityZoneCacheNode PRIORITY_ZONE_CACHE = new PriorityZoneCacheNode();
+    public static final BorderRefreshTicksNode BORDER_REFRESH_TICKS = new BorderRefreshTicksNode();
+    public static final BorderParticleBudgetNode BORDER_PARTICLE_BUDGET = new BorderParticleBudgetNode();
 
     private ZoneNodes() {
         throw new RuntimeException("should not be init");
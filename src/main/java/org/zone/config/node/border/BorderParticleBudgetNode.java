@@ -0,0 +1,88 @@
+package org.zone.config.node.border;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.number.RangeArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.region.border.ZoneBorderRenderer;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * The amount of border particles sent each tick across all players
+ */
+public class BorderParticleBudgetNode implements ZoneNode.WithDefault<Integer> {
+
+    private class BorderParticleBudgetConfigCommandNode implements ConfigCommandNode<Integer> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.border.budget";
+        }
+
+        @Override
+        public @NotNull CommandArgument<Integer> getCommandArgument() {
+            return RangeArgument.createArgument("particles", 1, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull Integer newValue) {
+            try {
+                BorderParticleBudgetNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                ZonePlugin.getZonesPlugin().getBorderRenderer().setParticleBudget(newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Integer getDefault() {
+        return ZoneBorderRenderer.DEFAULT_PARTICLE_BUDGET;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"border", "zone", "budget"};
+    }
+
+    @Override
+    public @NotNull Integer getInitialValue() {
+        return ZoneBorderRenderer.DEFAULT_PARTICLE_BUDGET;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new BorderParticleBudgetConfigCommandNode());
+    }
+
+    @Override
+    public void set(@NotNull CommentedConfigurationNode node, @NotNull Integer value) throws
+            SerializationException {
+        node.set(value);
+    }
+
+    @Override
+    public @NotNull Optional<Integer> get(@NotNull CommentedConfigurationNode node) {
+        if (node.virtual()) {
+            return Optional.empty();
+        }
+        int value = node.getInt();
+        if (value < 1) {
+            return Optional.empty();
+        }
+        return Optional.of(value);
+    }
+}
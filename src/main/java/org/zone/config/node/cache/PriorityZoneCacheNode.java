@@ -0,0 +1,83 @@
+package org.zone.config.node.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.BooleanArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * If the priority zone of each block should be cached. Turning this off can help find out if the
+ * cache is the cause of a zone being missed
+ */
+public class PriorityZoneCacheNode implements ZoneNode.WithDefault<Boolean> {
+
+    private class PriorityZoneCacheConfigCommandNode implements ConfigCommandNode<Boolean> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.cache.priority";
+        }
+
+        @Override
+        public @NotNull CommandArgument<Boolean> getCommandArgument() {
+            return new BooleanArgument("enabled");
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull Boolean newValue) {
+            try {
+                PriorityZoneCacheNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Boolean getDefault() {
+        return true;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"cache", "zone", "priority"};
+    }
+
+    @Override
+    public @NotNull Boolean getInitialValue() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new PriorityZoneCacheConfigCommandNode());
+    }
+
+    @Override
+    public void set(@NotNull CommentedConfigurationNode node, @NotNull Boolean enabled) throws
+            SerializationException {
+        node.set(enabled);
+    }
+
+    @Override
+    public @NotNull Optional<Boolean> get(@NotNull CommentedConfigurationNode node) {
+        if (node.virtual()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.getBoolean());
+    }
+}
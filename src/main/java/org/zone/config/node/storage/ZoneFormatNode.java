@@ -0,0 +1,90 @@
+package org.zone.config.node.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.EnumArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * The format zones are saved in. Zones found in the other format are converted when loaded
+ */
+public class ZoneFormatNode implements ZoneNode.WithDefault<ZoneFileFormat> {
+
+    private class ZoneFormatConfigCommandNode implements ConfigCommandNode<ZoneFileFormat> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.storage.format";
+        }
+
+        @Override
+        public @NotNull CommandArgument<ZoneFileFormat> getCommandArgument() {
+            return new EnumArgument<>("format", ZoneFileFormat.class);
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull ZoneFileFormat newValue) {
+            try {
+                ZoneFormatNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull ZoneFileFormat getDefault() {
+        return ZoneFileFormat.HOCON;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"storage", "zone", "format"};
+    }
+
+    @Override
+    public @NotNull ZoneFileFormat getInitialValue() {
+        return ZoneFileFormat.HOCON;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new ZoneFormatConfigCommandNode());
+    }
+
+    @Override
+    public void set(
+            @NotNull CommentedConfigurationNode node, @NotNull ZoneFileFormat format) throws
+            SerializationException {
+        node.set(format.name());
+    }
+
+    @Override
+    public @NotNull Optional<ZoneFileFormat> get(@NotNull CommentedConfigurationNode node) {
+        String value = node.getString();
+        if (value == null) {
+            return Optional.empty();
+        }
+        for (ZoneFileFormat format : ZoneFileFormat.values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+package org.zone.config.node.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.BooleanArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * If small changes to zones should be recorded within the zone journal rather than writing the
+ * whole zone each time
+ */
+public class ZoneJournalNode implements ZoneNode.WithDefault<Boolean> {
+
+    private class ZoneJournalConfigCommandNode implements ConfigCommandNode<Boolean> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.storage.journal";
+        }
+
+        @Override
+        public @NotNull CommandArgument<Boolean> getCommandArgument() {
+            return new BooleanArgument("journal");
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull Boolean newValue) {
+            try {
+                ZoneJournalNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Boolean getDefault() {
+        return false;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"storage", "zone", "journal"};
+    }
+
+    @Override
+    public @NotNull Boolean getInitialValue() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new ZoneJournalConfigCommandNode());
+    }
+
+    @Override
+    public void set(@NotNull CommentedConfigurationNode node, @NotNull Boolean journal) throws
+            SerializationException {
+        node.set(journal);
+    }
+
+    @Override
+    public @NotNull Optional<Boolean> get(@NotNull CommentedConfigurationNode node) {
+        if (node.virtual()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.getBoolean());
+    }
+}
@@ -0,0 +1,90 @@
+package org.zone.config.node.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.EnumArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.region.storage.ZoneStoreType;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Where zones are saved. Zones only found within the other store are moved when loaded
+ */
+public class ZoneStoreNode implements ZoneNode.WithDefault<ZoneStoreType> {
+
+    private class ZoneStoreConfigCommandNode implements ConfigCommandNode<ZoneStoreType> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.storage.store";
+        }
+
+        @Override
+        public @NotNull CommandArgument<ZoneStoreType> getCommandArgument() {
+            return new EnumArgument<>("store", ZoneStoreType.class);
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull ZoneStoreType newValue) {
+            try {
+                ZoneStoreNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull ZoneStoreType getDefault() {
+        return ZoneStoreType.FILES;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"storage", "zone", "store"};
+    }
+
+    @Override
+    public @NotNull ZoneStoreType getInitialValue() {
+        return ZoneStoreType.FILES;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new ZoneStoreConfigCommandNode());
+    }
+
+    @Override
+    public void set(
+            @NotNull CommentedConfigurationNode node, @NotNull ZoneStoreType store) throws
+            SerializationException {
+        node.set(store.name());
+    }
+
+    @Override
+    public @NotNull Optional<ZoneStoreType> get(@NotNull CommentedConfigurationNode node) {
+        String value = node.getString();
+        if (value == null) {
+            return Optional.empty();
+        }
+        for (ZoneStoreType store : ZoneStoreType.values()) {
+            if (store.name().equalsIgnoreCase(value)) {
+                return Optional.of(store);
+            }
+        }
+        return Optional.empty();
+    }
+}
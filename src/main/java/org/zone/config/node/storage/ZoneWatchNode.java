@@ -0,0 +1,82 @@
+package org.zone.config.node.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.ZonePlugin;
+import org.zone.commands.system.CommandArgument;
+import org.zone.commands.system.arguments.simple.BooleanArgument;
+import org.zone.commands.system.context.CommandContext;
+import org.zone.config.command.ConfigCommandNode;
+import org.zone.config.node.ZoneNode;
+import org.zone.utils.Messages;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * If the zones folder should be watched, reloading zones as their files are changed
+ */
+public class ZoneWatchNode implements ZoneNode.WithDefault<Boolean> {
+
+    private class ZoneWatchConfigCommandNode implements ConfigCommandNode<Boolean> {
+
+        @Override
+        public @NotNull String getDisplayId() {
+            return "zones.storage.watch";
+        }
+
+        @Override
+        public @NotNull CommandArgument<Boolean> getCommandArgument() {
+            return new BooleanArgument("watch");
+        }
+
+        @Override
+        public @NotNull CommandResult onChange(
+                @NotNull CommandContext context, @NotNull Boolean newValue) {
+            try {
+                ZoneWatchNode.this.set(ZonePlugin.getZonesPlugin().getConfig(), newValue);
+                return CommandResult.success();
+            } catch (SerializationException e) {
+                e.printStackTrace();
+                return CommandResult.error(Messages.getZoneSavingError(e));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Boolean getDefault() {
+        return false;
+    }
+
+    @Override
+    public @NotNull String[] getNode() {
+        return new String[]{"storage", "zone", "watch"};
+    }
+
+    @Override
+    public @NotNull Boolean getInitialValue() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Collection<ConfigCommandNode<?>> getNodes() {
+        return Collections.singleton(new ZoneWatchConfigCommandNode());
+    }
+
+    @Override
+    public void set(@NotNull CommentedConfigurationNode node, @NotNull Boolean watch) throws
+            SerializationException {
+        node.set(watch);
+    }
+
+    @Override
+    public @NotNull Optional<Boolean> get(@NotNull CommentedConfigurationNode node) {
+        if (node.virtual()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.getBoolean());
+    }
+}
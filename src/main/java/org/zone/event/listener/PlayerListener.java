@@ -2,9 +2,12 @@ package org.zone.event.listener;
 
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.effect.particle.ParticleEffect;
 import org.spongepowered.api.effect.particle.ParticleTypes;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.filter.Getter;
@@ -30,8 +33,11 @@ import java.util.function.Consumer;
  */
 public class PlayerListener {
 
+    private static @Nullable ParticleEffect selectionEffect;
+
     @Listener
-    public void onPlayerRegionCreateMove(MoveEntityEvent event, @Getter("entity") Player player) {
+    public void onPlayerRegionCreateMove(
+            MoveEntityEvent event, @Getter("entity") ServerPlayer player) {
         if (event.originalPosition().toInt().equals(event.destinationPosition().toInt())) {
             return;
         }
@@ -64,18 +70,29 @@ public class PlayerListener {
                 opRegionBuilder.get(),
                 r.getBlockCount(true)));
 
-        runOnOutside(r,
-                (int) (event.destinationPosition().y() + 3),
-                vector -> player.spawnParticles(ParticleEffect
-                        .builder()
-                        .velocity(new Vector3d(0, 0, 0))
-                        .type(ParticleTypes.SMOKE)
-                        .scale(2.0)
-                        .build(), vector.toDouble()),
-                regionBuilder.getParentId() != null);
+        ZonePlugin
+                .getZonesPlugin()
+                .getBorderRenderer()
+                .showRegion(player,
+                        getSelectionEffect(),
+                        r,
+                        (int) (event.destinationPosition().y() + 3),
+                        regionBuilder.getParentId() != null);
 
     }
 
+    private static @NotNull ParticleEffect getSelectionEffect() {
+        if (selectionEffect == null) {
+            selectionEffect = ParticleEffect
+                    .builder()
+                    .velocity(new Vector3d(0, 0, 0))
+                    .type(ParticleTypes.SMOKE)
+                    .scale(2.0)
+                    .build();
+        }
+        return selectionEffect;
+    }
+
     private <N extends Number> void displayBossBar(
             Player player, Price<?, N> price, ZoneBuilder builder, int amount) {
         double cost = price.getAmount().doubleValue() * amount;
@@ -118,51 +135,10 @@ public class PlayerListener {
 
     public static void runOnOutside(
             BoundedRegion region, int y, Consumer<? super Vector3i> consumer, boolean showHeight) {
-        Vector3i min = region.getMin();
-        Vector3i max = region.getMax();
-        for (int x = min.x(); x <= max.x(); x++) {
-            for (int z = min.z(); z <= max.z(); z++) {
-                if (min.z() == z) {
-                    consumer.accept(new Vector3i(x, y, z));
-                }
-                if (min.x() == x) {
-                    consumer.accept(new Vector3i(x, y, z));
-                }
-                if (max.z() == z) {
-                    consumer.accept(new Vector3i(x, y, z));
-                }
-                if (max.x() == x) {
-                    consumer.accept(new Vector3i(x, y, z));
-                }
-                if (showHeight) {
-                    for (int usingY = min.y(); usingY <= max.y(); usingY++) {
-                        if (min.y() == usingY && (min.x() == x || max.x() == x)) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (max.y() == usingY && (min.x() == x || max.x() == x)) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (min.y() == usingY && (min.z() == z || max.z() == z)) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (max.y() == usingY && (min.z() == z || max.z() == z)) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (max.x() == x && max.z() == z) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (min.x() == x && max.z() == z) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (max.x() == x && min.z() == z) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                        if (min.x() == x && min.z() == z) {
-                            consumer.accept(new Vector3i(x, usingY, z));
-                        }
-                    }
-                }
-            }
-        }
+        region
+                .getOutline(1)
+                .forEachPosition(y,
+                        showHeight,
+                        (x, usingY, z) -> consumer.accept(new Vector3i(x, usingY, z)));
     }
 }
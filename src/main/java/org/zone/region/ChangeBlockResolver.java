@@ -0,0 +1,138 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.block.transaction.Operation;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.index.ZoneChunkIndex;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Resolves the zones of the transactions within a {@link ChangeBlockEvent} in bulk. The zones of
+ * each chunk are looked up once, and the decision of whether a zone protects against the change
+ * is made once per zone, so an event with thousands of transactions such as a piston or an
+ * explosion costs one lookup per chunk and one decision per zone. Walking the transactions does
+ * not create any objects
+ *
+ * @since 1.0.1
+ */
+public final class ChangeBlockResolver {
+
+    /**
+     * The zones of each chunk touched by an event, keyed by the chunk within a single world
+     */
+    private static final class ChunkCache {
+
+        private @Nullable ResourceKey world;
+        private long[] keys = new long[16];
+        private @Nullable ChunkZones[] values = new ChunkZones[16];
+        private int size;
+
+        private @NotNull ChunkZones get(@NotNull ResourceKey world, int chunkX, int chunkZ) {
+            if (!world.equals(this.world)) {
+                this.world = world;
+                Arrays.fill(this.values, null);
+                this.size = 0;
+            }
+            long key = ZoneChunkIndex.toKey(chunkX, chunkZ);
+            int mask = this.keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (this.values[slot] != null) {
+                if (this.keys[slot] == key) {
+                    return this.values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            ChunkZones zones = ZonePlugin
+                    .getZonesPlugin()
+                    .getZoneManager()
+                    .getChunkZones(world, chunkX, chunkZ);
+            this.keys[slot] = key;
+            this.values[slot] = zones;
+            this.size++;
+            if (this.size * 2 > this.keys.length) {
+                this.grow();
+            }
+            return zones;
+        }
+
+        private void grow() {
+            long[] keys = this.keys;
+            ChunkZones[] values = this.values;
+            this.keys = new long[keys.length * 2];
+            this.values = new ChunkZones[values.length * 2];
+            int mask = this.keys.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] == null) {
+                    continue;
+                }
+                int slot = Long.hashCode(keys[i] * 0x9E3779B97F4A7C15L) & mask;
+                while (this.values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = keys[i];
+                this.values[slot] = values[i];
+            }
+        }
+    }
+
+    private ChangeBlockResolver() {
+        throw new RuntimeException("should not be init");
+    }
+
+    /**
+     * Invalidates each transaction of the event whose operation matches and whose block is within
+     * a zone that protects against it. The protects check is run at most once for each zone
+     *
+     * @param event      The event to check
+     * @param operations The operations to check, such as {@code Operations.BREAK}
+     * @param protects   If the zone prevents the change
+     *
+     * @return The amount of transactions that were invalidated
+     * @since 1.0.1
+     */
+    public static int invalidate(
+            @NotNull ChangeBlockEvent.All event,
+            @NotNull Predicate<? super Operation> operations,
+            @NotNull Predicate<? super Zone> protects) {
+        ChunkCache chunks = new ChunkCache();
+        Map<Zone, Boolean> decisions = new IdentityHashMap<>();
+        int invalidated = 0;
+        for (BlockTransaction transaction : event.transactions()) {
+            if (!operations.test(transaction.operation())) {
+                continue;
+            }
+            BlockSnapshot original = transaction.original();
+            Vector3i position = original.position();
+            ChunkZones zones = chunks.get(original.world(),
+                    position.x() >> 4,
+                    position.z() >> 4);
+            if (zones.isEmpty()) {
+                continue;
+            }
+            Zone zone = zones.getPriorityZone(position.x(), position.y(), position.z());
+            if (zone == null) {
+                continue;
+            }
+            Boolean decision = decisions.get(zone);
+            if (decision == null) {
+                decision = protects.test(zone);
+                decisions.put(zone, decision);
+            }
+            if (decision) {
+                transaction.invalidate();
+                invalidated++;
+            }
+        }
+        return invalidated;
+    }
+}
@@ -0,0 +1,256 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.zone.region.bounds.BoundedRegion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The zones that reach into a single chunk of a world. Everything that does not depend on the
+ * block within the chunk, such as the ids of the zones and which zone is the parent of which, is
+ * worked out once so finding the priority zone of each block within the chunk does not create
+ * any objects. Use {@link ZoneManager#getChunkZones(ResourceKey, int, int)} to get one
+ *
+ * @since 1.0.1
+ */
+public final class ChunkZones {
+
+    /**
+     * How the blocks of a chunk are owned by zones
+     *
+     * @since 1.0.1
+     */
+    public enum Ownership {
+
+        /**
+         * No zone reaches into the chunk
+         */
+        EMPTY,
+
+        /**
+         * Every block of the chunk, at any height, is within a single zone and no other zone
+         * reaches into the chunk
+         */
+        FULL,
+
+        /**
+         * Zones reach into the chunk, the zone of each block needs to be checked
+         */
+        MIXED
+    }
+
+    private final @NotNull ResourceKey world;
+    private final int chunkX;
+    private final int chunkZ;
+    private final @NotNull Zone @NotNull [] zones;
+    private final @NotNull String @NotNull [] ids;
+    private final boolean @NotNull [] ignoreY;
+    private final int @NotNull [] @NotNull [] children;
+    private final @Nullable Zone owner;
+
+    ChunkZones(
+            @NotNull ResourceKey world,
+            int chunkX,
+            int chunkZ,
+            @NotNull Collection<Zone> candidates) {
+        this.world = world;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        int maxX = minX + 15;
+        int maxZ = minZ + 15;
+        List<Zone> zones = new ArrayList<>(candidates.size());
+        for (Zone zone : candidates) {
+            Optional<ResourceKey> opWorld = zone.getWorldKey();
+            if (opWorld.isPresent() && !opWorld.get().equals(world)) {
+                continue;
+            }
+            for (BoundedRegion region : zone.getRegion().getTrueChildren()) {
+                if (region.getMinX() <= maxX &&
+                        region.getMaxX() >= minX &&
+                        region.getMinZ() <= maxZ &&
+                        region.getMaxZ() >= minZ) {
+                    zones.add(zone);
+                    break;
+                }
+            }
+        }
+        this.zones = zones.toArray(Zone[]::new);
+        this.ids = new String[this.zones.length];
+        this.ignoreY = new boolean[this.zones.length];
+        this.children = new int[this.zones.length][];
+        for (int i = 0; i < this.zones.length; i++) {
+            this.ids[i] = this.zones[i].getId();
+            this.ignoreY[i] = this.zones[i].getParent().isEmpty();
+        }
+        for (int i = 0; i < this.zones.length; i++) {
+            int[] children = new int[0];
+            for (int j = 0; j < this.zones.length; j++) {
+                Optional<String> opParent = this.zones[j].getParentId();
+                if (opParent.isPresent() && opParent.get().equals(this.ids[i])) {
+                    children = Arrays.copyOf(children, children.length + 1);
+                    children[children.length - 1] = j;
+                }
+            }
+            this.children[i] = children;
+        }
+        this.owner = this.findOwner(minX, minZ, maxX, maxZ);
+    }
+
+    private @Nullable Zone findOwner(int minX, int minZ, int maxX, int maxZ) {
+        if (this.zones.length != 1 || !this.ignoreY[0]) {
+            return null;
+        }
+        for (BoundedRegion region : this.zones[0].getRegion().getTrueChildren()) {
+            if (region.containsColumns(minX, minZ, maxX, maxZ)) {
+                return this.zones[0];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the world of the chunk
+     *
+     * @return The world key
+     * @since 1.0.1
+     */
+    public @NotNull ResourceKey getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Gets the x of the chunk
+     *
+     * @return The chunk x
+     * @since 1.0.1
+     */
+    public int getChunkX() {
+        return this.chunkX;
+    }
+
+    /**
+     * Gets the z of the chunk
+     *
+     * @return The chunk z
+     * @since 1.0.1
+     */
+    public int getChunkZ() {
+        return this.chunkZ;
+    }
+
+    /**
+     * Checks if no zone reaches into the chunk
+     *
+     * @return If the chunk has no zones
+     * @since 1.0.1
+     */
+    public boolean isEmpty() {
+        return this.zones.length == 0;
+    }
+
+    /**
+     * Gets how the blocks of the chunk are owned
+     *
+     * @return The ownership of the chunk
+     * @since 1.0.1
+     */
+    public @NotNull Ownership getOwnership() {
+        if (this.zones.length == 0) {
+            return Ownership.EMPTY;
+        }
+        return this.owner == null ? Ownership.MIXED : Ownership.FULL;
+    }
+
+    /**
+     * Gets the zone that owns every block of the chunk
+     *
+     * @return The owning zone, {@link Optional#empty()} if the chunk is not {@link Ownership#FULL}
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getOwner() {
+        return Optional.ofNullable(this.owner);
+    }
+
+    /**
+     * Gets the zones that reach into the chunk
+     *
+     * @return The zones of the chunk
+     * @since 1.0.1
+     */
+    public @NotNull List<Zone> getZones() {
+        return Collections.unmodifiableList(Arrays.asList(this.zones));
+    }
+
+    /**
+     * Gets the zone that should be used with interactions at the block, following the same rules
+     * as {@link ZoneManager#getPriorityZone(org.spongepowered.api.world.World,
+     * org.spongepowered.math.vector.Vector3d)}. The block should be within this chunk
+     *
+     * @param x The x of the block
+     * @param y The y of the block
+     * @param z The z of the block
+     *
+     * @return The zone to use, null if no zone is at the block
+     * @since 1.0.1
+     */
+    public @Nullable Zone getPriorityZone(int x, int y, int z) {
+        if (this.owner != null) {
+            return this.owner;
+        }
+        return this.findPriorityZone(x, y, z);
+    }
+
+    /**
+     * Gets the zone that should be used with interactions at the position. Unlike a block, a
+     * position can fall between the edge of a region and the edge of the block, so a chunk that
+     * is fully owned still checks the owner's region. The position should be within this chunk
+     *
+     * @param x The x of the position
+     * @param y The y of the position
+     * @param z The z of the position
+     *
+     * @return The zone to use, null if no zone is at the position
+     * @since 1.0.1
+     */
+    public @Nullable Zone getPriorityZone(double x, double y, double z) {
+        if (this.owner != null) {
+            return this.contains(0, x, y, z) ? this.owner : null;
+        }
+        return this.findPriorityZone(x, y, z);
+    }
+
+    private @Nullable Zone findPriorityZone(double x, double y, double z) {
+        int best = -1;
+        for (int i = 0; i < this.zones.length; i++) {
+            if (!this.contains(i, x, y, z) || this.childContains(i, x, y, z)) {
+                continue;
+            }
+            if (best == -1 || this.ids[i].compareTo(this.ids[best]) < 0) {
+                best = i;
+            }
+        }
+        return best == -1 ? null : this.zones[best];
+    }
+
+    private boolean contains(int index, double x, double y, double z) {
+        return this.zones[index].getRegion().contains(x, y, z, this.ignoreY[index]);
+    }
+
+    private boolean childContains(int index, double x, double y, double z) {
+        for (int child : this.children[index]) {
+            if (this.contains(child, x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,227 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the priority zone of each block that has been looked up, per world. The least recently
+ * used blocks are dropped once a world holds {@link #MAX_BLOCKS_PER_WORLD}. When a zone is
+ * registered, unregistered or has its bounds updated through the {@link ZoneManager}, only the
+ * blocks within the zone or that resolved to the zone are dropped
+ *
+ * @since 1.0.1
+ */
+public class PriorityZoneCache {
+
+    /**
+     * The amount of blocks cached for a single world
+     */
+    public static final int MAX_BLOCKS_PER_WORLD = 16384;
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull Map<ResourceKey, Map<Long, Optional<Zone>>> worlds = new HashMap<>();
+    private final @NotNull LongAdder hits = new LongAdder();
+    private final @NotNull LongAdder misses = new LongAdder();
+    private volatile boolean enabled = true;
+    //changes on every invalidation, so a lookup that raced one is not cached
+    private long epoch;
+
+    PriorityZoneCache(@NotNull ZoneManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Checks if lookups are cached
+     *
+     * @return If the cache is enabled
+     * @since 1.0.1
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Sets if lookups should be cached. Disabling the cache also empties it
+     *
+     * @param enabled If the cache should be used
+     * @since 1.0.1
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.clear();
+        }
+    }
+
+    /**
+     * Gets the amount of lookups that were answered by the cache
+     *
+     * @return The amount of hits
+     * @since 1.0.1
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Gets the amount of lookups that had to find the zone
+     *
+     * @return The amount of misses
+     * @since 1.0.1
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Gets the amount of blocks that are currently cached, across all worlds
+     *
+     * @return The amount of cached blocks
+     * @since 1.0.1
+     */
+    public synchronized int getSize() {
+        return this.worlds.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Gets the zone that should be used with interactions at the block
+     *
+     * @param world The world of the block
+     * @param x     The x of the block
+     * @param y     The y of the block
+     * @param z     The z of the block
+     *
+     * @return The zone to use. {@link Optional#empty()} when no zone was found at the block
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getPriorityZone(@NotNull ResourceKey world, int x, int y, int z) {
+        if (!this.enabled || !canKey(x, y, z)) {
+            return this.find(world, x, y, z);
+        }
+        long key = toKey(x, y, z);
+        long epoch;
+        synchronized (this) {
+            Map<Long, Optional<Zone>> blocks = this.worlds.get(world);
+            Optional<Zone> cached = blocks == null ? null : blocks.get(key);
+            if (cached != null) {
+                this.hits.increment();
+                return cached;
+            }
+            epoch = this.epoch;
+        }
+        this.misses.increment();
+        Optional<Zone> found = this.find(world, x, y, z);
+        synchronized (this) {
+            if (this.enabled && this.epoch == epoch) {
+                this.worlds.computeIfAbsent(world, k -> createBlocks()).put(key, found);
+            }
+        }
+        return found;
+    }
+
+    private @NotNull Optional<Zone> find(@NotNull ResourceKey world, int x, int y, int z) {
+        return Optional.ofNullable(this.manager
+                .getChunkZones(world, x >> 4, z >> 4)
+                .getPriorityZone(x, y, z));
+    }
+
+    /**
+     * Drops the blocks that are within the zone's region or that resolved to the zone. This
+     * should be called when the zone is added, removed or resized
+     *
+     * @param zone The zone that changed
+     * @since 1.0.1
+     */
+    public synchronized void invalidate(@NotNull Zone zone) {
+        this.epoch++;
+        if (this.worlds.isEmpty()) {
+            return;
+        }
+        Optional<ResourceKey> opWorld = zone.getWorldKey();
+        boolean empty = zone.getRegion().isEmpty();
+        Vector3i min = zone.getRegion().getMin();
+        Vector3i max = zone.getRegion().getMax();
+        for (Map.Entry<ResourceKey, Map<Long, Optional<Zone>>> entry : this.worlds.entrySet()) {
+            boolean sameWorld = opWorld.isEmpty() || opWorld.get().equals(entry.getKey());
+            Iterator<Map.Entry<Long, Optional<Zone>>> iterator = entry
+                    .getValue()
+                    .entrySet()
+                    .iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Optional<Zone>> block = iterator.next();
+                if (block.getValue().isPresent() && block.getValue().get() == zone) {
+                    iterator.remove();
+                    continue;
+                }
+                if (!sameWorld || empty) {
+                    continue;
+                }
+                long key = block.getKey();
+                int x = getX(key);
+                int z = getZ(key);
+                if (x >= min.x() && x <= max.x() && z >= min.z() && z <= max.z()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every cached block
+     *
+     * @since 1.0.1
+     */
+    public synchronized void clear() {
+        this.epoch++;
+        this.worlds.clear();
+    }
+
+    private static @NotNull Map<Long, Optional<Zone>> createBlocks() {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Optional<Zone>> eldest) {
+                return this.size() > MAX_BLOCKS_PER_WORLD;
+            }
+        };
+    }
+
+    /**
+     * Packs the block position into a single key. The x and z keep 26 bits and the y keeps 12,
+     * blocks outside of that range are never cached
+     *
+     * @param x The x of the block
+     * @param y The y of the block
+     * @param z The z of the block
+     *
+     * @return The key of the block
+     * @since 1.0.1
+     */
+    public static long toKey(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    private static boolean canKey(int x, int y, int z) {
+        return x >= -(1 << 25) &&
+                x < (1 << 25) &&
+                z >= -(1 << 25) &&
+                z < (1 << 25) &&
+                y >= -(1 << 11) &&
+                y < (1 << 11);
+    }
+
+    private static int getX(long key) {
+        return (int) (key >> 38);
+    }
+
+    private static int getZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+}
@@ -41,12 +41,13 @@ public class Zone implements Identifiable {
     private final @NotNull Collection<Flag> flags = new TreeSet<>(Comparator.comparing(flag -> flag
             .getType()
             .getId()));
+    private Flag[] flagsByOrdinal = new Flag[0];
     private final @Nullable String parentId;
     private final @Nullable ResourceKey world;
 
     public Zone(@NotNull ZoneBuilder builder) {
         this.parentId = builder.getParentId();
-        this.flags.addAll(builder.getFlags());
+        builder.getFlags().forEach(this::putFlag);
         this.name = builder.getName();
         this.key = builder.getKey();
         this.region = builder.getRegion();
@@ -105,8 +106,7 @@ public class Zone implements Identifiable {
 
     /**
      * Gets the parent to this zone. If the zone is a subregion then it will have a parent, if
-     * the zone is a regular zone then it won't. Note use {@link Zone#getParentId()} where
-     * possible as this searches for the zone
+     * the zone is a regular zone then it won't.
      *
      * @return The parent zone
      * @since 1.0.0
@@ -115,6 +115,16 @@ public class Zone implements Identifiable {
         return ZonePlugin.getZonesPlugin().getZoneManager().getZone(this.parentId);
     }
 
+    /**
+     * Gets the sub zones that have this zone as their parent
+     *
+     * @return The direct children of this zone
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> getChildren() {
+        return ZonePlugin.getZonesPlugin().getZoneManager().getChildren(this);
+    }
+
     /**
      * Gets the ID of the parent zone. If the zone is a sub region then it will have a parent, if
      * the zone is a regular zone then it wont.
@@ -149,7 +159,7 @@ public class Zone implements Identifiable {
      */
     public boolean containsFlag(@NotNull FlagType<?> type) {
         //noinspection unchecked
-        return this.flags.parallelStream().anyMatch(flag -> flag.getType().equals(type)) ||
+        return this.getFlagByOrdinal(type) != null ||
                 type instanceof FlagType.TaggedFlagType tagType &&
                         this.getTags().getTag(tagType).isPresent();
     }
@@ -173,10 +183,18 @@ public class Zone implements Identifiable {
      * @since 1.0.0
      */
     public boolean removeFlag(@NotNull FlagType<?> type) {
-        return this.removeFlag(type, true);
+        if (!this.removeFlag(type, true)) {
+            return false;
+        }
+        if (type instanceof FlagType.TaggedFlagType) {
+            this.recordFlag(this.getTags());
+        } else if (type instanceof FlagType.SerializableType) {
+            ZoneJournal.record(this, id -> new ZoneChange.FlagRemoved(id, type));
+        }
+        return true;
     }
 
-    private boolean removeFlag(@NotNull FlagType<?> type, boolean runEvent) {
+    boolean removeFlag(@NotNull FlagType<?> type, boolean runEvent) {
         if (runEvent) {
             FlagChangeEvent.RemoveFlag removeFlag = new FlagChangeEvent.RemoveFlag(this,
                     type,
@@ -187,19 +205,19 @@ public class Zone implements Identifiable {
             }
         }
 
-        Optional<Flag> opFlag = this.flags
-                .parallelStream()
-                .filter(flag -> type.getId().equals(flag.getType().getId()))
-                .findFirst();
-
-        if (opFlag.isEmpty()) {
+        Flag flag = this.getFlagByOrdinal(type);
+        if (flag == null) {
             if (type instanceof FlagType.TaggedFlagType tagType) {
                 this.getTags().removeTag(tagType);
                 return true;
             }
             return false;
         }
-        return this.flags.remove(opFlag.get());
+        this.flagsByOrdinal[this.getOrdinal(type)] = null;
+        if (flag instanceof Flag.Journaled journaled) {
+            journaled.setOwner(null);
+        }
+        return this.flags.remove(flag);
     }
 
     /**
@@ -211,7 +229,29 @@ public class Zone implements Identifiable {
      * @since 1.0.0
      */
     public boolean addFlag(@NotNull Flag flag) {
-        return this.addFlag(flag, true);
+        if (!this.addFlag(flag, true)) {
+            return false;
+        }
+        this.recordFlag(flag);
+        return true;
+    }
+
+    /**
+     * Replaces the flag without posting any events or recording the change, used when replaying
+     * the {@link ZoneJournal}
+     *
+     * @param flag The flag to set
+     */
+    void replaceFlag(@NotNull Flag flag) {
+        this.removeFlag(flag.getType(), false);
+        this.addFlag(flag, false);
+    }
+
+    private void recordFlag(@NotNull Flag flag) {
+        Flag stored = flag instanceof Flag.TaggedFlag ? this.getTags() : flag;
+        if (stored instanceof Flag.Serializable serializable) {
+            ZoneJournal.record(this, id -> ZoneChange.FlagSet.of(id, serializable));
+        }
     }
 
     private boolean addFlag(@NotNull Flag flag, boolean runEvent) {
@@ -228,7 +268,36 @@ public class Zone implements Identifiable {
         if (flag instanceof Flag.TaggedFlag tag) {
             return this.getTags().addTag(tag);
         }
-        return this.flags.add(flag);
+        return this.putFlag(flag);
+    }
+
+    private boolean putFlag(@NotNull Flag flag) {
+        if (!this.flags.add(flag)) {
+            return false;
+        }
+        int ordinal = this.getOrdinal(flag.getType());
+        if (ordinal >= this.flagsByOrdinal.length) {
+            this.flagsByOrdinal = Arrays.copyOf(this.flagsByOrdinal,
+                    Math.max(ordinal + 1,
+                            ZonePlugin.getZonesPlugin().getFlagManager().getOrdinalCount()));
+        }
+        this.flagsByOrdinal[ordinal] = flag;
+        if (flag instanceof Flag.Journaled journaled) {
+            journaled.setOwner(this);
+        }
+        return true;
+    }
+
+    private @Nullable Flag getFlagByOrdinal(@NotNull FlagType<?> type) {
+        int ordinal = this.getOrdinal(type);
+        if (ordinal >= this.flagsByOrdinal.length) {
+            return null;
+        }
+        return this.flagsByOrdinal[ordinal];
+    }
+
+    private int getOrdinal(@NotNull FlagType<?> type) {
+        return ZonePlugin.getZonesPlugin().getFlagManager().getOrdinal(type);
     }
 
     /**
@@ -254,7 +323,11 @@ public class Zone implements Identifiable {
             }
             this.removeFlag(flag.getType(), false);
         }
-        return this.addFlag(flag, opFlag.isEmpty());
+        if (!this.addFlag(flag, opFlag.isEmpty())) {
+            return false;
+        }
+        this.recordFlag(flag);
+        return true;
     }
 
     /**
@@ -268,13 +341,20 @@ public class Zone implements Identifiable {
     }
 
     /**
-     * Saves the zone
+     * Saves the zone. The zone is marked as dirty and written on the save thread, so changes made
+     * soon after are saved together. If the changes were recorded within the {@link ZoneJournal}
+     * then the zone is written at the journal's next checkpoint instead. Use
+     * {@link ZoneManager#save(Zone)} to write it straight away
      *
      * @throws ConfigurateException If the zone cannot be saved
      * @since 1.0.0
      */
     public void save() throws ConfigurateException {
-        ZonePlugin.getZonesPlugin().getZoneManager().save(this);
+        ZoneManager manager = ZonePlugin.getZonesPlugin().getZoneManager();
+        if (manager.getJournal().consumeRecorded(this)) {
+            return;
+        }
+        manager.getSaveQueue().markDirty(this);
     }
 
     /**
@@ -289,14 +369,9 @@ public class Zone implements Identifiable {
      * @since 1.0.0
      */
     public <F extends Flag, T extends FlagType<F>> @NotNull Optional<F> getFlag(@NotNull T type) {
-        Optional<F> opFlag = this
-                .getFlags()
-                .parallelStream()
-                .filter(flag -> flag.getType().equals(type))
-                .map(flag -> (F) flag)
-                .findFirst();
-        if (opFlag.isPresent()) {
-            return opFlag;
+        Flag flag = this.getFlagByOrdinal(type);
+        if (flag != null) {
+            return Optional.of((F) flag);
         }
         if (type instanceof FlagType.TaggedFlagType<?> tagType) {
             return this.getTags().getTag(tagType).map(tag -> (F) tag);
@@ -0,0 +1,593 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.service.economy.Currency;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.zone.ZonePlugin;
+import org.zone.region.bounds.ChildRegion;
+import org.zone.region.bounds.Region;
+import org.zone.region.flag.Flag;
+import org.zone.region.flag.FlagType;
+import org.zone.region.flag.FlagTypes;
+import org.zone.region.flag.meta.service.ban.flag.BanFlag;
+import org.zone.region.group.Group;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A single change made to a zone, as recorded within the {@link ZoneJournal}. Each change sets
+ * part of the zone to a value rather than describing a difference, so replaying a change that is
+ * already within the stored zone does not change the zone
+ *
+ * @since 1.0.1
+ */
+public abstract class ZoneChange {
+
+    /**
+     * The kinds of change, the ordinal is written as the first byte of each change
+     *
+     * @since 1.0.1
+     */
+    public enum Type {
+        FLAG_SET,
+        FLAG_REMOVED,
+        MEMBER_ADDED,
+        MEMBER_REMOVED,
+        BALANCE_SET,
+        BAN_ADDED,
+        BAN_REMOVED,
+        BOUNDS_SET
+    }
+
+    private final @NotNull String zoneId;
+
+    private ZoneChange(@NotNull String zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * Gets the id of the zone that was changed
+     *
+     * @return The id of the zone
+     * @since 1.0.1
+     */
+    public @NotNull String getZoneId() {
+        return this.zoneId;
+    }
+
+    /**
+     * Gets the kind of change
+     *
+     * @return The type of the change
+     * @since 1.0.1
+     */
+    public abstract @NotNull Type getType();
+
+    /**
+     * Applies the change to the zone
+     *
+     * @param zone The zone to change
+     *
+     * @throws IOException If the change could not be applied
+     * @since 1.0.1
+     */
+    public abstract void apply(@NotNull Zone zone) throws IOException;
+
+    protected abstract void writeData(@NotNull DataOutput output) throws IOException;
+
+    /**
+     * Writes the change
+     *
+     * @param output The output to write to
+     *
+     * @throws IOException If the change could not be written
+     * @since 1.0.1
+     */
+    public void write(@NotNull DataOutput output) throws IOException {
+        output.writeByte(this.getType().ordinal());
+        writeString(output, this.zoneId);
+        this.writeData(output);
+    }
+
+    /**
+     * Reads a change that was written with {@link #write(DataOutput)}
+     *
+     * @param input The input to read from
+     *
+     * @return The change
+     *
+     * @throws IOException If the change could not be read
+     * @since 1.0.1
+     */
+    public static @NotNull ZoneChange read(@NotNull DataInput input) throws IOException {
+        int ordinal = input.readUnsignedByte();
+        if (ordinal >= Type.values().length) {
+            throw new IOException("Unknown change type of " + ordinal);
+        }
+        String zoneId = readString(input);
+        switch (Type.values()[ordinal]) {
+            case FLAG_SET:
+                return new FlagSet(zoneId, readString(input), readString(input), readString(input));
+            case FLAG_REMOVED:
+                return new FlagRemoved(zoneId, readString(input), readString(input));
+            case MEMBER_ADDED:
+                return new MemberAdded(zoneId, readString(input), readUUID(input));
+            case MEMBER_REMOVED:
+                return new MemberRemoved(zoneId, readUUID(input));
+            case BALANCE_SET:
+                return new BalanceSet(zoneId,
+                        readString(input),
+                        new BigDecimal(readString(input)));
+            case BAN_ADDED:
+                UUID banned = readUUID(input);
+                LocalDateTime release = input.readBoolean() ?
+                        LocalDateTime.parse(readString(input)) :
+                        null;
+                return new BanAdded(zoneId, banned, release);
+            case BAN_REMOVED:
+                return new BanRemoved(zoneId, readUUID(input));
+            case BOUNDS_SET:
+                return new BoundsSet(zoneId, readString(input));
+            default:
+                throw new IOException("Unknown change type of " + ordinal);
+        }
+    }
+
+    private static void writeString(@NotNull DataOutput output, @NotNull String value) throws
+            IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static @NotNull String readString(@NotNull DataInput input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Negative string length of " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeUUID(@NotNull DataOutput output, @NotNull UUID uuid) throws
+            IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static @NotNull UUID readUUID(@NotNull DataInput input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static @NotNull String toHocon(@NotNull ConfigurationNode node) throws
+            ConfigurateException {
+        StringWriter writer = new StringWriter();
+        HoconConfigurationLoader.builder().sink(() -> new BufferedWriter(writer)).build().save(node);
+        return writer.toString();
+    }
+
+    private static @NotNull ConfigurationNode fromHocon(@NotNull String text) throws
+            ConfigurateException {
+        return HoconConfigurationLoader
+                .builder()
+                .source(() -> new BufferedReader(new StringReader(text)))
+                .build()
+                .load();
+    }
+
+    /**
+     * A flag was added or modified, the whole flag is recorded. This is used for changes that do
+     * not have a smaller record of their own
+     *
+     * @since 1.0.1
+     */
+    public static final class FlagSet extends ZoneChange {
+
+        private final @NotNull String pluginId;
+        private final @NotNull String key;
+        private final @NotNull String flag;
+
+        private FlagSet(
+                @NotNull String zoneId,
+                @NotNull String pluginId,
+                @NotNull String key,
+                @NotNull String flag) {
+            super(zoneId);
+            this.pluginId = pluginId;
+            this.key = key;
+            this.flag = flag;
+        }
+
+        /**
+         * Records the current state of the flag
+         *
+         * @param zoneId The id of the zone
+         * @param flag   The flag that was set
+         *
+         * @return The change
+         *
+         * @throws IOException If the flag could not be serialized
+         * @since 1.0.1
+         */
+        public static @NotNull FlagSet of(@NotNull String zoneId, @NotNull Flag.Serializable flag)
+                throws IOException {
+            ConfigurationNode node = CommentedConfigurationNode.root();
+            flag.save(node);
+            FlagType<?> type = flag.getType();
+            return new FlagSet(zoneId,
+                    type.getPlugin().metadata().id(),
+                    type.getKey(),
+                    toHocon(node));
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.FLAG_SET;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) throws IOException {
+            Optional<FlagType<?>> opType = ZonePlugin
+                    .getZonesPlugin()
+                    .getFlagManager()
+                    .getType(this.pluginId, this.key);
+            if (opType.isEmpty() ||
+                    !(opType.get() instanceof FlagType.SerializableType<?> serializableType)) {
+                throw new IOException("Unknown flag of " + this.pluginId + ":" + this.key);
+            }
+            zone.replaceFlag(serializableType.load(fromHocon(this.flag)));
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeString(output, this.pluginId);
+            writeString(output, this.key);
+            writeString(output, this.flag);
+        }
+    }
+
+    /**
+     * A flag was removed from the zone
+     *
+     * @since 1.0.1
+     */
+    public static final class FlagRemoved extends ZoneChange {
+
+        private final @NotNull String pluginId;
+        private final @NotNull String key;
+
+        private FlagRemoved(
+                @NotNull String zoneId, @NotNull String pluginId, @NotNull String key) {
+            super(zoneId);
+            this.pluginId = pluginId;
+            this.key = key;
+        }
+
+        public FlagRemoved(@NotNull String zoneId, @NotNull FlagType<?> type) {
+            this(zoneId, type.getPlugin().metadata().id(), type.getKey());
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.FLAG_REMOVED;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) throws IOException {
+            Optional<FlagType<?>> opType = ZonePlugin
+                    .getZonesPlugin()
+                    .getFlagManager()
+                    .getType(this.pluginId, this.key);
+            if (opType.isEmpty()) {
+                throw new IOException("Unknown flag of " + this.pluginId + ":" + this.key);
+            }
+            zone.removeFlag(opType.get(), false);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeString(output, this.pluginId);
+            writeString(output, this.key);
+        }
+    }
+
+    /**
+     * A player was added to a group of the zone
+     *
+     * @since 1.0.1
+     */
+    public static final class MemberAdded extends ZoneChange {
+
+        private final @NotNull String groupId;
+        private final @NotNull UUID member;
+
+        public MemberAdded(@NotNull String zoneId, @NotNull String groupId, @NotNull UUID member) {
+            super(zoneId);
+            this.groupId = groupId;
+            this.member = member;
+        }
+
+        public @NotNull String getGroupId() {
+            return this.groupId;
+        }
+
+        public @NotNull UUID getMember() {
+            return this.member;
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.MEMBER_ADDED;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) throws IOException {
+            Optional<Group> opGroup = zone
+                    .getMembers()
+                    .getGroups()
+                    .stream()
+                    .filter(group -> group.getId().equals(this.groupId))
+                    .findAny();
+            if (opGroup.isEmpty()) {
+                throw new IOException("Unknown group of " + this.groupId);
+            }
+            zone.getMembers().addMember(opGroup.get(), this.member);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeString(output, this.groupId);
+            writeUUID(output, this.member);
+        }
+    }
+
+    /**
+     * A player was removed from the groups of the zone
+     *
+     * @since 1.0.1
+     */
+    public static final class MemberRemoved extends ZoneChange {
+
+        private final @NotNull UUID member;
+
+        public MemberRemoved(@NotNull String zoneId, @NotNull UUID member) {
+            super(zoneId);
+            this.member = member;
+        }
+
+        public @NotNull UUID getMember() {
+            return this.member;
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.MEMBER_REMOVED;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) {
+            zone.getMembers().removeMember(this.member);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeUUID(output, this.member);
+        }
+    }
+
+    /**
+     * The balance of a currency within the zone was changed. The balance after the change is
+     * recorded rather than the amount deposited or withdrawn
+     *
+     * @since 1.0.1
+     */
+    public static final class BalanceSet extends ZoneChange {
+
+        private final @NotNull String currency;
+        private final @NotNull BigDecimal balance;
+
+        private BalanceSet(
+                @NotNull String zoneId, @NotNull String currency, @NotNull BigDecimal balance) {
+            super(zoneId);
+            this.currency = currency;
+            this.balance = balance;
+        }
+
+        public BalanceSet(
+                @NotNull String zoneId, @NotNull Currency currency, @NotNull BigDecimal balance) {
+            this(zoneId, currency.key(RegistryTypes.CURRENCY).asString(), balance);
+        }
+
+        public @NotNull BigDecimal getBalance() {
+            return this.balance;
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.BALANCE_SET;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) throws IOException {
+            Optional<Currency> opCurrency = Sponge
+                    .server()
+                    .registry(RegistryTypes.CURRENCY)
+                    .findValue(ResourceKey.resolve(this.currency));
+            if (opCurrency.isEmpty()) {
+                throw new IOException("Unknown currency of " + this.currency);
+            }
+            zone.getEconomy().setBalance(opCurrency.get(), this.balance);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeString(output, this.currency);
+            writeString(output, this.balance.toString());
+        }
+    }
+
+    /**
+     * A player was banned from the zone
+     *
+     * @since 1.0.1
+     */
+    public static final class BanAdded extends ZoneChange {
+
+        private final @NotNull UUID player;
+        private final @Nullable LocalDateTime release;
+
+        public BanAdded(
+                @NotNull String zoneId, @NotNull UUID player, @Nullable LocalDateTime release) {
+            super(zoneId);
+            this.player = player;
+            this.release = release;
+        }
+
+        public @NotNull UUID getPlayer() {
+            return this.player;
+        }
+
+        public @NotNull Optional<LocalDateTime> getRelease() {
+            return Optional.ofNullable(this.release);
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.BAN_ADDED;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) {
+            BanFlag flag = getBanFlag(zone);
+            flag.unbanPlayer(this.player);
+            flag.banPlayer(this.player, this.release);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeUUID(output, this.player);
+            output.writeBoolean(this.release != null);
+            if (this.release != null) {
+                writeString(output, this.release.toString());
+            }
+        }
+    }
+
+    /**
+     * A player was unbanned from the zone
+     *
+     * @since 1.0.1
+     */
+    public static final class BanRemoved extends ZoneChange {
+
+        private final @NotNull UUID player;
+
+        public BanRemoved(@NotNull String zoneId, @NotNull UUID player) {
+            super(zoneId);
+            this.player = player;
+        }
+
+        public @NotNull UUID getPlayer() {
+            return this.player;
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.BAN_REMOVED;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) {
+            getBanFlag(zone).unbanPlayer(this.player);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeUUID(output, this.player);
+        }
+    }
+
+    /**
+     * The bounds of the zone were changed, the whole region is recorded
+     *
+     * @since 1.0.1
+     */
+    public static final class BoundsSet extends ZoneChange {
+
+        private final @NotNull String region;
+
+        private BoundsSet(@NotNull String zoneId, @NotNull String region) {
+            super(zoneId);
+            this.region = region;
+        }
+
+        /**
+         * Records the current bounds of the region
+         *
+         * @param zoneId The id of the zone
+         * @param region The region of the zone
+         *
+         * @return The change
+         *
+         * @throws IOException If the region could not be serialized
+         * @since 1.0.1
+         */
+        public static @NotNull BoundsSet of(@NotNull String zoneId, @NotNull ChildRegion region)
+                throws IOException {
+            ConfigurationNode node = CommentedConfigurationNode.root();
+            region.save(node);
+            return new BoundsSet(zoneId, toHocon(node));
+        }
+
+        @Override
+        public @NotNull Type getType() {
+            return Type.BOUNDS_SET;
+        }
+
+        @Override
+        public void apply(@NotNull Zone zone) throws IOException {
+            ChildRegion loaded = ChildRegion.load(fromHocon(this.region));
+            ChildRegion region = zone.getRegion();
+            for (Region child : new ArrayList<>(region.getChildren())) {
+                region.remove(child);
+            }
+            loaded.getChildren().forEach(region::add);
+            ZonePlugin.getZonesPlugin().getZoneManager().updateBounds(zone);
+        }
+
+        @Override
+        protected void writeData(@NotNull DataOutput output) throws IOException {
+            writeString(output, this.region);
+        }
+    }
+
+    private static @NotNull BanFlag getBanFlag(@NotNull Zone zone) {
+        Optional<BanFlag> opFlag = zone.getFlag(FlagTypes.BAN);
+        if (opFlag.isPresent()) {
+            return opFlag.get();
+        }
+        BanFlag flag = new BanFlag();
+        zone.replaceFlag(flag);
+        return flag;
+    }
+}
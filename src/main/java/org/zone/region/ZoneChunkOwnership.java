@@ -0,0 +1,76 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.ResourceKey;
+import org.zone.region.index.ZoneChunkIndex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the {@link ChunkZones} of each chunk that has been looked up, per world. A chunk that
+ * is empty or fully owned by one zone then answers a lookup with a single hash probe, only chunks
+ * on the edge of a zone need their regions checked. Everything is forgotten when the registered
+ * zones or their bounds change
+ *
+ * @since 1.0.1
+ */
+final class ZoneChunkOwnership {
+
+    /**
+     * The amount of chunks remembered for a single world before the world is forgotten and built
+     * up again
+     */
+    static final int MAX_CHUNKS_PER_WORLD = 65536;
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull Map<ResourceKey, Table> tables = new ConcurrentHashMap<>();
+
+    private static final class Table {
+
+        private final long generation;
+        private final @NotNull Map<Long, ChunkZones> chunks = new ConcurrentHashMap<>();
+
+        private Table(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    ZoneChunkOwnership(@NotNull ZoneManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Gets the zones of the chunk, working them out if the chunk is not remembered or the zones
+     * have changed since
+     *
+     * @param world  The world of the chunk
+     * @param chunkX The x of the chunk
+     * @param chunkZ The z of the chunk
+     *
+     * @return The zones of the chunk
+     */
+    @NotNull ChunkZones get(@NotNull ResourceKey world, int chunkX, int chunkZ) {
+        //moving the bounds of a registered zone is counted through ZoneManager#updateBounds
+        long generation = this.manager.getModificationCount();
+        Table table = this.tables.get(world);
+        if (table == null || table.generation < generation) {
+            table = new Table(generation);
+            this.tables.put(world, table);
+        } else if (table.generation > generation) {
+            //the zones were read before a newer table was made, do not remember them
+            return this.manager.createChunkZones(world, chunkX, chunkZ);
+        }
+        long key = ZoneChunkIndex.toKey(chunkX, chunkZ);
+        ChunkZones zones = table.chunks.get(key);
+        if (zones != null) {
+            return zones;
+        }
+        zones = this.manager.createChunkZones(world, chunkX, chunkZ);
+        if (table.chunks.size() >= MAX_CHUNKS_PER_WORLD) {
+            table.chunks.clear();
+        }
+        table.chunks.put(key, zones);
+        return zones;
+    }
+}
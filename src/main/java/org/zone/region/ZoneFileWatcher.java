@@ -0,0 +1,222 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.zone.region.storage.SegmentedZoneStore;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.region.storage.ZoneStore;
+import org.zone.region.storage.ZoneStoreType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the zones folder for changes and reloads the changed zones. Changes are gathered until
+ * the folder has been quiet for {@link #QUIET_PERIOD} so that a burst of writes causes a single
+ * reload, which runs on the watcher's thread. Files that still have the stamp they were last
+ * loaded or saved with were written by the plugin itself, so they do not cause a reload
+ *
+ * @since 1.0.1
+ */
+public class ZoneFileWatcher {
+
+    /**
+     * The time in milliseconds without changes before the zones are reloaded
+     */
+    public static final long QUIET_PERIOD = 1000;
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull File folder;
+    private @Nullable WatchService service;
+
+    /**
+     * The files that changed while the folder was not quiet
+     */
+    private static final class Changes {
+
+        private final @NotNull Collection<String> ids = new HashSet<>();
+        private boolean segment;
+        private boolean unknown;
+    }
+
+    /**
+     * Creates the watcher, it does not watch until started
+     *
+     * @param manager The manager to reload the zones of
+     * @param folder  The zones folder
+     * @since 1.0.1
+     */
+    public ZoneFileWatcher(@NotNull ZoneManager manager, @NotNull File folder) {
+        this.manager = manager;
+        this.folder = folder;
+    }
+
+    /**
+     * Checks if the watcher is watching the folder
+     *
+     * @return If watching
+     * @since 1.0.1
+     */
+    public synchronized boolean isRunning() {
+        return this.service != null;
+    }
+
+    /**
+     * Starts or stops the watcher
+     *
+     * @param running If the watcher should be watching
+     *
+     * @throws IOException If the folder could not be watched
+     * @since 1.0.1
+     */
+    public void setRunning(boolean running) throws IOException {
+        if (running) {
+            this.start();
+            return;
+        }
+        this.stop();
+    }
+
+    /**
+     * Starts watching the zones folder, does nothing if already watching
+     *
+     * @throws IOException If the folder could not be watched
+     * @since 1.0.1
+     */
+    public synchronized void start() throws IOException {
+        if (this.service != null) {
+            return;
+        }
+        Path root = this.folder.toPath();
+        Files.createDirectories(root);
+        WatchService service = FileSystems.getDefault().newWatchService();
+        try {
+            this.register(service, root);
+            File[] pluginFolders = this.folder.listFiles(File::isDirectory);
+            if (pluginFolders != null) {
+                for (File pluginFolder : pluginFolders) {
+                    this.register(service, pluginFolder.toPath());
+                }
+            }
+        } catch (IOException e) {
+            service.close();
+            throw e;
+        }
+        this.service = service;
+        Thread thread = new Thread(() -> this.watch(service), "Zone File Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the zones folder
+     *
+     * @since 1.0.1
+     */
+    public synchronized void stop() {
+        if (this.service == null) {
+            return;
+        }
+        try {
+            this.service.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        this.service = null;
+    }
+
+    private void register(@NotNull WatchService service, @NotNull Path path) throws IOException {
+        path.register(service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    private void watch(@NotNull WatchService service) {
+        try {
+            while (true) {
+                Changes changes = new Changes();
+                this.handle(service, service.take(), changes);
+                WatchKey key;
+                while ((key = service.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS)) != null) {
+                    this.handle(service, key, changes);
+                }
+                if (this.isChangedElsewhere(changes)) {
+                    this.manager.reloadZones();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+        }
+    }
+
+    private boolean isChangedElsewhere(@NotNull Changes changes) {
+        if (changes.unknown) {
+            return true;
+        }
+        ZoneStore segmented = this.manager.getStore(ZoneStoreType.SEGMENTED);
+        if (changes.segment &&
+                segmented instanceof SegmentedZoneStore store &&
+                store.isChangedElsewhere()) {
+            return true;
+        }
+        return changes.ids.stream().anyMatch(this.manager::hasChangedElsewhere);
+    }
+
+    private void handle(
+            @NotNull WatchService service, @NotNull WatchKey key, @NotNull Changes changes) {
+        Path folder = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (!(event.context() instanceof Path name)) {
+                changes.unknown = true;
+                continue;
+            }
+            Path path = folder.resolve(name);
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    this.register(service, path);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    changes.unknown = true;
+                    continue;
+                }
+                //files may have been moved in before the folder was watched
+                File[] files = path.toFile().listFiles();
+                if (files != null) {
+                    for (File file : files) {
+                        this.addZoneFile(path, file, changes);
+                    }
+                }
+                continue;
+            }
+            File file = path.toFile();
+            if (file.getName().endsWith(".segment")) {
+                changes.segment = true;
+                continue;
+            }
+            this.addZoneFile(folder, file, changes);
+        }
+        key.reset();
+    }
+
+    private void addZoneFile(@NotNull Path folder, @NotNull File file, @NotNull Changes changes) {
+        if (folder.equals(this.folder.toPath())) {
+            //zone files are only found within a plugin's folder
+            return;
+        }
+        ZoneFileFormat
+                .of(file)
+                .ifPresent(format -> changes.ids.add(
+                        folder.getFileName() + ":" + format.getKey(file)));
+    }
+}
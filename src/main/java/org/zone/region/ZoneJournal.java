@@ -0,0 +1,601 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Task;
+import org.zone.ZonePlugin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of the changes made to zones. When enabled, small changes such as adding a
+ * member or depositing into a zone append a {@link ZoneChange} to the journal and
+ * {@link Zone#save()} does not write the whole zone. Every {@link #CHECKPOINT_INTERVAL} (or once
+ * the journal reaches {@link #CHECKPOINT_BYTES}) the changed zones are written to the zone store
+ * and the journal is cleared. Any changes left within the journal when the server starts are
+ * replayed onto the loaded zones.
+ * <p>
+ * Each record is the length of the change, a CRC32 of the change and then the change itself, so a
+ * record that was only partly written is found and removed when the journal is read
+ *
+ * @since 1.0.1
+ */
+public class ZoneJournal {
+
+    /**
+     * The first four bytes of the journal file
+     */
+    public static final int MAGIC = 0x5A4A524E;
+
+    /**
+     * The current version of the journal file
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The time in milliseconds between checkpoints
+     */
+    public static final long CHECKPOINT_INTERVAL = 60000;
+
+    /**
+     * The size in bytes the journal can reach before a checkpoint is made early
+     */
+    public static final long CHECKPOINT_BYTES = 1024 * 1024;
+
+    /**
+     * The time in milliseconds between the journal being synced to the disk
+     */
+    public static final long SYNC_INTERVAL = 1000;
+
+    private static final int HEADER_LENGTH = 8;
+    private static final int RECORD_HEADER_LENGTH = 8;
+
+    /**
+     * Creates a change for the id of the zone
+     *
+     * @since 1.0.1
+     */
+    @FunctionalInterface
+    public interface ChangeFactory {
+
+        @NotNull ZoneChange create(@NotNull String zoneId) throws IOException;
+    }
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull File file;
+    private final @NotNull Executor mainThread;
+    private final @NotNull Collection<String> touched = new HashSet<>();
+    private final @NotNull Collection<String> recorded = ConcurrentHashMap.newKeySet();
+    private final @NotNull ScheduledExecutorService executor = Executors
+            .newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Zone Journal");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private @Nullable FileChannel channel;
+    private @Nullable ScheduledFuture<?> checkpointTask;
+    private @Nullable ScheduledFuture<?> syncTask;
+    private long position;
+    private boolean unsynced;
+    private boolean checkpointScheduled;
+    private volatile boolean enabled;
+    private volatile boolean replaying;
+
+    /**
+     * Creates the journal, it does not record changes until enabled
+     *
+     * @param manager The manager of the zones to write at each checkpoint
+     * @param file    The journal file
+     * @since 1.0.1
+     */
+    public ZoneJournal(@NotNull ZoneManager manager, @NotNull File file) {
+        this(manager, file, ZoneJournal::runOnMainThread);
+    }
+
+    /**
+     * Creates the journal, it does not record changes until enabled
+     *
+     * @param manager    The manager of the zones to write at each checkpoint
+     * @param file       The journal file
+     * @param mainThread Runs a task on the thread that changes zones, straight away if already
+     *                   on it. The zones are read there at each checkpoint
+     * @since 1.0.1
+     */
+    public ZoneJournal(
+            @NotNull ZoneManager manager, @NotNull File file, @NotNull Executor mainThread) {
+        this.manager = manager;
+        this.file = file;
+        this.mainThread = mainThread;
+    }
+
+    private static void runOnMainThread(@NotNull Runnable task) {
+        Server server = Sponge.server();
+        if (server.onMainThread()) {
+            task.run();
+            return;
+        }
+        server
+                .scheduler()
+                .submit(Task
+                        .builder()
+                        .plugin(ZonePlugin.getZonesPlugin().getPluginContainer())
+                        .execute(task)
+                        .build());
+    }
+
+    /**
+     * Records a change made to a zone within the journal of the zone manager. Nothing is recorded
+     * if the zone is null or the journal is not enabled
+     *
+     * @param zone    The zone that was changed
+     * @param factory Creates the change
+     * @since 1.0.1
+     */
+    public static void record(@Nullable Zone zone, @NotNull ChangeFactory factory) {
+        if (zone == null) {
+            return;
+        }
+        ZonePlugin plugin = ZonePlugin.getZonesPlugin();
+        //noinspection ConstantConditions
+        if (plugin == null || plugin.getZoneManager() == null) {
+            return;
+        }
+        ZoneJournal journal = plugin.getZoneManager().getJournal();
+        //noinspection ConstantConditions
+        if (journal != null) {
+            journal.recordChange(zone, factory);
+        }
+    }
+
+    /**
+     * Gets the journal file
+     *
+     * @return The file
+     * @since 1.0.1
+     */
+    public @NotNull File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Checks if changes are being recorded
+     *
+     * @return If enabled
+     * @since 1.0.1
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Enables or disables the journal. Either way, any changes left within the journal file are
+     * replayed and written to the zone store first. When disabled the journal file is removed
+     *
+     * @param enabled If changes should be recorded
+     *
+     * @throws IOException If the journal could not be opened or replayed
+     * @since 1.0.1
+     */
+    public void setEnabled(boolean enabled) throws IOException {
+        if (enabled == this.enabled) {
+            if (!enabled) {
+                this.recover();
+                Files.deleteIfExists(this.file.toPath());
+            }
+            return;
+        }
+        if (enabled) {
+            this.recover();
+            this.open();
+            return;
+        }
+        this.close();
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    /**
+     * Checks if a change to the zone was recorded since this was last called for the zone, if so
+     * the zone does not need to be written until the next checkpoint
+     *
+     * @param zone The zone to check
+     *
+     * @return If a change was recorded
+     * @since 1.0.1
+     */
+    public boolean consumeRecorded(@NotNull Zone zone) {
+        return this.enabled && this.recorded.remove(zone.getId());
+    }
+
+    /**
+     * Forgets the changes recorded for the zone, such as when the zone is removed
+     *
+     * @param zone The zone to forget
+     * @since 1.0.1
+     */
+    public void forget(@NotNull Zone zone) {
+        this.recorded.remove(zone.getId());
+        synchronized (this) {
+            this.touched.remove(zone.getId());
+        }
+    }
+
+    private void recordChange(@NotNull Zone zone, @NotNull ChangeFactory factory) {
+        if (!this.enabled || this.replaying) {
+            return;
+        }
+        try {
+            this.append(factory.create(zone.getId()));
+        } catch (IOException e) {
+            ZonePlugin
+                    .getZonesPlugin()
+                    .getLogger()
+                    .error("Could not record change to zone '" +
+                            zone.getId() +
+                            "': " +
+                            e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Appends the change to the journal
+     *
+     * @param change The change to append
+     *
+     * @throws IOException If the change could not be written
+     * @since 1.0.1
+     */
+    public void append(@NotNull ZoneChange change) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(0);
+            output.writeInt(0);
+            change.write(output);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        int length = buffer.remaining() - RECORD_HEADER_LENGTH;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_LENGTH, length);
+        buffer.putInt(0, length);
+        buffer.putInt(4, (int) crc.getValue());
+        synchronized (this) {
+            if (this.channel == null) {
+                throw new IOException("Journal is not open");
+            }
+            long position = this.position;
+            while (buffer.hasRemaining()) {
+                position += this.channel.write(buffer, position);
+            }
+            this.position = position;
+            this.unsynced = true;
+            this.touched.add(change.getZoneId());
+            if (this.position >= CHECKPOINT_BYTES && !this.checkpointScheduled) {
+                this.checkpointScheduled = true;
+                this.executor.execute(this::requestCheckpoint);
+            }
+        }
+        this.recorded.add(change.getZoneId());
+    }
+
+    /**
+     * Reads the changes within the journal file. A record that was only partly written is removed
+     * from the file, along with anything after it
+     *
+     * @return The changes in the order they were made
+     *
+     * @throws IOException If the journal is not a journal file or could not be read
+     * @since 1.0.1
+     */
+    public synchronized @NotNull List<ZoneChange> read() throws IOException {
+        List<ZoneChange> changes = new ArrayList<>();
+        if (!this.file.exists()) {
+            return changes;
+        }
+        if (this.channel != null) {
+            this.channel.force(false);
+        }
+        byte[] data = Files.readAllBytes(this.file.toPath());
+        if (data.length == 0) {
+            return changes;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_LENGTH || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a zone journal: " + this.file.getPath());
+        }
+        int version = buffer.getInt();
+        if (version > VERSION) {
+            throw new IOException("Zone journal of version " + version + " is not supported");
+        }
+        int valid = buffer.position();
+        while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+            int length = buffer.getInt();
+            int stamp = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, buffer.position(), length);
+            if ((int) crc.getValue() != stamp) {
+                break;
+            }
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data,
+                    buffer.position(),
+                    length))) {
+                changes.add(ZoneChange.read(input));
+            }
+            buffer.position(buffer.position() + length);
+            valid = buffer.position();
+        }
+        if (valid < data.length) {
+            try (FileChannel channel = FileChannel.open(this.file.toPath(),
+                    StandardOpenOption.WRITE)) {
+                channel.truncate(valid);
+            }
+            if (this.channel != null) {
+                this.position = valid;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Replays the changes within the journal file onto the registered zones and then writes the
+     * changed zones to the zone store. This should be called once the zones are loaded and
+     * before the journal is opened
+     *
+     * @throws IOException If the journal could not be read or a changed zone could not be saved
+     * @since 1.0.1
+     */
+    public void recover() throws IOException {
+        if (this.enabled) {
+            throw new IllegalStateException("Journal cannot be recovered while open");
+        }
+        List<ZoneChange> changes = this.read();
+        if (changes.isEmpty()) {
+            return;
+        }
+        Collection<Zone> changed = new LinkedHashSet<>();
+        this.replaying = true;
+        try {
+            for (ZoneChange change : changes) {
+                Optional<Zone> opZone = this.manager.getZone(change.getZoneId());
+                if (opZone.isEmpty()) {
+                    continue;
+                }
+                try {
+                    change.apply(opZone.get());
+                    changed.add(opZone.get());
+                } catch (IOException | RuntimeException e) {
+                    ZonePlugin
+                            .getZonesPlugin()
+                            .getLogger()
+                            .error("Could not replay change to zone '" +
+                                    change.getZoneId() +
+                                    "': " +
+                                    e.getMessage());
+                }
+            }
+        } finally {
+            this.replaying = false;
+        }
+        for (Zone zone : changed) {
+            this.manager.save(zone);
+        }
+        Files.deleteIfExists(this.file.toPath());
+    }
+
+    private synchronized void open() throws IOException {
+        Path path = this.file.toPath();
+        Files.createDirectories(path.getParent());
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.writeHeader(this.channel);
+        this.position = HEADER_LENGTH;
+        this.enabled = true;
+        this.checkpointTask = this.executor.scheduleWithFixedDelay(this::requestCheckpoint,
+                CHECKPOINT_INTERVAL,
+                CHECKPOINT_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        this.syncTask = this.executor.scheduleWithFixedDelay(this::sync,
+                SYNC_INTERVAL,
+                SYNC_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void writeHeader(@NotNull FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        channel.truncate(0);
+        while (header.hasRemaining()) {
+            channel.write(header, HEADER_LENGTH - header.remaining());
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Writes all zones with recorded changes to the zone store and then clears the journal,
+     * waiting until done. Nothing happens if the journal is not enabled
+     *
+     * @since 1.0.1
+     */
+    public void checkpoint() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        this.mainThread.execute(() -> this.startCheckpoint().whenComplete((result, e) -> {
+            if (e == null) {
+                done.complete(null);
+                return;
+            }
+            done.completeExceptionally(e);
+        }));
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Makes a checkpoint and then closes the journal file, changes are no longer recorded. The
+     * journal file is kept
+     *
+     * @since 1.0.1
+     */
+    public void close() {
+        if (!this.enabled) {
+            return;
+        }
+        this.checkpoint();
+        synchronized (this) {
+            this.enabled = false;
+            if (this.checkpointTask != null) {
+                this.checkpointTask.cancel(false);
+            }
+            if (this.syncTask != null) {
+                this.syncTask.cancel(false);
+            }
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            this.channel = null;
+            this.recorded.clear();
+        }
+    }
+
+    private void requestCheckpoint() {
+        this.mainThread.execute(this::startCheckpoint);
+    }
+
+    /**
+     * Reads the zones with recorded changes and hands them to the save queue. This is run on the
+     * thread that changes zones, the journal is cleared once the zones are written
+     */
+    private @NotNull CompletableFuture<Void> startCheckpoint() {
+        Collection<String> ids;
+        long end;
+        synchronized (this) {
+            this.checkpointScheduled = false;
+            if (this.channel == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            ids = new HashSet<>(this.touched);
+            this.touched.clear();
+            end = this.position;
+        }
+        Collection<Zone> zones = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            this.manager.getZone(id).ifPresent(zones::add);
+        }
+        CompletableFuture<Boolean> saving = zones.isEmpty() ?
+                CompletableFuture.completedFuture(true) :
+                this.manager.getSaveQueue().saveAll(zones);
+        return saving.thenAcceptAsync(saved -> this.finishCheckpoint(ids, end, saved), this.executor);
+    }
+
+    private void finishCheckpoint(@NotNull Collection<String> ids, long end, boolean saved) {
+        if (!saved) {
+            //the save queue tries the zones again, keep the changes until they are written
+            synchronized (this) {
+                this.touched.addAll(ids);
+            }
+            return;
+        }
+        try {
+            this.truncate(end);
+        } catch (IOException e) {
+            ZonePlugin
+                    .getZonesPlugin()
+                    .getLogger()
+                    .error("Could not clear the zone journal: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private synchronized void truncate(long end) throws IOException {
+        if (this.channel == null) {
+            return;
+        }
+        if (end == this.position) {
+            this.writeHeader(this.channel);
+            this.position = HEADER_LENGTH;
+            this.unsynced = false;
+            return;
+        }
+        Path path = this.file.toPath();
+        Path temp = path.resolveSibling(this.file.getName() + ".tmp");
+        long tailLength = this.position - end;
+        try (FileChannel tempChannel = FileChannel.open(temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            this.writeHeader(tempChannel);
+            long copied = 0;
+            while (copied < tailLength) {
+                copied += this.channel.transferTo(end + copied,
+                        tailLength - copied,
+                        tempChannel.position(HEADER_LENGTH + copied));
+            }
+            tempChannel.force(false);
+        }
+        this.channel.close();
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.position = HEADER_LENGTH + tailLength;
+        this.unsynced = false;
+    }
+
+    private synchronized void sync() {
+        if (this.channel == null || !this.unsynced) {
+            return;
+        }
+        try {
+            this.channel.force(false);
+            this.unsynced = false;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package org.zone.region;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.configurate.ConfigurateException;
+import org.zone.ZonePlugin;
+import org.zone.config.node.ZoneNodes;
+import org.zone.region.storage.ZoneStore;
+import org.zone.region.storage.ZoneStoreType;
+import org.zone.utils.Messages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads all the zones within the zone stores. The zones are parsed and decoded at the same time
+ * on a bounded pool of threads, the zones are then returned together so they can be registered
+ * as one batch.
+ *
+ * @since 1.0.1
+ */
+public class ZoneLoader {
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull ZoneStoreType store;
+    private final int threads;
+    private final @Nullable Executor executor;
+    private final @NotNull Timings timings = new Timings();
+
+    /**
+     * The time spent in each phase of loading. The time of the listing phase is the time taken on
+     * the calling thread, the other phases are the total time across all the loading threads
+     *
+     * @since 1.0.1
+     */
+    public static final class Timings {
+
+        private final LongAdder listing = new LongAdder();
+        private final LongAdder parsing = new LongAdder();
+        private final LongAdder flagDecoding = new LongAdder();
+        private final LongAdder regionDecoding = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicInteger files = new AtomicInteger();
+        private final AtomicInteger loaded = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final AtomicInteger removed = new AtomicInteger();
+
+        void addListing(long nanos) {
+            this.listing.add(nanos);
+        }
+
+        void addParsing(long nanos) {
+            this.parsing.add(nanos);
+        }
+
+        void addFlagDecoding(long nanos) {
+            this.flagDecoding.add(nanos);
+        }
+
+        void addRegionDecoding(long nanos) {
+            this.regionDecoding.add(nanos);
+        }
+
+        /**
+         * Gets the amount of zones that were found
+         *
+         * @return The amount of zones
+         * @since 1.0.1
+         */
+        public int getFiles() {
+            return this.files.get();
+        }
+
+        /**
+         * Gets the amount of zones that were read and loaded
+         *
+         * @return The amount of loaded zones
+         * @since 1.0.1
+         */
+        public int getLoaded() {
+            return this.loaded.get();
+        }
+
+        /**
+         * Gets the amount of registered zones that were kept as they had not changed
+         *
+         * @return The amount of unchanged zones
+         * @since 1.0.1
+         */
+        public int getUnchanged() {
+            return this.unchanged.get();
+        }
+
+        /**
+         * Gets the amount of registered zones that were dropped as they are no longer stored
+         *
+         * @return The amount of removed zones
+         * @since 1.0.1
+         */
+        public int getRemoved() {
+            return this.removed.get();
+        }
+
+        /**
+         * Gets the time in milliseconds spent finding the zones
+         *
+         * @return The time spent listing
+         * @since 1.0.1
+         */
+        public long getListing() {
+            return TimeUnit.NANOSECONDS.toMillis(this.listing.sum());
+        }
+
+        /**
+         * Gets the time in milliseconds spent reading and parsing the zones
+         *
+         * @return The time spent parsing
+         * @since 1.0.1
+         */
+        public long getParsing() {
+            return TimeUnit.NANOSECONDS.toMillis(this.parsing.sum());
+        }
+
+        /**
+         * Gets the time in milliseconds spent finding the flag types and loading the flags
+         *
+         * @return The time spent decoding flags
+         * @since 1.0.1
+         */
+        public long getFlagDecoding() {
+            return TimeUnit.NANOSECONDS.toMillis(this.flagDecoding.sum());
+        }
+
+        /**
+         * Gets the time in milliseconds spent loading the regions
+         *
+         * @return The time spent decoding regions
+         * @since 1.0.1
+         */
+        public long getRegionDecoding() {
+            return TimeUnit.NANOSECONDS.toMillis(this.regionDecoding.sum());
+        }
+
+        /**
+         * Gets the time in milliseconds from the start of loading until all zones were loaded
+         *
+         * @return The total time
+         * @since 1.0.1
+         */
+        public long getTotal() {
+            return TimeUnit.NANOSECONDS.toMillis(this.total.sum());
+        }
+    }
+
+    /**
+     * Creates a loader that uses a thread for each available processor and the store set within
+     * the config
+     *
+     * @param manager The zone manager used to load each zone
+     * @since 1.0.1
+     */
+    public ZoneLoader(@NotNull ZoneManager manager) {
+        this(manager,
+                ZonePlugin.getZonesPlugin().getConfig().getOrElse(ZoneNodes.ZONE_STORE),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a loader
+     *
+     * @param manager The zone manager used to load each zone
+     * @param store   The store zones are kept in. Zones found only in another store are marked
+     *                to be saved, moving them into this store
+     * @param threads The max amount of threads to load with
+     * @since 1.0.1
+     */
+    public ZoneLoader(@NotNull ZoneManager manager, @NotNull ZoneStoreType store, int threads) {
+        this.manager = manager;
+        this.store = store;
+        this.threads = Math.max(1, threads);
+        this.executor = null;
+    }
+
+    /**
+     * Creates a loader that loads the zones on the provided executor rather than its own threads
+     *
+     * @param manager  The zone manager used to load each zone
+     * @param store    The store zones are kept in. Zones found only in another store are marked
+     *                 to be saved, moving them into this store
+     * @param executor Runs the loading of each zone
+     * @since 1.0.1
+     */
+    public ZoneLoader(
+            @NotNull ZoneManager manager, @NotNull ZoneStoreType store, @NotNull Executor executor) {
+        this.manager = manager;
+        this.store = store;
+        this.threads = 1;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the timings of the loads done by this loader
+     *
+     * @return The timings
+     * @since 1.0.1
+     */
+    public @NotNull Timings getTimings() {
+        return this.timings;
+    }
+
+    /**
+     * Loads all the zones of installed plugins from the stores. Zones within the loader's store
+     * are preferred over zones with the same id in the other stores. Zones that fail to load are
+     * reported and skipped
+     *
+     * @return The loaded zones
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> load() {
+        long start = System.nanoTime();
+        Map<String, ZoneStore> sources = this.list();
+        this.timings.addListing(System.nanoTime() - start);
+        Collection<Zone> loaded = new LinkedHashSet<>();
+        this.load(sources, Collections.emptyMap(), loaded);
+        this.timings.total.add(System.nanoTime() - start);
+        return loaded;
+    }
+
+    /**
+     * Loads the zones of installed plugins that have changed since the manager last loaded or
+     * saved them, as well as any new zones. Registered zones that have not changed are kept and
+     * registered zones that are no longer stored are left out. If a changed zone fails to load
+     * then the registered zone is kept
+     *
+     * @return All the zones, both kept and loaded
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> loadChanged() {
+        long start = System.nanoTime();
+        Map<String, ZoneStore> sources = this.list();
+        this.timings.addListing(System.nanoTime() - start);
+
+        Map<String, Zone> kept = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, ZoneStore>> iterator = sources.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ZoneStore> entry = iterator.next();
+            Optional<Zone> opZone = this.manager.getZone(entry.getKey());
+            if (opZone.isEmpty()) {
+                continue;
+            }
+            kept.put(entry.getKey(), opZone.get());
+            if (!this.manager.hasChanged(entry.getKey(), entry.getValue())) {
+                iterator.remove();
+                this.timings.unchanged.incrementAndGet();
+            }
+        }
+        this.timings.removed.addAndGet((int) this.manager
+                .getRegistered()
+                .stream()
+                .filter(zone -> !kept.containsKey(zone.getId()))
+                .count());
+
+        Collection<Zone> loaded = new LinkedHashSet<>();
+        this.load(sources, kept, loaded);
+        this.timings.total.add(System.nanoTime() - start);
+        return loaded;
+    }
+
+    private @NotNull Map<String, ZoneStore> list() {
+        Map<String, ZoneStore> sources = new LinkedHashMap<>();
+        List<ZoneStoreType> types = new ArrayList<>(List.of(ZoneStoreType.values()));
+        types.remove(this.store);
+        types.add(0, this.store);
+        for (ZoneStoreType type : types) {
+            ZoneStore zoneStore = this.manager.getStore(type);
+            try {
+                for (String id : zoneStore.list()) {
+                    if (Sponge.pluginManager().plugin(ZoneStore.getPluginId(id)).isPresent()) {
+                        sources.putIfAbsent(id, zoneStore);
+                    }
+                }
+            } catch (ConfigurateException e) {
+                Sponge
+                        .systemSubject()
+                        .sendMessage(Messages.getZonesLoadingFail(type.name().toLowerCase()));
+                e.printStackTrace();
+            }
+        }
+        this.timings.files.addAndGet(sources.size());
+        return sources;
+    }
+
+    private void load(
+            @NotNull Map<String, ZoneStore> sources,
+            @NotNull Map<String, Zone> kept,
+            @NotNull Collection<Zone> loaded) {
+        ZoneStore primary = this.manager.getStore(this.store);
+        Map<String, Future<Zone>> futures = new LinkedHashMap<>();
+        ExecutorService pool = null;
+        Executor executor = this.executor;
+        if (executor == null) {
+            pool = Executors.newFixedThreadPool(Math.min(this.threads, Math.max(1, sources.size())));
+            executor = pool;
+        }
+        try {
+            for (Map.Entry<String, ZoneStore> entry : sources.entrySet()) {
+                FutureTask<Zone> task = new FutureTask<>(() -> this.manager.load(entry.getKey(),
+                        entry.getValue(),
+                        this.timings));
+                futures.put(entry.getKey(), task);
+                executor.execute(task);
+            }
+            for (Map.Entry<String, Zone> entry : kept.entrySet()) {
+                if (!futures.containsKey(entry.getKey())) {
+                    loaded.add(entry.getValue());
+                }
+            }
+            for (Map.Entry<String, Future<Zone>> entry : futures.entrySet()) {
+                String id = entry.getKey();
+                try {
+                    Zone zone = entry.getValue().get();
+                    loaded.add(zone);
+                    this.timings.loaded.incrementAndGet();
+                    ZoneStore source = sources.get(id);
+                    if (source != primary) {
+                        this.manager.markMoving(zone);
+                        this.manager.getSaveQueue().markDirty(zone);
+                    } else if (source.isOutdated(id)) {
+                        this.manager.getSaveQueue().markDirty(zone);
+                    }
+                } catch (ConfigurateException e) {
+                    //the zone loaded but could not be queued to be written back
+                    ZonePlugin
+                            .getZonesPlugin()
+                            .getLogger()
+                            .error("Could not save zone '" + id + "': " + e.getMessage());
+                } catch (ExecutionException e) {
+                    Sponge.systemSubject().sendMessage(Messages.getZonesLoadingFail(id));
+                    e.getCause().printStackTrace();
+                    Zone previous = kept.get(id);
+                    if (previous != null) {
+                        loaded.add(previous);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
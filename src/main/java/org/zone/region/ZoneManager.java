@@ -1,5 +1,7 @@
 package org.zone.region;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.ResourceKey;
@@ -13,8 +15,8 @@ import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNode;
-import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
@@ -23,15 +25,26 @@ import org.zone.Identifiable;
 import org.zone.IdentifiableManager;
 import org.zone.Serializable;
 import org.zone.ZonePlugin;
+import org.zone.config.node.ZoneNodes;
 import org.zone.region.bounds.ChildRegion;
 import org.zone.region.bounds.Region;
 import org.zone.region.flag.Flag;
+import org.zone.region.flag.FlagManager;
 import org.zone.region.flag.FlagType;
+import org.zone.region.index.ZoneChunkIndex;
+import org.zone.region.index.ZoneRTree;
+import org.zone.region.storage.FileZoneStore;
+import org.zone.region.storage.SegmentedZoneStore;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.region.storage.ZoneStore;
+import org.zone.region.storage.ZoneStoreType;
 import org.zone.utils.Messages;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -41,29 +54,113 @@ import java.util.stream.Collectors;
  */
 public class ZoneManager implements IdentifiableManager<Zone> {
 
-    private final @NotNull Collection<Zone> zones = new LinkedHashSet<>();
-    private boolean isBeingWrittenTo;
+    private volatile @NotNull Registry registry = new Registry(Collections.emptySet());
+    private volatile @NotNull SpatialIndexes indexes = new SpatialIndexes();
+    private volatile long modificationCount;
+    private final @NotNull ZoneSaveQueue saveQueue;
+    private final @NotNull ZoneChunkOwnership ownership = new ZoneChunkOwnership(this);
+    private final @NotNull PriorityZoneCache priorityCache = new PriorityZoneCache(this);
+    private final @NotNull Collection<String> moving = ConcurrentHashMap.newKeySet();
+    private final @NotNull Map<String, String> stamps = new ConcurrentHashMap<>();
+    private final @NotNull File folder;
+    private final @NotNull ZoneFileWatcher watcher;
+    private final @NotNull ZoneJournal journal;
+    private final @NotNull FileZoneStore fileStore;
+    private final @NotNull SegmentedZoneStore segmentedStore;
 
+    private static final File ZONES_FOLDER = new File("config/zone/zones/");
     private static final Object[] NAME = {"Name"};
     private static final Object[] FLAGS = {"Flags"};
     private static final Object[] PARENT = {"Parent"};
     private static final Object[] REGION = {"Region"};
     private static final Object[] WORLD = {"Region", "World"};
 
+    private static final class Registry {
+
+        private final @NotNull Collection<Zone> zones;
+        private final @NotNull Map<String, Zone> byId = new HashMap<>();
+        private final @NotNull Map<String, Collection<Zone>> children = new HashMap<>();
+
+        private Registry(@NotNull Collection<Zone> zones) {
+            this.zones = Collections.unmodifiableCollection(zones);
+            for (Zone zone : zones) {
+                this.byId.put(zone.getId(), zone);
+                zone
+                        .getParentId()
+                        .ifPresent(parentId -> this.children
+                                .computeIfAbsent(parentId, id -> new LinkedHashSet<>())
+                                .add(zone));
+            }
+            this.children.replaceAll((id, found) -> Collections.unmodifiableCollection(found));
+        }
+    }
+
+    private static final class SpatialIndexes {
+
+        private final @NotNull Map<ResourceKey, ZoneChunkIndex> chunkIndexes = new ConcurrentHashMap<>();
+        private final @NotNull Map<ResourceKey, ZoneRTree> boundsTrees = new ConcurrentHashMap<>();
+        private final @NotNull Collection<Zone> unindexedZones = ConcurrentHashMap.newKeySet();
+
+        private void add(@NotNull Zone zone) {
+            Optional<ResourceKey> opWorld = zone.getWorldKey();
+            if (opWorld.isEmpty()) {
+                this.unindexedZones.add(zone);
+                return;
+            }
+            this.chunkIndexes.computeIfAbsent(opWorld.get(), key -> new ZoneChunkIndex()).add(zone);
+            this.boundsTrees.computeIfAbsent(opWorld.get(), key -> new ZoneRTree()).add(zone);
+        }
+
+        private void remove(@NotNull Zone zone) {
+            this.unindexedZones.remove(zone);
+            this.chunkIndexes.values().forEach(index -> index.remove(zone));
+            this.boundsTrees.values().forEach(tree -> tree.remove(zone));
+        }
+    }
+
+    public ZoneManager() {
+        this(LogManager.getLogger(ZoneManager.class));
+    }
+
+    /**
+     * Creates the manager
+     *
+     * @param logger The logger that zones failing to save are reported to
+     * @since 1.0.1
+     */
+    public ZoneManager(@NotNull Logger logger) {
+        this(logger,
+                ZONES_FOLDER,
+                () -> ZonePlugin.getZonesPlugin().getConfig().getOrElse(ZoneNodes.ZONE_FORMAT));
+    }
+
+    /**
+     * Creates a manager that keeps its zones in the provided folder
+     *
+     * @param logger The logger that zones failing to save are reported to
+     * @param folder The folder the zones are stored in
+     * @param format Gets the format zone files should be written in
+     * @since 1.0.1
+     */
+    public ZoneManager(
+            @NotNull Logger logger, @NotNull File folder, @NotNull Supplier<ZoneFileFormat> format) {
+        this.folder = folder;
+        this.saveQueue = new ZoneSaveQueue(this, logger);
+        this.watcher = new ZoneFileWatcher(this, folder);
+        this.journal = new ZoneJournal(this, new File(folder, "zones.journal"));
+        this.fileStore = new FileZoneStore(folder, format);
+        this.segmentedStore = new SegmentedZoneStore(new File(folder, "zones.segment"));
+    }
+
     /**
-     * Gets all the zones
+     * Gets all the zones. The collection is an immutable snapshot, it will not change if zones
+     * are registered or unregistered afterwards
      *
      * @return A collection of the zones
      * @since 1.0.0
      */
     public @NotNull Collection<Zone> getRegistered() {
-        while (this.isBeingWrittenTo) {
-            /*this bit of code allows the zones to be updated on another thread without causing a
-            concurrent error*/
-            //noinspection UnnecessaryContinue
-            continue;
-        }
-        return Collections.unmodifiableCollection(this.zones);
+        return this.registry.zones;
     }
 
     /**
@@ -72,10 +169,102 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      * @param zone The zone to add
      * @since 1.0.0
      */
-    public synchronized void register(@NotNull Zone zone) {
-        this.isBeingWrittenTo = true;
-        this.zones.add(zone);
-        this.isBeingWrittenTo = false;
+    public void register(@NotNull Zone zone) {
+        this.registerAll(Collections.singleton(zone));
+    }
+
+    /**
+     * Registers all the provided zones, publishing them together
+     *
+     * @param zones The zones to add
+     * @since 1.0.1
+     */
+    public synchronized void registerAll(@NotNull Collection<Zone> zones) {
+        if (zones.isEmpty()) {
+            return;
+        }
+        Collection<Zone> snapshot = new LinkedHashSet<>(this.registry.zones);
+        snapshot.addAll(zones);
+        SpatialIndexes indexes = this.indexes;
+        zones.forEach(indexes::add);
+        this.publish(snapshot);
+        zones.forEach(this.priorityCache::invalidate);
+    }
+
+    /**
+     * Unregisters the zone. This does not delete the zone's file
+     *
+     * @param zone The zone to remove
+     *
+     * @return If the zone was registered
+     * @since 1.0.1
+     */
+    public synchronized boolean unregister(@NotNull Zone zone) {
+        if (!this.registry.zones.contains(zone)) {
+            return false;
+        }
+        Collection<Zone> snapshot = new LinkedHashSet<>(this.registry.zones);
+        snapshot.remove(zone);
+        this.indexes.remove(zone);
+        this.saveQueue.cancel(zone);
+        this.journal.forget(zone);
+        this.publish(snapshot);
+        this.priorityCache.invalidate(zone);
+        return true;
+    }
+
+    private void publish(@NotNull Collection<Zone> snapshot) {
+        this.registry = new Registry(snapshot);
+        this.modificationCount++;
+    }
+
+    /**
+     * Gets the amount of times the registered zones or their bounds have changed. This can be
+     * used to tell if a cached zone lookup is out of date
+     *
+     * @return The modification count
+     * @since 1.0.1
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Gets the cache of the priority zone of each block
+     *
+     * @return The priority zone cache
+     * @since 1.0.1
+     */
+    public @NotNull PriorityZoneCache getPriorityZoneCache() {
+        return this.priorityCache;
+    }
+
+    /**
+     * Gets the queue that zones are saved through. {@link Zone#save()} marks the zone within this
+     * queue rather than writing it straight away
+     *
+     * @return The save queue
+     * @since 1.0.1
+     */
+    public @NotNull ZoneSaveQueue getSaveQueue() {
+        return this.saveQueue;
+    }
+
+    /**
+     * Updates the spatial lookups of a registered zone. This should be called after the bounds of
+     * the zone's region have been modified
+     *
+     * @param zone The zone that was modified
+     * @since 1.0.1
+     */
+    public synchronized void updateBounds(@NotNull Zone zone) {
+        if (!this.registry.zones.contains(zone)) {
+            return;
+        }
+        this.indexes.add(zone);
+        this.modificationCount++;
+        this.priorityCache.invalidate(zone);
+        ZoneJournal.record(zone, id -> ZoneChange.BoundsSet.of(id, zone.getRegion()));
     }
 
     /**
@@ -99,8 +288,23 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      * @return The zone that has the provided id
      * @since 1.0.0
      */
-    public @NotNull Optional<Zone> getZone(String id) {
-        return this.getRegistered().stream().filter(zone -> zone.getId().equals(id)).findAny();
+    public @NotNull Optional<Zone> getZone(@Nullable String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.registry.byId.get(id));
+    }
+
+    /**
+     * Gets the sub zones that have the provided zone as their parent
+     *
+     * @param parent The parent zone
+     *
+     * @return The direct children of the zone
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> getChildren(@NotNull Zone parent) {
+        return this.registry.children.getOrDefault(parent.getId(), Collections.emptySet());
     }
 
     public Collection<Zone> getRegistered(World<?, ?> world) {
@@ -144,23 +348,129 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      */
     public @NotNull Collection<Zone> getRegistered(
             @Nullable World<?, ?> world, @NotNull Vector3d worldPos) {
-        return this
-                .getRegistered()
+        Collection<Zone> candidates;
+        if (world instanceof ServerWorld sWorld) {
+            ChunkZones chunk = this.getChunkZones(sWorld.key(),
+                    worldPos.floorX() >> 4,
+                    worldPos.floorZ() >> 4);
+            if (chunk.getOwnership() == ChunkZones.Ownership.EMPTY) {
+                return Collections.emptySet();
+            }
+            candidates = chunk.getZones();
+        } else {
+            candidates = this.getRegistered();
+        }
+        return candidates
                 .stream()
                 .filter(zone -> zone.inRegion(world, worldPos))
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    /**
+     * Gets the zones that reach into a chunk, ready for finding the priority zone of many blocks
+     * within that chunk. The result is remembered until the zones or their regions change, so
+     * looking up a chunk that is empty or owned by a single zone is a single hash probe
+     *
+     * @param world  The world of the chunk
+     * @param chunkX The x of the chunk
+     * @param chunkZ The z of the chunk
+     *
+     * @return The zones of the chunk
+     * @since 1.0.1
+     */
+    public @NotNull ChunkZones getChunkZones(@NotNull ResourceKey world, int chunkX, int chunkZ) {
+        return this.ownership.get(world, chunkX, chunkZ);
+    }
+
+    @NotNull ChunkZones createChunkZones(@NotNull ResourceKey world, int chunkX, int chunkZ) {
+        return new ChunkZones(world,
+                chunkX,
+                chunkZ,
+                this.getCandidates(world, chunkX << 4, chunkZ << 4));
+    }
+
+    private @NotNull Collection<Zone> getCandidates(
+            @NotNull ResourceKey world, int blockX, int blockZ) {
+        SpatialIndexes indexes = this.indexes;
+        ZoneChunkIndex index = indexes.chunkIndexes.get(world);
+        Collection<Zone> indexed = index == null ?
+                Collections.emptyList() :
+                index.getCandidates(blockX, blockZ);
+        if (indexes.unindexedZones.isEmpty()) {
+            return indexed;
+        }
+        Collection<Zone> candidates = new ArrayList<>(indexes.unindexedZones);
+        candidates.addAll(indexed);
+        return candidates;
+    }
+
+    /**
+     * Gets all the zones that have a region intersecting the provided area, in any world
+     *
+     * @param area The area to compare
+     *
+     * @return A collection of all the zones that intersect the area
+     * @since 1.0.0
+     */
     public @NotNull Collection<Zone> getZonesIntersecting(AABB area) {
-        @NotNull Collection<Zone> zones = this.getRegistered();
-        return zones
-                .parallelStream()
+        SpatialIndexes indexes = this.indexes;
+        Collection<Zone> zones = new HashSet<>();
+        for (ZoneRTree tree : indexes.boundsTrees.values()) {
+            addIntersecting(tree, area, zones);
+        }
+        addUnindexedIntersecting(indexes, area, zones);
+        return zones;
+    }
+
+    /**
+     * Gets all the zones that have a region intersecting the provided area within the provided
+     * world
+     *
+     * @param world The world to compare
+     * @param area  The area to compare
+     *
+     * @return A collection of all the zones that intersect the area
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> getZonesIntersecting(
+            @Nullable World<?, ?> world, @NotNull AABB area) {
+        if (!(world instanceof ServerWorld sWorld)) {
+            return this.getZonesIntersecting(area);
+        }
+        SpatialIndexes indexes = this.indexes;
+        Collection<Zone> zones = new HashSet<>();
+        ZoneRTree tree = indexes.boundsTrees.get(sWorld.key());
+        if (tree != null) {
+            addIntersecting(tree, area, zones);
+        }
+        addUnindexedIntersecting(indexes, area, zones);
+        return zones;
+    }
+
+    private static void addIntersecting(
+            @NotNull ZoneRTree tree, @NotNull AABB area, @NotNull Collection<Zone> into) {
+        Vector3d min = area.min();
+        Vector3d max = area.max();
+        for (ZoneRTree.Entry entry : tree.search(min.x(),
+                min.y(),
+                min.z(),
+                max.x(),
+                max.y(),
+                max.z())) {
+            into.add(entry.getZone());
+        }
+    }
+
+    private static void addUnindexedIntersecting(
+            @NotNull SpatialIndexes indexes, @NotNull AABB area, @NotNull Collection<Zone> into) {
+        indexes.unindexedZones
+                .stream()
                 .filter(zone -> zone
                         .getRegion()
                         .getTrueChildren()
-                        .parallelStream()
+                        .stream()
                         .anyMatch(region -> region.asAABB().intersects(area)))
-                .collect(Collectors.toSet());
+                .forEach(into::add);
     }
 
     public Optional<Zone> getNearestZone(Location<?, ?> loc, double maxDistance) {
@@ -190,9 +500,35 @@ public class ZoneManager implements IdentifiableManager<Zone> {
         return Optional.ofNullable(zone);
     }
 
+    /**
+     * Gets the zones near the provided position, ordered by how close they are
+     *
+     * @param world       The world to check
+     * @param pos         The position to compare
+     * @param maxDistance The max distance a zone can be from the position
+     *
+     * @return The zones within the distance, nearest first
+     * @since 1.0.1
+     */
     public List<Zone> getNearZones(World<?, ?> world, Vector3d pos, double maxDistance) {
-        return this
-                .getRegistered(world)
+        Collection<Zone> candidates;
+        if (world instanceof ServerWorld sWorld) {
+            ZoneRTree tree = this.indexes.boundsTrees.get(sWorld.key());
+            if (tree == null) {
+                return new ArrayList<>();
+            }
+            candidates = new LinkedHashSet<>();
+            for (ZoneRTree.Entry entry : tree.nearest(pos.x(),
+                    pos.y(),
+                    pos.z(),
+                    maxDistance,
+                    Integer.MAX_VALUE)) {
+                candidates.add(entry.getZone());
+            }
+        } else {
+            candidates = this.getRegistered();
+        }
+        return candidates
                 .stream()
                 .map(zone -> {
                     Optional<Vector3i> opVector = zone.getRegion().getNearestPosition(pos.toInt());
@@ -235,7 +571,8 @@ public class ZoneManager implements IdentifiableManager<Zone> {
 
     /**
      * Gets the zone that should be used with interactions at the provided location, such as
-     * using the sub zone rather than the parent
+     * using the sub zone rather than the parent. Block positions within a server world are
+     * answered through the {@link #getPriorityZoneCache()}
      *
      * @param world    The world to compare
      * @param worldPos The location to compare
@@ -245,6 +582,17 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      */
     public @NotNull Optional<Zone> getPriorityZone(
             @Nullable World<?, ?> world, @NotNull Vector3d worldPos) {
+        if (world instanceof ServerWorld sWorld && isBlockPosition(worldPos)) {
+            return this.getPriorityZone(sWorld.key(),
+                    worldPos.floorX(),
+                    worldPos.floorY(),
+                    worldPos.floorZ());
+        }
+        if (world instanceof ServerWorld sWorld) {
+            return Optional.ofNullable(this
+                    .getChunkZones(sWorld.key(), worldPos.floorX() >> 4, worldPos.floorZ() >> 4)
+                    .getPriorityZone(worldPos.x(), worldPos.y(), worldPos.z()));
+        }
         Collection<Zone> zones = new HashSet<>(this.getZone(world, worldPos));
         if (zones.isEmpty()) {
             return Optional.empty();
@@ -263,6 +611,32 @@ public class ZoneManager implements IdentifiableManager<Zone> {
         return Optional.of(sortedZone.iterator().next());
     }
 
+    /**
+     * Gets the zone that should be used with interactions at the provided block, such as using
+     * the sub zone rather than the parent. Unlike the other versions, this does not need a
+     * location or vector, so a listener that already has the block position does not create any
+     * objects when the block is cached
+     *
+     * @param world The key of the world to compare
+     * @param x     The x of the block
+     * @param y     The y of the block
+     * @param z     The z of the block
+     *
+     * @return The zone to use. {@link Optional#empty()} when no zone was found at the block
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getPriorityZone(
+            @NotNull ResourceKey world, int x, int y, int z) {
+        return this.priorityCache.getPriorityZone(world, x, y, z);
+    }
+
+    private static boolean isBlockPosition(@NotNull Vector3d position) {
+        //the edge of a region can fall within a block, so only block corners answer for the block
+        return position.x() == Math.floor(position.x()) &&
+                position.y() == Math.floor(position.y()) &&
+                position.z() == Math.floor(position.z());
+    }
+
     /**
      * Loads a zone from a file
      *
@@ -273,34 +647,75 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      * @throws ConfigurateException If you couldn't load
      * @since 1.0.0
      */
-    public synchronized @NotNull Zone load(File file) throws ConfigurateException {
-        HoconConfigurationLoader loader = HoconConfigurationLoader.builder().file(file).build();
-        ConfigurationNode node = loader.load();
+    public @NotNull Zone load(File file) throws ConfigurateException {
+        ZoneFileFormat format = ZoneFileFormat.of(file).orElse(ZoneFileFormat.HOCON);
+        String id = file.getParentFile().getName() + ":" + format.getKey(file);
+        return this.load(id, format.read(file.toPath()), file.getPath(), null);
+    }
+
+    /**
+     * Loads a zone from a store
+     *
+     * @param id    The id of the zone
+     * @param store The store to read the zone from
+     *
+     * @return The zone
+     *
+     * @throws ConfigurateException If you couldn't load
+     * @since 1.0.1
+     */
+    public @NotNull Zone load(@NotNull String id, @NotNull ZoneStore store) throws
+            ConfigurateException {
+        return this.load(id, store, null);
+    }
+
+    @NotNull Zone load(
+            @NotNull String id, @NotNull ZoneStore store, @Nullable ZoneLoader.Timings timings)
+            throws ConfigurateException {
+        store.getStamp(id).ifPresent(stamp -> this.stamps.put(id, stamp));
+        long start = System.nanoTime();
+        ConfigurationNode node = store.read(id);
+        if (timings != null) {
+            timings.addParsing(System.nanoTime() - start);
+        }
+        return this.load(id, node, id, timings);
+    }
+
+    private @NotNull Zone load(
+            @NotNull String id,
+            @NotNull ConfigurationNode node,
+            @NotNull String source,
+            @Nullable ZoneLoader.Timings timings) throws ConfigurateException {
         String name = node.node(NAME).getString();
         if (name == null) {
-            throw new ConfigurateException("Name of zone is missing in " + file.getPath());
+            throw new ConfigurateException("Name of zone is missing in " + source);
         }
         String parentId = node.node(PARENT).getString();
-        String fileName = file.getName();
         ZoneBuilder builder = new ZoneBuilder()
                 .setName(name)
-                .setKey(fileName.substring(0, fileName.length() - 5))
+                .setKey(ZoneStore.getKey(id))
                 .setParentId(parentId);
         String worldId = node.node(WORLD).getString();
         if (worldId == null) {
-            throw new ConfigurateException("World of zone is missing in " + file.getPath());
+            throw new ConfigurateException("World of zone is missing in " + source);
         }
         ResourceKey worldKey = ResourceKey.resolve(worldId);
         builder.setWorld(worldKey);
 
-        String pluginStr = file.getParentFile().getName();
+        String pluginStr = ZoneStore.getPluginId(id);
         Optional<PluginContainer> opPlugin = Sponge.pluginManager().plugin(pluginStr);
         if (opPlugin.isEmpty()) {
             throw new ConfigurateException("Plugin cannot be found: " + pluginStr);
         }
         builder.setContainer(opPlugin.get());
+        long start = System.nanoTime();
         ChildRegion region = ChildRegion.load(node.node(REGION));
         builder.setRegion(region);
+        if (timings != null) {
+            timings.addRegionDecoding(System.nanoTime() - start);
+        }
+        start = System.nanoTime();
+        FlagManager flagManager = ZonePlugin.getZonesPlugin().getFlagManager();
         Map<Object, ? extends ConfigurationNode> flagPlugins = node.node(FLAGS).childrenMap();
         Map<FlagType<?>, ConfigurationNode> types = new TreeMap<>();
         for (Map.Entry<Object, ? extends ConfigurationNode> flagPluginNode : flagPlugins.entrySet()) {
@@ -308,18 +723,9 @@ public class ZoneManager implements IdentifiableManager<Zone> {
                     .getValue()
                     .childrenMap()
                     .entrySet()) {
-                Optional<FlagType<?>> opFlag = ZonePlugin
-                        .getZonesPlugin()
-                        .getFlagManager()
-                        .getRegistered()
-                        .parallelStream()
-                        .filter(type -> type
-                                .getPlugin()
-                                .metadata()
-                                .id()
-                                .equalsIgnoreCase(flagPluginNode.getKey().toString()))
-                        .filter(type -> type.getKey().equalsIgnoreCase(keyNode.getKey().toString()))
-                        .findFirst();
+                Optional<FlagType<?>> opFlag = flagManager.getType(flagPluginNode
+                        .getKey()
+                        .toString(), keyNode.getKey().toString());
                 if (opFlag.isEmpty()) {
                     ZonePlugin
                             .getZonesPlugin()
@@ -353,11 +759,16 @@ public class ZoneManager implements IdentifiableManager<Zone> {
             }
 
         }
+        if (timings != null) {
+            timings.addFlagDecoding(System.nanoTime() - start);
+        }
         return builder.build();
     }
 
     /**
-     * Saves the zone into the correct file
+     * Saves the zone into the store set within the config straight away. This blocks on the
+     * disk, {@link Zone#save()} should be used instead where possible. The zone is written
+     * through the {@link ZoneSaveQueue}, so this should be called on the thread that changes zones
      *
      * @param zone The zone to save
      *
@@ -366,15 +777,162 @@ public class ZoneManager implements IdentifiableManager<Zone> {
      * @throws ConfigurateException if fails to save
      * @since 1.0.0
      */
-    public synchronized File save(Zone zone) throws ConfigurateException {
-        File file = new File("config/zone/zones/" +
-                zone.getPlugin().metadata().id() +
-                "/" +
-                zone.getKey() +
-                ".conf");
-        HoconConfigurationLoader loader = HoconConfigurationLoader.builder().file(file).build();
-        ConfigurationNode node = loader.createNode();
+    public File save(Zone zone) throws ConfigurateException {
+        return this.saveQueue.save(zone);
+    }
+
+    /**
+     * Saves the zone into its own file straight away using the provided format. Any file of the
+     * zone in another format is removed once saved
+     *
+     * @param zone   The zone to save
+     * @param format The format to save in
+     *
+     * @return The file that was saved to
+     *
+     * @throws ConfigurateException if fails to save
+     * @since 1.0.1
+     */
+    public File save(@NotNull Zone zone, @NotNull ZoneFileFormat format) throws
+            ConfigurateException {
+        return this.saveQueue.save(zone, (id, node) -> this.fileStore.write(id, node, format));
+    }
+
+    /**
+     * Writes the node of a zone into the store set within the config. This is used by the
+     * {@link ZoneSaveQueue}'s thread, which is the only thread that writes zones
+     *
+     * @param id   The id of the zone
+     * @param node The node of the zone, as built by {@link #snapshot(Zone)}
+     *
+     * @return The file that was saved to
+     *
+     * @throws ConfigurateException if fails to save
+     * @since 1.0.1
+     */
+    public @NotNull File write(@NotNull String id, @NotNull ConfigurationNode node) throws
+            ConfigurateException {
+        ZoneStoreType type = ZonePlugin
+                .getZonesPlugin()
+                .getConfig()
+                .getOrElse(ZoneNodes.ZONE_STORE);
+        ZoneStore store = this.getStore(type);
+        File file = store.write(id, node);
+        store.getStamp(id).ifPresent(stamp -> this.stamps.put(id, stamp));
+        if (this.moving.remove(id)) {
+            for (ZoneStoreType other : ZoneStoreType.values()) {
+                if (other != type) {
+                    this.getStore(other).delete(id);
+                }
+            }
+        }
+        return file;
+    }
 
+    /**
+     * Gets the journal that small changes to zones are recorded in
+     *
+     * @return The zone journal
+     * @since 1.0.1
+     */
+    public @NotNull ZoneJournal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * Gets the watcher that reloads zones as their files change
+     *
+     * @return The file watcher
+     * @since 1.0.1
+     */
+    public @NotNull ZoneFileWatcher getFileWatcher() {
+        return this.watcher;
+    }
+
+    /**
+     * Gets the store of the type
+     *
+     * @param type The type of store
+     *
+     * @return The store
+     * @since 1.0.1
+     */
+    public @NotNull ZoneStore getStore(@NotNull ZoneStoreType type) {
+        switch (type) {
+            case FILES:
+                return this.fileStore;
+            case SEGMENTED:
+                return this.segmentedStore;
+            default:
+                throw new IllegalArgumentException("Unknown store type of " + type.name());
+        }
+    }
+
+    /**
+     * Marks the zone as being loaded from a store that is not the store set within the config.
+     * Once saved, the zone is removed from the other stores
+     *
+     * @param zone The zone that is moving
+     * @since 1.0.1
+     */
+    public void markMoving(@NotNull Zone zone) {
+        this.moving.add(zone.getId());
+    }
+
+    /**
+     * Checks if the stored zone has changed since it was last loaded or saved by this manager
+     *
+     * @param id    The id of the zone
+     * @param store The store the zone is in
+     *
+     * @return If the stored zone is different
+     * @since 1.0.1
+     */
+    public boolean hasChanged(@NotNull String id, @NotNull ZoneStore store) {
+        Optional<String> opStamp = store.getStamp(id);
+        return opStamp.isEmpty() || !opStamp.get().equals(this.stamps.get(id));
+    }
+
+    /**
+     * Checks if the stored zone was changed by something other than this manager, such as the
+     * zone's file being edited by hand. A zone that is stored with the stamp it was last loaded
+     * or saved with has not, nor has a zone that is neither stored nor registered
+     *
+     * @param id The id of the zone
+     *
+     * @return If the stored zone was changed elsewhere
+     * @since 1.0.1
+     */
+    public boolean hasChangedElsewhere(@NotNull String id) {
+        String known = this.stamps.get(id);
+        boolean stored = false;
+        for (ZoneStoreType type : ZoneStoreType.values()) {
+            Optional<String> opStamp = this.getStore(type).getStamp(id);
+            if (opStamp.isEmpty()) {
+                continue;
+            }
+            if (opStamp.get().equals(known)) {
+                return false;
+            }
+            stored = true;
+        }
+        //a registered zone that is no longer stored was deleted by hand
+        return stored || this.getZone(id).isPresent();
+    }
+
+    /**
+     * Builds the node that the zone is saved as. This reads the zone, so it should be called on
+     * the thread that changes zones
+     *
+     * @param zone The zone to build the node of
+     *
+     * @return The node of the zone
+     *
+     * @throws ConfigurateException If a flag could not be saved into the node
+     * @since 1.0.1
+     */
+    public @NotNull ConfigurationNode snapshot(@NotNull Zone zone) throws ConfigurateException {
+        ConfigurationNode node = CommentedConfigurationNode.root();
         node.node(NAME).set(zone.getName());
         if (zone.getParent().isPresent()) {
             node.node(PARENT).set(zone.getParent().get().getId());
@@ -399,32 +957,44 @@ public class ZoneManager implements IdentifiableManager<Zone> {
         }
         Region region = zone.getRegion();
         region.save(node.node(REGION));
-        loader.save(node);
-        return file;
+        return node;
     }
 
+    /**
+     * Reloads the zones whose files have changed since they were loaded. Zones that are not
+     * stored anymore are removed and new zones are added, other zones are kept as they are. Once
+     * loaded the zones are published together
+     *
+     * @since 1.0.1
+     */
     public void reloadZones() {
-        this.zones.clear();
-        File zonesFolder = new File("config/zone/zones/");
-        Sponge.systemSubject().sendMessage(Messages.getZonesLoadingFrom(zonesFolder.getPath()));
-
-        for (PluginContainer container : Sponge.pluginManager().plugins()) {
-            File keyFolder = new File(zonesFolder, container.metadata().id());
-            File[] keyFiles = keyFolder.listFiles();
-            if (keyFiles == null) {
-                continue;
-            }
-            for (File file : keyFiles) {
-                try {
-                    Zone zone = this.load(file);
-                    this.register(zone);
-                } catch (ConfigurateException e) {
-                    Sponge
-                            .systemSubject()
-                            .sendMessage(Messages.getZonesLoadingFail(file.getPath()));
-                    e.printStackTrace();
-                }
-            }
+        this.reload(true);
+    }
+
+    /**
+     * Reloads all zones from their files. The zones are loaded before any are replaced, once
+     * loaded the new zones are published together
+     *
+     * @since 1.0.1
+     */
+    public void reloadAllZones() {
+        this.reload(false);
+    }
+
+    private void reload(boolean onlyChanged) {
+        this.saveQueue.flush();
+        this.journal.checkpoint();
+        Sponge.systemSubject().sendMessage(Messages.getZonesLoadingFrom(this.folder.getPath()));
+
+        ZoneLoader loader = new ZoneLoader(this);
+        Collection<Zone> loaded = onlyChanged ? loader.loadChanged() : loader.load();
+        Sponge.systemSubject().sendMessage(Messages.getZonesLoadTimings(loader.getTimings()));
+        SpatialIndexes indexes = new SpatialIndexes();
+        loaded.forEach(indexes::add);
+        synchronized (this) {
+            this.indexes = indexes;
+            this.publish(loaded);
+            this.priorityCache.clear();
         }
     }
 }
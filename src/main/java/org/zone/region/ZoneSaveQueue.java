@@ -0,0 +1,300 @@
+package org.zone.region;
+
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A write-behind queue for saving zones. When a zone is marked as dirty its node is built straight
+ * away on the thread that changed the zone, then a single background thread writes the node to
+ * disk, so the thread that changed the zone never waits on the disk and the zone is never read
+ * while it is being changed. Marking a zone that is already waiting to be saved replaces the node
+ * that is waiting, so a burst of changes is written once.
+ * <p>
+ * Every write of a zone goes through the background thread, including
+ * {@link ZoneManager#save(Zone)} and the checkpoints of the {@link ZoneJournal}, so an older node
+ * can never be written over a newer one. A node that fails to be written is put back into the
+ * queue and tried again after {@link #RETRY_DELAY}, unless the zone was marked again since
+ *
+ * @since 1.0.1
+ */
+public class ZoneSaveQueue {
+
+    /**
+     * The time in milliseconds that the queue waits after a zone is marked before writing, so
+     * that a burst of changes to the same zone are written once
+     */
+    public static final long COALESCE_DELAY = 500;
+
+    /**
+     * The time in milliseconds that the queue waits before trying to write a zone that failed
+     */
+    public static final long RETRY_DELAY = 5000;
+
+    /**
+     * Writes the node of a zone
+     *
+     * @since 1.0.1
+     */
+    @FunctionalInterface
+    public interface NodeWriter {
+
+        @NotNull File write(@NotNull String id, @NotNull ConfigurationNode node) throws
+                ConfigurateException;
+    }
+
+    private final @NotNull ZoneManager manager;
+    private final @NotNull Logger logger;
+    private final @NotNull Map<String, Pending> dirty = new ConcurrentHashMap<>();
+    private final @NotNull AtomicBoolean scheduled = new AtomicBoolean();
+    private final @NotNull AtomicLong sequence = new AtomicLong();
+    //only used on the save thread
+    private final @NotNull Map<String, Long> written = new HashMap<>();
+    private final @NotNull ScheduledExecutorService executor = Executors
+            .newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Zone Save");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final class Pending {
+
+        private final @NotNull String id;
+        private final @NotNull ConfigurationNode node;
+        private final long sequence;
+
+        private Pending(@NotNull String id, @NotNull ConfigurationNode node, long sequence) {
+            this.id = id;
+            this.node = node;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Creates the queue
+     *
+     * @param manager The zone manager used to write the zones
+     * @param logger  The logger that zones failing to save are reported to
+     * @since 1.0.1
+     */
+    public ZoneSaveQueue(@NotNull ZoneManager manager, @NotNull Logger logger) {
+        this.manager = manager;
+        this.logger = logger;
+    }
+
+    private @NotNull Pending snapshot(@NotNull Zone zone) throws ConfigurateException {
+        ConfigurationNode node = this.manager.snapshot(zone);
+        return new Pending(zone.getId(), node, this.sequence.incrementAndGet());
+    }
+
+    /**
+     * Marks the zone as needing to be saved. The zone's node is built on the calling thread,
+     * which should be the thread that changes the zone, and written on the save thread
+     *
+     * @param zone The zone to save
+     *
+     * @throws ConfigurateException If the zone could not be turned into a node
+     * @since 1.0.1
+     */
+    public void markDirty(@NotNull Zone zone) throws ConfigurateException {
+        this.dirty.put(zone.getId(), this.snapshot(zone));
+        this.schedule(COALESCE_DELAY);
+    }
+
+    private void schedule(long delay) {
+        if (this.scheduled.compareAndSet(false, true)) {
+            this.executor.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Removes the zone from the queue if it is waiting to be saved, such as when the zone is
+     * being deleted
+     *
+     * @param zone The zone to remove
+     *
+     * @return If the zone was waiting to be saved
+     * @since 1.0.1
+     */
+    public boolean cancel(@NotNull Zone zone) {
+        return this.dirty.remove(zone.getId()) != null;
+    }
+
+    /**
+     * Checks if the zone is waiting to be saved
+     *
+     * @param zone The zone to check
+     *
+     * @return If the zone has changes that are not yet written
+     * @since 1.0.1
+     */
+    public boolean isDirty(@NotNull Zone zone) {
+        return this.dirty.containsKey(zone.getId());
+    }
+
+    /**
+     * Saves the zone into the zone store straight away, waiting until it is written. The zone's
+     * node is built on the calling thread and written on the save thread after anything already
+     * being written. This replaces the zone if it is waiting to be saved
+     *
+     * @param zone The zone to save
+     *
+     * @return The file that was saved to
+     *
+     * @throws ConfigurateException If the zone could not be saved, the zone is then waiting to
+     *                              be saved again
+     * @since 1.0.1
+     */
+    public @NotNull File save(@NotNull Zone zone) throws ConfigurateException {
+        Pending pending = this.snapshot(zone);
+        this.dirty.remove(zone.getId());
+        return this.await(zone, this.executor.submit(() -> {
+            try {
+                File file = this.manager.write(pending.id, pending.node);
+                this.written.put(pending.id, pending.sequence);
+                return file;
+            } catch (ConfigurateException | RuntimeException e) {
+                this.requeue(pending);
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * Saves the zone somewhere other than the zone store straight away, waiting until it is
+     * written. The zone's node is built on the calling thread and written on the save thread
+     *
+     * @param zone   The zone to save
+     * @param writer Writes the zone's node
+     *
+     * @return The file that was saved to
+     *
+     * @throws ConfigurateException If the zone could not be saved
+     * @since 1.0.1
+     */
+    public @NotNull File save(@NotNull Zone zone, @NotNull NodeWriter writer) throws
+            ConfigurateException {
+        Pending pending = this.snapshot(zone);
+        return this.await(zone,
+                this.executor.submit(() -> writer.write(pending.id, pending.node)));
+    }
+
+    private @NotNull File await(@NotNull Zone zone, @NotNull Future<File> future) throws
+            ConfigurateException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigurateException("Interrupted while saving zone '" + zone.getId() + "'");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ConfigurateException configurateException) {
+                throw configurateException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ConfigurateException(e.getCause());
+        }
+    }
+
+    /**
+     * Saves all the zones without waiting. Each zone's node is built on the calling thread, which
+     * should be the thread that changes the zones
+     *
+     * @param zones The zones to save
+     *
+     * @return A future that completes once the zones are written, with if they all were
+     * @since 1.0.1
+     */
+    public @NotNull CompletableFuture<Boolean> saveAll(@NotNull Collection<Zone> zones) {
+        List<Pending> pendings = new ArrayList<>(zones.size());
+        boolean built = true;
+        for (Zone zone : zones) {
+            try {
+                pendings.add(this.snapshot(zone));
+                this.dirty.remove(zone.getId());
+            } catch (ConfigurateException | RuntimeException e) {
+                this.logFailure(zone.getId(), e);
+                built = false;
+            }
+        }
+        boolean allBuilt = built;
+        return CompletableFuture.supplyAsync(() -> {
+            boolean saved = allBuilt;
+            for (Pending pending : pendings) {
+                saved &= this.write(pending);
+            }
+            return saved;
+        }, this.executor);
+    }
+
+    /**
+     * Writes all the dirty zones, waiting until they are written. This should be used when the
+     * files are about to be read or the server is stopping
+     *
+     * @since 1.0.1
+     */
+    public void flush() {
+        try {
+            this.executor.submit(this::drain).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void drain() {
+        this.scheduled.set(false);
+        //copied so that a zone which fails and is queued again waits for the retry
+        for (Pending pending : new ArrayList<>(this.dirty.values())) {
+            if (this.dirty.remove(pending.id, pending)) {
+                this.write(pending);
+            }
+        }
+    }
+
+    private boolean write(@NotNull Pending pending) {
+        Long last = this.written.get(pending.id);
+        if (last != null && last > pending.sequence) {
+            //a newer node has already been written
+            return true;
+        }
+        try {
+            this.manager.write(pending.id, pending.node);
+            this.written.put(pending.id, pending.sequence);
+            return true;
+        } catch (ConfigurateException | RuntimeException e) {
+            this.requeue(pending);
+            this.logFailure(pending.id, e);
+            return false;
+        }
+    }
+
+    private void requeue(@NotNull Pending pending) {
+        //a newer node that is waiting replaces the one that failed
+        this.dirty.putIfAbsent(pending.id, pending);
+        this.schedule(RETRY_DELAY);
+    }
+
+    private void logFailure(@NotNull String id, @NotNull Exception e) {
+        this.logger.error("Could not save zone '" + id + "'", e);
+    }
+}
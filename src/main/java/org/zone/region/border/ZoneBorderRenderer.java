@@ -0,0 +1,440 @@
+package org.zone.region.border;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.effect.particle.ParticleEffect;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.RegionOutline;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Draws the borders of zones and selections to players with particles. Asking for a border to be
+ * shown only marks the player, the borders are drawn at most once every
+ * {@link #getRefreshTicks()} ticks per player and no more than {@link #getParticleBudget()}
+ * particles are sent each tick across all players. Players are drawn in the order they were last
+ * drawn, so players that miss out on a tick are drawn before those already drawn. Only the parts
+ * of a border within {@link #VIEW_DISTANCE} of the player are sent
+ *
+ * @since 1.0.1
+ */
+public class ZoneBorderRenderer {
+
+    /**
+     * The amount of ticks between drawing the borders of a player, by default
+     */
+    public static final int DEFAULT_REFRESH_TICKS = 10;
+
+    /**
+     * The amount of particles sent each tick across all players, by default
+     */
+    public static final int DEFAULT_PARTICLE_BUDGET = 1024;
+
+    /**
+     * The amount of particles sent to a single player each time their borders are drawn
+     */
+    public static final int MAX_PARTICLES_PER_PLAYER = 256;
+
+    /**
+     * How far from the player the border is drawn. The client does not show particles further
+     * away than this, so sending them is wasted
+     */
+    public static final int VIEW_DISTANCE = 32;
+
+    /**
+     * How far above the player's feet the borders of zones are drawn
+     */
+    public static final int ZONE_HEIGHT_OFFSET = 2;
+
+    private final @NotNull Map<UUID, Viewer> viewers = new ConcurrentHashMap<>();
+    private volatile int refreshTicks = DEFAULT_REFRESH_TICKS;
+    private volatile int stride = 1;
+    private volatile int particleBudget = DEFAULT_PARTICLE_BUDGET;
+    private long tick;
+    private @Nullable ScheduledTask task;
+
+    private static final class Viewer {
+
+        private final @NotNull ServerPlayer player;
+        private long nextTick;
+        private long drawnTick;
+        private volatile @Nullable ZonesRequest zones;
+        private volatile @Nullable RegionRequest region;
+
+        private Viewer(@NotNull ServerPlayer player) {
+            this.player = player;
+        }
+
+        private boolean isPending() {
+            return this.zones != null || this.region != null;
+        }
+    }
+
+    private static final class ZonesRequest {
+
+        private final @NotNull ParticleEffect effect;
+        private final @NotNull Predicate<? super Zone> filter;
+
+        private ZonesRequest(@NotNull ParticleEffect effect, @NotNull Predicate<? super Zone> filter) {
+            this.effect = effect;
+            this.filter = filter;
+        }
+    }
+
+    private static final class RegionRequest {
+
+        private final @NotNull ParticleEffect effect;
+        private final @NotNull BoundedRegion region;
+        private final int y;
+        private final boolean showHeight;
+
+        private RegionRequest(
+                @NotNull ParticleEffect effect,
+                @NotNull BoundedRegion region,
+                int y,
+                boolean showHeight) {
+            this.effect = effect;
+            this.region = region;
+            this.y = y;
+            this.showHeight = showHeight;
+        }
+    }
+
+    /**
+     * Sends particles to a single player, stopping once the player's share of the budget is used
+     */
+    private static final class Drawer {
+
+        private final @NotNull ServerPlayer player;
+        private final @NotNull ParticleEffect effect;
+        private final double originX;
+        private final double originY;
+        private final double originZ;
+        private final int limit;
+        private int drawn;
+
+        private Drawer(
+                @NotNull ServerPlayer player,
+                @NotNull ParticleEffect effect,
+                @NotNull Vector3d origin,
+                int limit) {
+            this.player = player;
+            this.effect = effect;
+            this.originX = origin.x();
+            this.originY = origin.y();
+            this.originZ = origin.z();
+            this.limit = limit;
+        }
+
+        private boolean isFull() {
+            return this.drawn >= this.limit;
+        }
+
+        private boolean inView(int x, int z) {
+            double offsetX = x - this.originX;
+            double offsetZ = z - this.originZ;
+            return offsetX * offsetX + offsetZ * offsetZ <= VIEW_DISTANCE * VIEW_DISTANCE;
+        }
+
+        private boolean inView(int x, int y, int z) {
+            double offsetY = y - this.originY;
+            return Math.abs(offsetY) <= VIEW_DISTANCE && this.inView(x, z);
+        }
+
+        private boolean inView(@NotNull BoundedRegion region) {
+            double nearestX = Math.max(region.getMinX(), Math.min(region.getMaxX(), this.originX));
+            double nearestZ = Math.max(region.getMinZ(), Math.min(region.getMaxZ(), this.originZ));
+            double offsetX = nearestX - this.originX;
+            double offsetZ = nearestZ - this.originZ;
+            return offsetX * offsetX + offsetZ * offsetZ <= VIEW_DISTANCE * VIEW_DISTANCE;
+        }
+
+        private void draw(int x, int y, int z) {
+            if (this.isFull() || !this.inView(x, y, z)) {
+                return;
+            }
+            this.player.spawnParticles(this.effect, new Vector3d(x, y, z));
+            this.drawn++;
+        }
+
+        private void draw(@NotNull RegionOutline outline, int y, boolean showHeight) {
+            for (int i = 0; i < outline.size() && !this.isFull(); i++) {
+                int x = outline.getX(i);
+                int z = outline.getZ(i);
+                if (!this.inView(x, z)) {
+                    continue;
+                }
+                this.draw(x, y, z);
+                if (!showHeight) {
+                    continue;
+                }
+                this.draw(x, outline.getMinY(), z);
+                this.draw(x, outline.getMaxY(), z);
+                if (outline.isCorner(i)) {
+                    for (int height = outline.getMinY() + 1; height < outline.getMaxY(); height++) {
+                        this.draw(x, height, z);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Asks for the borders of the zones near the player to be drawn, just above the player's feet
+     *
+     * @param player The player to draw to
+     * @param effect The particle to draw with
+     * @param filter Which of the near zones to draw
+     * @since 1.0.1
+     */
+    public void showZones(
+            @NotNull ServerPlayer player,
+            @NotNull ParticleEffect effect,
+            @NotNull Predicate<? super Zone> filter) {
+        this.getViewer(player).zones = new ZonesRequest(effect, filter);
+    }
+
+    /**
+     * Asks for the border of a region to be drawn, such as the selection of a zone being created.
+     * The region is read when drawn, so changes to it since asking are shown
+     *
+     * @param player     The player to draw to
+     * @param effect     The particle to draw with
+     * @param region     The region to draw
+     * @param y          The height to draw the edge at
+     * @param showHeight If the top, bottom and corners of the region should be drawn too
+     * @since 1.0.1
+     */
+    public void showRegion(
+            @NotNull ServerPlayer player,
+            @NotNull ParticleEffect effect,
+            @NotNull BoundedRegion region,
+            int y,
+            boolean showHeight) {
+        this.getViewer(player).region = new RegionRequest(effect, region, y, showHeight);
+    }
+
+    private @NotNull Viewer getViewer(@NotNull ServerPlayer player) {
+        return this.viewers.computeIfAbsent(player.uniqueId(), uuid -> new Viewer(player));
+    }
+
+    /**
+     * Gets the amount of players that are waiting for their borders to be drawn
+     *
+     * @return The amount of players waiting
+     * @since 1.0.1
+     */
+    public int getPending() {
+        return (int) this.viewers.values().stream().filter(Viewer::isPending).count();
+    }
+
+    /**
+     * Gets the amount of ticks between drawing the borders of a single player
+     *
+     * @return The amount of ticks
+     * @since 1.0.1
+     */
+    public int getRefreshTicks() {
+        return this.refreshTicks;
+    }
+
+    /**
+     * Sets the amount of ticks between drawing the borders of a single player
+     *
+     * @param refreshTicks The amount of ticks, at least 1
+     * @since 1.0.1
+     */
+    public void setRefreshTicks(int refreshTicks) {
+        if (refreshTicks < 1) {
+            throw new IllegalArgumentException("Refresh ticks must be at least 1");
+        }
+        this.refreshTicks = refreshTicks;
+    }
+
+    /**
+     * Gets the amount of blocks between each particle along the side of a border
+     *
+     * @return The stride of the outlines drawn
+     * @since 1.0.1
+     */
+    public int getStride() {
+        return this.stride;
+    }
+
+    /**
+     * Sets the amount of blocks between each particle along the side of a border. The corners of
+     * a border are always drawn
+     *
+     * @param stride The stride, at least 1
+     * @since 1.0.1
+     */
+    public void setStride(int stride) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("Stride must be at least 1");
+        }
+        this.stride = stride;
+    }
+
+    /**
+     * Gets the amount of particles that can be sent each tick across all players
+     *
+     * @return The amount of particles
+     * @since 1.0.1
+     */
+    public int getParticleBudget() {
+        return this.particleBudget;
+    }
+
+    /**
+     * Sets the amount of particles that can be sent each tick across all players
+     *
+     * @param particleBudget The amount of particles, at least 1
+     * @since 1.0.1
+     */
+    public void setParticleBudget(int particleBudget) {
+        if (particleBudget < 1) {
+            throw new IllegalArgumentException("Particle budget must be at least 1");
+        }
+        this.particleBudget = particleBudget;
+    }
+
+    /**
+     * Starts drawing the borders each tick
+     *
+     * @since 1.0.1
+     */
+    public synchronized void start() {
+        if (this.task != null) {
+            return;
+        }
+        this.task = Sponge
+                .server()
+                .scheduler()
+                .submit(Task
+                        .builder()
+                        .plugin(ZonePlugin.getZonesPlugin().getPluginContainer())
+                        .interval(Ticks.of(1))
+                        .execute(this::tick)
+                        .build());
+    }
+
+    /**
+     * Stops drawing the borders and forgets the players waiting
+     *
+     * @since 1.0.1
+     */
+    public synchronized void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        this.viewers.clear();
+    }
+
+    @Listener
+    public void onPlayerLeave(ServerSideConnectionEvent.Disconnect event) {
+        this.viewers.remove(event.player().uniqueId());
+    }
+
+    /**
+     * Draws the borders of the players that are waiting and have not been drawn to within the
+     * refresh ticks, until the particle budget is used. This is run each tick once started
+     *
+     * @since 1.0.1
+     */
+    public synchronized void tick() {
+        long tick = ++this.tick;
+        int budget = this.particleBudget;
+        //oldest drawn first, otherwise the players past the budget would never get a turn
+        List<Viewer> waiting = this.viewers
+                .values()
+                .stream()
+                .filter(viewer -> viewer.nextTick <= tick && viewer.isPending())
+                .sorted(Comparator.comparingLong(viewer -> viewer.drawnTick))
+                .collect(Collectors.toList());
+        for (Viewer viewer : waiting) {
+            if (budget <= 0) {
+                return;
+            }
+            budget -= this.draw(viewer, Math.min(budget, MAX_PARTICLES_PER_PLAYER));
+            viewer.drawnTick = tick;
+            viewer.nextTick = tick + this.refreshTicks;
+        }
+    }
+
+    private int draw(@NotNull Viewer viewer, int limit) {
+        RegionRequest region = viewer.region;
+        ZonesRequest zones = viewer.zones;
+        viewer.region = null;
+        viewer.zones = null;
+        Vector3d origin = viewer.player.position();
+        int drawn = 0;
+        if (region != null) {
+            Drawer drawer = new Drawer(viewer.player, region.effect, origin, limit);
+            drawer.draw(region.region.getOutline(this.stride), region.y, region.showHeight);
+            drawn += drawer.drawn;
+        }
+        if (zones != null && drawn < limit) {
+            Drawer drawer = new Drawer(viewer.player, zones.effect, origin, limit - drawn);
+            this.drawZones(viewer.player, zones.filter, drawer);
+            drawn += drawer.drawn;
+        }
+        return drawn;
+    }
+
+    private void drawZones(
+            @NotNull ServerPlayer player,
+            @NotNull Predicate<? super Zone> filter,
+            @NotNull Drawer drawer) {
+        ZoneManager manager = ZonePlugin.getZonesPlugin().getZoneManager();
+        ResourceKey world = player.world().key();
+        Vector3i position = player.position().toInt();
+        int y = position.y() + ZONE_HEIGHT_OFFSET;
+        Set<Zone> drawnZones = new HashSet<>();
+        for (int chunkX = (position.x() - VIEW_DISTANCE) >> 4;
+             chunkX <= (position.x() + VIEW_DISTANCE) >> 4; chunkX++) {
+            for (int chunkZ = (position.z() - VIEW_DISTANCE) >> 4;
+                 chunkZ <= (position.z() + VIEW_DISTANCE) >> 4; chunkZ++) {
+                for (Zone zone : manager.getChunkZones(world, chunkX, chunkZ).getZones()) {
+                    if (drawer.isFull()) {
+                        return;
+                    }
+                    if (!drawnZones.add(zone) || !filter.test(zone)) {
+                        continue;
+                    }
+                    for (BoundedRegion region : zone.getRegion().getTrueChildren()) {
+                        if (!drawer.inView(region)) {
+                            continue;
+                        }
+                        //a sub zone has a height, so keep its border within it
+                        int drawY = zone.getParentId().isEmpty() ?
+                                y :
+                                Math.max(region.getMinY(), Math.min(region.getMaxY(), y));
+                        drawer.draw(region.getOutline(this.stride), drawY, false);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.zone.region.bounds;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.world.World;
@@ -13,6 +14,7 @@ import org.spongepowered.math.vector.Vector3i;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An actual region that is between two points
@@ -23,16 +25,33 @@ public class BoundedRegion implements Region {
 
     private @NotNull Vector3i position1;
     private @NotNull Vector3i position2;
+    private int minX;
+    private int minY;
+    private int minZ;
+    private int maxX;
+    private int maxY;
+    private int maxZ;
+    private final @NotNull AtomicLong version = new AtomicLong();
+    private final @NotNull RegionParents parents = new RegionParents();
+    private volatile @Nullable RegionOutline outline;
 
     public BoundedRegion(@NotNull Vector3i position1, @NotNull Vector3i position2) {
         this.position1 = position1;
         this.position2 = position2;
+        this.updateBounds();
+    }
+
+    private void updateBounds() {
+        this.minX = Math.min(this.position1.x(), this.position2.x());
+        this.minY = Math.min(this.position1.y(), this.position2.y());
+        this.minZ = Math.min(this.position1.z(), this.position2.z());
+        this.maxX = Math.max(this.position1.x(), this.position2.x());
+        this.maxY = Math.max(this.position1.y(), this.position2.y());
+        this.maxZ = Math.max(this.position1.z(), this.position2.z());
     }
 
     public @NotNull Vector3i getSize() {
-        Vector3i min = this.getMin();
-        Vector3i max = this.getMax();
-        return new Vector3i(max.x() - min.x(), max.y() - min.y(), max.z() - min.z());
+        return new Vector3i(this.maxX - this.minX, this.maxY - this.minY, this.maxZ - this.minZ);
     }
 
     public int getBlockCount(boolean ignoreHeight) {
@@ -69,33 +88,186 @@ public class BoundedRegion implements Region {
             case ONE -> this.position1 = vector3i;
             case TWO -> this.position2 = vector3i;
         }
+        this.updateBounds();
+        this.clearOutline();
+        this.version.incrementAndGet();
+        this.parents.changed();
+    }
+
+    /**
+     * Gets the version of this region, which changes whenever the region is moved or reshaped.
+     * Only this region's version changes, so changing a region that is not part of a zone, such
+     * as a selection, does not make the caches of other regions out of date
+     *
+     * @return The version of the region
+     * @since 1.0.1
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    @NotNull RegionParents getParents() {
+        return this.parents;
+    }
+
+    /**
+     * Gets the columns along the edge of the region. The outline is kept until the region
+     * changes, so asking again with the same stride does not walk the edge again
+     *
+     * @param stride The amount of columns between each kept column along a side, 1 keeps every
+     *               column
+     *
+     * @return The outline of the region
+     * @since 1.0.1
+     */
+    public @NotNull RegionOutline getOutline(int stride) {
+        RegionOutline outline = this.outline;
+        if (outline != null && outline.getStride() == stride) {
+            return outline;
+        }
+        outline = this.createOutline(stride);
+        this.outline = outline;
+        return outline;
+    }
+
+    /**
+     * Walks the edge of the region. Regions that are not a box walk their own shape
+     *
+     * @param stride The amount of columns between each kept column along a side
+     *
+     * @return The outline of the region
+     * @since 1.0.1
+     */
+    protected @NotNull RegionOutline createOutline(int stride) {
+        if (this.minX == this.maxX || this.minZ == this.maxZ) {
+            //a box a single block thin is a line, so walk it once rather than there and back
+            return RegionOutline.walk(new int[]{this.minX, this.maxX},
+                    new int[]{this.minZ, this.maxZ},
+                    new boolean[]{true, true},
+                    false,
+                    stride,
+                    this.minY,
+                    this.maxY);
+        }
+        return RegionOutline.walk(new int[]{this.minX, this.maxX, this.maxX, this.minX},
+                new int[]{this.minZ, this.minZ, this.maxZ, this.maxZ},
+                new boolean[]{true, true, true, true},
+                true,
+                stride,
+                this.minY,
+                this.maxY);
+    }
+
+    void clearOutline() {
+        this.outline = null;
     }
 
     public @NotNull Vector3i getMin() {
-        int minX = Math.min(this.position1.x(), this.position2.x());
-        int minY = Math.min(this.position1.y(), this.position2.y());
-        int minZ = Math.min(this.position1.z(), this.position2.z());
-        return new Vector3i(minX, minY, minZ);
+        return new Vector3i(this.minX, this.minY, this.minZ);
     }
 
     public @NotNull Vector3i getMax() {
-        int maxX = Math.max(this.position1.x(), this.position2.x());
-        int maxY = Math.max(this.position1.y(), this.position2.y());
-        int maxZ = Math.max(this.position1.z(), this.position2.z());
-        return new Vector3i(maxX, maxY, maxZ);
+        return new Vector3i(this.maxX, this.maxY, this.maxZ);
+    }
+
+    /**
+     * Gets the lowest x of the region, this does not create a vector like {@link #getMin()}
+     *
+     * @return The lowest x
+     * @since 1.0.1
+     */
+    public int getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Gets the lowest y of the region
+     *
+     * @return The lowest y
+     * @since 1.0.1
+     */
+    public int getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Gets the lowest z of the region
+     *
+     * @return The lowest z
+     * @since 1.0.1
+     */
+    public int getMinZ() {
+        return this.minZ;
+    }
+
+    /**
+     * Gets the highest x of the region, this does not create a vector like {@link #getMax()}
+     *
+     * @return The highest x
+     * @since 1.0.1
+     */
+    public int getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Gets the highest y of the region
+     *
+     * @return The highest y
+     * @since 1.0.1
+     */
+    public int getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Gets the highest z of the region
+     *
+     * @return The highest z
+     * @since 1.0.1
+     */
+    public int getMaxZ() {
+        return this.maxZ;
     }
 
     @Override
     public boolean contains(@NotNull Vector3d location, boolean ignoreY) {
-        Vector3i max = this.getMax();
-        Vector3i min = this.getMin();
-        if (!(min.x() <= location.x() && max.x() >= location.x())) {
-            return false;
-        }
-        if (!ignoreY && !(min.y() <= location.y() && max.y() >= location.y())) {
+        return this.contains(location.x(), location.y(), location.z(), ignoreY);
+    }
+
+    /**
+     * Checks if the position is contained within this region without creating any objects
+     *
+     * @param x       The x position
+     * @param y       The y position
+     * @param z       The z position
+     * @param ignoreY true will ignore the height
+     *
+     * @return True if the region contains the position
+     * @since 1.0.1
+     */
+    @Override
+    public boolean contains(double x, double y, double z, boolean ignoreY) {
+        if (x < this.minX || x > this.maxX || z < this.minZ || z > this.maxZ) {
             return false;
         }
-        return min.z() <= location.z() && max.z() >= location.z();
+        return ignoreY || (y >= this.minY && y <= this.maxY);
+    }
+
+    /**
+     * Checks if every block column between the provided corners is within this region, at any
+     * height. A shape that can not cheaply be sure of this returns false
+     *
+     * @param minX The lowest x of the columns
+     * @param minZ The lowest z of the columns
+     * @param maxX The highest x of the columns
+     * @param maxZ The highest z of the columns
+     *
+     * @return True if all the columns are within the region
+     * @since 1.0.1
+     */
+    public boolean containsColumns(int minX, int minZ, int maxX, int maxZ) {
+        return this.minX <= minX && this.maxX >= maxX && this.minZ <= minZ && this.maxZ >= maxZ;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.zone.region.bounds;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.world.World;
 import org.spongepowered.configurate.ConfigurationNode;
@@ -10,6 +11,7 @@ import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -20,6 +22,52 @@ import java.util.stream.Collectors;
 public class ChildRegion implements Region {
 
     private final @NotNull Collection<Region> bounds = new HashSet<>();
+    private final @NotNull AtomicLong version = new AtomicLong();
+    private final @NotNull RegionParents parents = new RegionParents();
+    private volatile @Nullable Flattened flattened;
+
+    /**
+     * The bounded regions found within a child region along with the box that encloses all of
+     * them, so a position outside the box can be rejected without checking each region
+     */
+    private static final class Flattened {
+
+        private final long version;
+        private final @NotNull BoundedRegion @NotNull [] regions;
+        private final @NotNull Collection<BoundedRegion> view;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+
+        private Flattened(long version, @NotNull Collection<BoundedRegion> regions) {
+            this.version = version;
+            this.regions = regions.toArray(BoundedRegion[]::new);
+            this.view = Collections.unmodifiableList(Arrays.asList(this.regions));
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            int maxZ = Integer.MIN_VALUE;
+            for (BoundedRegion region : this.regions) {
+                minX = Math.min(minX, region.getMinX());
+                minY = Math.min(minY, region.getMinY());
+                minZ = Math.min(minZ, region.getMinZ());
+                maxX = Math.max(maxX, region.getMaxX());
+                maxY = Math.max(maxY, region.getMaxY());
+                maxZ = Math.max(maxZ, region.getMaxZ());
+            }
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+    }
 
     public ChildRegion() {
         this(Collections.emptyList());
@@ -27,6 +75,7 @@ public class ChildRegion implements Region {
 
     public ChildRegion(@NotNull Collection<? extends Region> bounds) {
         this.bounds.addAll(bounds);
+        this.bounds.forEach(this::hold);
     }
 
     /**
@@ -36,7 +85,12 @@ public class ChildRegion implements Region {
      * @since 1.0.0
      */
     public boolean add(@NotNull Region region) {
-        return this.bounds.add(region);
+        boolean added = this.bounds.add(region);
+        if (added) {
+            this.hold(region);
+            this.changed();
+        }
+        return added;
     }
 
     /**
@@ -46,12 +100,153 @@ public class ChildRegion implements Region {
      * @since 1.0.0
      */
     public boolean remove(@NotNull Region region) {
-        return this.bounds.remove(region);
+        boolean removed = this.bounds.remove(region);
+        if (removed) {
+            this.release(region);
+            this.changed();
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the version of this region, which goes up whenever a region is added to or removed
+     * from this region or any region within it is changed. This can be used to tell if something
+     * that was worked out from the bounds of this region is out of date
+     *
+     * @return The version of the region
+     * @since 1.0.1
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Counts a change to this region and passes it up to the child regions holding this one
+     */
+    void changed() {
+        this.version.incrementAndGet();
+        this.parents.changed();
+    }
+
+    private void hold(@NotNull Region region) {
+        if (region instanceof BoundedRegion bounded) {
+            bounded.getParents().add(this);
+        } else if (region instanceof ChildRegion child) {
+            child.parents.add(this);
+        }
+    }
+
+    private void release(@NotNull Region region) {
+        if (region instanceof BoundedRegion bounded) {
+            bounded.getParents().remove(this);
+        } else if (region instanceof ChildRegion child) {
+            child.parents.remove(this);
+        }
+    }
+
+    private @NotNull Flattened getFlattened() {
+        long version = this.getVersion();
+        Flattened flattened = this.flattened;
+        if (flattened != null && flattened.version == version) {
+            return flattened;
+        }
+        Collection<BoundedRegion> regions = new LinkedHashSet<>();
+        this.flatten(regions);
+        flattened = new Flattened(version, regions);
+        this.flattened = flattened;
+        return flattened;
+    }
+
+    private void flatten(@NotNull Collection<BoundedRegion> into) {
+        for (Region region : this.bounds) {
+            if (region instanceof BoundedRegion bounded) {
+                into.add(bounded);
+            } else if (region instanceof ChildRegion child) {
+                child.flatten(into);
+            } else {
+                into.addAll(region.getTrueChildren());
+            }
+        }
+    }
+
+    /**
+     * Checks if the region has no bounded regions within it
+     *
+     * @return If the region covers nothing
+     * @since 1.0.1
+     */
+    public boolean isEmpty() {
+        return this.getFlattened().regions.length == 0;
+    }
+
+    /**
+     * Gets the lowest corner of the box that encloses all the bounded regions within this region.
+     * If the region is empty then each value is {@link Integer#MAX_VALUE}
+     *
+     * @return The lowest corner
+     * @since 1.0.1
+     */
+    public @NotNull Vector3i getMin() {
+        Flattened flattened = this.getFlattened();
+        return new Vector3i(flattened.minX, flattened.minY, flattened.minZ);
+    }
+
+    /**
+     * Gets the highest corner of the box that encloses all the bounded regions within this
+     * region. If the region is empty then each value is {@link Integer#MIN_VALUE}
+     *
+     * @return The highest corner
+     * @since 1.0.1
+     */
+    public @NotNull Vector3i getMax() {
+        Flattened flattened = this.getFlattened();
+        return new Vector3i(flattened.maxX, flattened.maxY, flattened.maxZ);
     }
 
     @Override
     public boolean contains(@NotNull Vector3d location, boolean ignoreY) {
-        return this.bounds.stream().anyMatch(bound -> bound.contains(location, ignoreY));
+        return this.contains(location.x(), location.y(), location.z(), ignoreY);
+    }
+
+    /**
+     * Checks if the position is contained within this region without creating any objects. The
+     * box enclosing the region is checked first
+     *
+     * @param x       The x position
+     * @param y       The y position
+     * @param z       The z position
+     * @param ignoreY true will ignore the height
+     *
+     * @return True if the region contains the position
+     * @since 1.0.1
+     */
+    @Override
+    public boolean contains(double x, double y, double z, boolean ignoreY) {
+        Flattened flattened = this.getFlattened();
+        if (x < flattened.minX || x > flattened.maxX || z < flattened.minZ || z > flattened.maxZ) {
+            return false;
+        }
+        if (!ignoreY && (y < flattened.minY || y > flattened.maxY)) {
+            return false;
+        }
+        for (BoundedRegion region : flattened.regions) {
+            if (region.contains(x, y, z, ignoreY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets all the {@link BoundedRegion} found within this region. The regions are cached until
+     * this region or any of the regions within it are changed
+     *
+     * @return An unmodifiable collection of the bounded regions
+     * @since 1.0.0
+     */
+    @Override
+    public @NotNull Collection<BoundedRegion> getTrueChildren() {
+        return this.getFlattened().view;
     }
 
     @Override
@@ -121,6 +316,15 @@ public class ChildRegion implements Region {
         Set<Region> regions = new HashSet<>();
 
         for (ConfigurationNode childNode : children) {
+            String shape = childNode.node("shape").getString();
+            if (PolygonRegion.SHAPE.equals(shape)) {
+                regions.add(PolygonRegion.load(childNode));
+                continue;
+            }
+            if (CylinderRegion.SHAPE.equals(shape)) {
+                regions.add(CylinderRegion.load(childNode));
+                continue;
+            }
             if (childNode.node("pos1").virtual()) {
                 regions.add(ChildRegion.load(childNode));
                 continue;
@@ -0,0 +1,203 @@
+package org.zone.region.bounds;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.world.World;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.math.vector.Vector2d;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A region that is an upright cylinder between two heights. The box enclosing the cylinder is
+ * used as the bounds, so the spatial lookups find it like any other {@link BoundedRegion}
+ *
+ * @since 1.0.1
+ */
+public class CylinderRegion extends BoundedRegion {
+
+    /**
+     * The value of the shape node when saved
+     */
+    public static final String SHAPE = "cylinder";
+
+    private double centerX;
+    private double centerZ;
+    private double radius;
+    private double radiusSquared;
+
+    public CylinderRegion(@NotNull Vector2i center, int radius, int minY, int maxY) {
+        this(center.x(), center.y(), radius, minY, maxY);
+    }
+
+    private CylinderRegion(double centerX, double centerZ, double radius, int minY, int maxY) {
+        super(new Vector3i(Math.floor(centerX - radius), minY, Math.floor(centerZ - radius)),
+                new Vector3i(Math.ceil(centerX + radius), maxY, Math.ceil(centerZ + radius)));
+        this.setShape(centerX, centerZ, radius);
+    }
+
+    private void setShape(double centerX, double centerZ, double radius) {
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = Math.max(radius, 0);
+        this.radiusSquared = this.radius * this.radius;
+        this.clearOutline();
+    }
+
+    /**
+     * Gets the center of the cylinder
+     *
+     * @return The x and z of the center
+     * @since 1.0.1
+     */
+    public @NotNull Vector2d getCenterPosition() {
+        return new Vector2d(this.centerX, this.centerZ);
+    }
+
+    /**
+     * Gets the radius of the cylinder
+     *
+     * @return The radius
+     * @since 1.0.1
+     */
+    public double getRadius() {
+        return this.radius;
+    }
+
+    /**
+     * Moves a corner of the enclosing box. The cylinder is refitted to the largest circle the new
+     * box can hold
+     *
+     * @param type     The corner to move
+     * @param vector3i The new position of the corner
+     */
+    @Override
+    public void setPosition(@NotNull PositionType type, @NotNull Vector3i vector3i) {
+        super.setPosition(type, vector3i);
+        double width = this.getMaxX() - this.getMinX();
+        double depth = this.getMaxZ() - this.getMinZ();
+        this.setShape(this.getMinX() + width / 2,
+                this.getMinZ() + depth / 2,
+                Math.min(width, depth) / 2);
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z, boolean ignoreY) {
+        if (!super.contains(x, y, z, ignoreY)) {
+            return false;
+        }
+        double offsetX = x - this.centerX;
+        double offsetZ = z - this.centerZ;
+        return offsetX * offsetX + offsetZ * offsetZ <= this.radiusSquared;
+    }
+
+    @Override
+    public boolean containsColumns(int minX, int minZ, int maxX, int maxZ) {
+        //a circle holds the box if it holds each corner
+        return this.contains(minX, this.getMinY(), minZ, true) &&
+                this.contains(minX, this.getMinY(), maxZ, true) &&
+                this.contains(maxX, this.getMinY(), minZ, true) &&
+                this.contains(maxX, this.getMinY(), maxZ, true);
+    }
+
+    @Override
+    protected @NotNull RegionOutline createOutline(int stride) {
+        Vector2i center = this.getNearestColumn((int) Math.round(this.centerX),
+                (int) Math.round(this.centerZ));
+        if (this.radius < 1) {
+            return RegionOutline.walk(new int[]{center.x()},
+                    new int[]{center.y()},
+                    new boolean[]{true},
+                    false,
+                    stride,
+                    this.getMinY(),
+                    this.getMaxY());
+        }
+        //enough corners that each side is about a block long, the four facing each way show
+        //the height
+        int quarter = (int) Math.ceil(Math.PI * this.radius / 2);
+        int[] cornersX = new int[quarter * 4];
+        int[] cornersZ = new int[quarter * 4];
+        boolean[] corner = new boolean[quarter * 4];
+        for (int i = 0; i < cornersX.length; i++) {
+            double angle = Math.PI * 2 * i / cornersX.length;
+            double offsetX = Math.cos(angle) * this.radius;
+            double offsetZ = Math.sin(angle) * this.radius;
+            //round towards the center so the edge stays within the cylinder
+            cornersX[i] = (int) (offsetX < 0 ?
+                    Math.ceil(this.centerX + offsetX) :
+                    Math.floor(this.centerX + offsetX));
+            cornersZ[i] = (int) (offsetZ < 0 ?
+                    Math.ceil(this.centerZ + offsetZ) :
+                    Math.floor(this.centerZ + offsetZ));
+            corner[i] = i % quarter == 0;
+        }
+        return RegionOutline.walk(cornersX,
+                cornersZ,
+                corner,
+                true,
+                stride,
+                this.getMinY(),
+                this.getMaxY());
+    }
+
+    @Override
+    public Collection<? extends Entity> getEntities(@NotNull World<?, ?> world) {
+        return world.entities(this.asAABB(), entity -> this.contains(entity.position(), false));
+    }
+
+    @Override
+    public @NotNull Optional<Vector3i> getNearestPosition(@NotNull Vector3i vector3i) {
+        Vector2i nearest = this.getNearestColumn(vector3i.x(), vector3i.z());
+        int y = Math.max(this.getMinY(), Math.min(this.getMaxY(), vector3i.y()));
+        return Optional.of(new Vector3i(nearest.x(), y, nearest.y()));
+    }
+
+    @Override
+    public @NotNull Optional<Vector2i> getNearestPosition(@NotNull Vector2i vector) {
+        return Optional.of(this.getNearestColumn(vector.x(), vector.y()));
+    }
+
+    private @NotNull Vector2i getNearestColumn(int x, int z) {
+        double offsetX = x - this.centerX;
+        double offsetZ = z - this.centerZ;
+        double distanceSquared = offsetX * offsetX + offsetZ * offsetZ;
+        if (distanceSquared <= this.radiusSquared) {
+            return new Vector2i(x, z);
+        }
+        double scale = this.radius / Math.sqrt(distanceSquared);
+        //round towards the center so the position stays within the cylinder
+        double nearestX = this.centerX + offsetX * scale;
+        double nearestZ = this.centerZ + offsetZ * scale;
+        return new Vector2i(offsetX < 0 ? Math.ceil(nearestX) : Math.floor(nearestX),
+                offsetZ < 0 ? Math.ceil(nearestZ) : Math.floor(nearestZ));
+    }
+
+    @Override
+    public void save(@NotNull ConfigurationNode node) throws SerializationException {
+        CylinderRegion.save(node, this);
+    }
+
+    public static @NotNull CylinderRegion load(@NotNull ConfigurationNode node) {
+        double centerX = node.node("center", "x").getDouble();
+        double centerZ = node.node("center", "z").getDouble();
+        double radius = node.node("radius").getDouble();
+        int minY = node.node("height", "min").getInt();
+        int maxY = node.node("height", "max").getInt();
+        return new CylinderRegion(centerX, centerZ, radius, minY, maxY);
+    }
+
+    public static void save(@NotNull ConfigurationNode node, @NotNull CylinderRegion region) throws
+            SerializationException {
+        node.node("shape").set(SHAPE);
+        node.node("center", "x").set(region.centerX);
+        node.node("center", "z").set(region.centerZ);
+        node.node("radius").set(region.radius);
+        node.node("height", "min").set(region.getMinY());
+        node.node("height", "max").set(region.getMaxY());
+    }
+}
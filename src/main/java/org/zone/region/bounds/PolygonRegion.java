@@ -0,0 +1,251 @@
+package org.zone.region.bounds;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.world.World;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A region that is a flat polygon stretched between two heights. The box enclosing the polygon is
+ * used as the bounds, so the spatial lookups find it like any other {@link BoundedRegion}. The
+ * edges of the polygon are worked out when the points change, so checking a position only does
+ * the sums for the edges that span its z
+ *
+ * @since 1.0.1
+ */
+public class PolygonRegion extends BoundedRegion {
+
+    /**
+     * The value of the shape node when saved
+     */
+    public static final String SHAPE = "polygon";
+
+    private int @NotNull [] pointsX;
+    private int @NotNull [] pointsZ;
+
+    //the edges, each from point i to point i + 1, with the lower z first
+    private double @NotNull [] edgeMinZ;
+    private double @NotNull [] edgeMaxZ;
+    private double @NotNull [] edgeStartX;
+    private double @NotNull [] edgeSlope;
+
+    public PolygonRegion(@NotNull List<Vector2i> points, int minY, int maxY) {
+        super(new Vector3i(points.stream().mapToInt(Vector2i::x).min().orElse(0),
+                        minY,
+                        points.stream().mapToInt(Vector2i::y).min().orElse(0)),
+                new Vector3i(points.stream().mapToInt(Vector2i::x).max().orElse(0),
+                        maxY,
+                        points.stream().mapToInt(Vector2i::y).max().orElse(0)));
+        if (points.size() < 3) {
+            throw new IllegalArgumentException("A polygon needs at least 3 points");
+        }
+        this.setPoints(points.stream().mapToInt(Vector2i::x).toArray(),
+                points.stream().mapToInt(Vector2i::y).toArray());
+    }
+
+    private void setPoints(int @NotNull [] pointsX, int @NotNull [] pointsZ) {
+        int length = pointsX.length;
+        this.pointsX = pointsX;
+        this.pointsZ = pointsZ;
+        this.edgeMinZ = new double[length];
+        this.edgeMaxZ = new double[length];
+        this.edgeStartX = new double[length];
+        this.edgeSlope = new double[length];
+        for (int i = 0; i < length; i++) {
+            int next = (i + 1) % length;
+            boolean forwards = pointsZ[i] <= pointsZ[next];
+            int lowX = forwards ? pointsX[i] : pointsX[next];
+            int lowZ = forwards ? pointsZ[i] : pointsZ[next];
+            int highX = forwards ? pointsX[next] : pointsX[i];
+            int highZ = forwards ? pointsZ[next] : pointsZ[i];
+            this.edgeMinZ[i] = lowZ;
+            this.edgeMaxZ[i] = highZ;
+            this.edgeStartX[i] = lowX;
+            this.edgeSlope[i] = highZ == lowZ ? 0 : (double) (highX - lowX) / (highZ - lowZ);
+        }
+        this.clearOutline();
+    }
+
+    /**
+     * Gets the points of the polygon in order
+     *
+     * @return The x and z of each point
+     * @since 1.0.1
+     */
+    public @NotNull List<Vector2i> getPoints() {
+        List<Vector2i> points = new ArrayList<>(this.pointsX.length);
+        for (int i = 0; i < this.pointsX.length; i++) {
+            points.add(new Vector2i(this.pointsX[i], this.pointsZ[i]));
+        }
+        return points;
+    }
+
+    /**
+     * Moves a corner of the enclosing box. The points of the polygon are stretched from the old
+     * box into the new box
+     *
+     * @param type     The corner to move
+     * @param vector3i The new position of the corner
+     */
+    @Override
+    public void setPosition(@NotNull PositionType type, @NotNull Vector3i vector3i) {
+        int oldMinX = this.getMinX();
+        int oldMinZ = this.getMinZ();
+        int oldWidth = this.getMaxX() - oldMinX;
+        int oldDepth = this.getMaxZ() - oldMinZ;
+        super.setPosition(type, vector3i);
+        int width = this.getMaxX() - this.getMinX();
+        int depth = this.getMaxZ() - this.getMinZ();
+        int[] pointsX = new int[this.pointsX.length];
+        int[] pointsZ = new int[this.pointsZ.length];
+        for (int i = 0; i < pointsX.length; i++) {
+            pointsX[i] = this.getMinX() + stretch(this.pointsX[i] - oldMinX, oldWidth, width);
+            pointsZ[i] = this.getMinZ() + stretch(this.pointsZ[i] - oldMinZ, oldDepth, depth);
+        }
+        this.setPoints(pointsX, pointsZ);
+    }
+
+    private static int stretch(int offset, int from, int to) {
+        if (from == 0) {
+            return Math.min(offset, to);
+        }
+        return (int) Math.round((double) offset * to / from);
+    }
+
+    @Override
+    public boolean contains(double x, double y, double z, boolean ignoreY) {
+        if (!super.contains(x, y, z, ignoreY)) {
+            return false;
+        }
+        boolean inside = false;
+        for (int i = 0; i < this.edgeMinZ.length; i++) {
+            double minZ = this.edgeMinZ[i];
+            double maxZ = this.edgeMaxZ[i];
+            if (z < minZ || z > maxZ) {
+                continue;
+            }
+            if (minZ == maxZ) {
+                //a flat edge, only matters if the position is on it
+                int next = (i + 1) % this.pointsX.length;
+                if (x >= Math.min(this.pointsX[i], this.pointsX[next]) &&
+                        x <= Math.max(this.pointsX[i], this.pointsX[next])) {
+                    return true;
+                }
+                continue;
+            }
+            double edgeX = this.edgeStartX[i] + (z - minZ) * this.edgeSlope[i];
+            if (x == edgeX) {
+                return true;
+            }
+            //half open so a point level with a vertex is only counted once
+            if (z < maxZ && x < edgeX) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    @Override
+    public boolean containsColumns(int minX, int minZ, int maxX, int maxZ) {
+        //a polygon may be concave, so holding the corners does not mean it holds the box
+        return false;
+    }
+
+    @Override
+    protected @NotNull RegionOutline createOutline(int stride) {
+        boolean[] corner = new boolean[this.pointsX.length];
+        Arrays.fill(corner, true);
+        return RegionOutline.walk(this.pointsX,
+                this.pointsZ,
+                corner,
+                true,
+                stride,
+                this.getMinY(),
+                this.getMaxY());
+    }
+
+    @Override
+    public Collection<? extends Entity> getEntities(@NotNull World<?, ?> world) {
+        return world.entities(this.asAABB(), entity -> this.contains(entity.position(), false));
+    }
+
+    @Override
+    public @NotNull Optional<Vector3i> getNearestPosition(@NotNull Vector3i vector3i) {
+        Vector2i nearest = this.getNearestColumn(vector3i.x(), vector3i.z());
+        int y = Math.max(this.getMinY(), Math.min(this.getMaxY(), vector3i.y()));
+        return Optional.of(new Vector3i(nearest.x(), y, nearest.y()));
+    }
+
+    @Override
+    public @NotNull Optional<Vector2i> getNearestPosition(@NotNull Vector2i vector) {
+        return Optional.of(this.getNearestColumn(vector.x(), vector.y()));
+    }
+
+    private @NotNull Vector2i getNearestColumn(int x, int z) {
+        if (this.contains(x, this.getMinY(), z, true)) {
+            return new Vector2i(x, z);
+        }
+        double nearestX = x;
+        double nearestZ = z;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < this.pointsX.length; i++) {
+            int next = (i + 1) % this.pointsX.length;
+            double startX = this.pointsX[i];
+            double startZ = this.pointsZ[i];
+            double edgeX = this.pointsX[next] - startX;
+            double edgeZ = this.pointsZ[next] - startZ;
+            double lengthSquared = edgeX * edgeX + edgeZ * edgeZ;
+            double along = lengthSquared == 0 ?
+                    0 :
+                    ((x - startX) * edgeX + (z - startZ) * edgeZ) / lengthSquared;
+            along = Math.max(0, Math.min(1, along));
+            double pointX = startX + edgeX * along;
+            double pointZ = startZ + edgeZ * along;
+            double distance = (x - pointX) * (x - pointX) + (z - pointZ) * (z - pointZ);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearestX = pointX;
+                nearestZ = pointZ;
+            }
+        }
+        return new Vector2i(Math.round(nearestX), Math.round(nearestZ));
+    }
+
+    @Override
+    public void save(@NotNull ConfigurationNode node) throws SerializationException {
+        PolygonRegion.save(node, this);
+    }
+
+    public static @NotNull PolygonRegion load(@NotNull ConfigurationNode node) {
+        List<Vector2i> points = new ArrayList<>();
+        for (ConfigurationNode pointNode : node.node("points").childrenList()) {
+            points.add(new Vector2i(pointNode.node("x").getInt(), pointNode.node("z").getInt()));
+        }
+        int minY = node.node("height", "min").getInt();
+        int maxY = node.node("height", "max").getInt();
+        return new PolygonRegion(points, minY, maxY);
+    }
+
+    public static void save(@NotNull ConfigurationNode node, @NotNull PolygonRegion region) throws
+            SerializationException {
+        node.node("shape").set(SHAPE);
+        ConfigurationNode pointsNode = node.node("points");
+        pointsNode.set(null);
+        for (int i = 0; i < region.pointsX.length; i++) {
+            ConfigurationNode pointNode = pointsNode.appendListNode();
+            pointNode.node("x").set(region.pointsX[i]);
+            pointNode.node("z").set(region.pointsZ[i]);
+        }
+        node.node("height", "min").set(region.getMinY());
+        node.node("height", "max").set(region.getMaxY());
+    }
+}
@@ -108,7 +108,38 @@ public interface Region {
      * @since 1.0.0
      */
     default boolean contains(@NotNull Vector3i vector3i, boolean ignoreY) {
-        return this.contains(vector3i.toDouble(), ignoreY);
+        return this.contains(vector3i.x(), vector3i.y(), vector3i.z(), ignoreY);
+    }
+
+    /**
+     * Checks if the provided position is contained within the region. Regions that are checked
+     * often should override this so no vector is created
+     *
+     * @param x       The x position
+     * @param y       The y position
+     * @param z       The z position
+     * @param ignoreY if true, the height will be ignored in the check
+     *
+     * @return If true, the position is contained
+     * @since 1.0.1
+     */
+    default boolean contains(double x, double y, double z, boolean ignoreY) {
+        return this.contains(new Vector3d(x, y, z), ignoreY);
+    }
+
+    /**
+     * Checks if the provided block position is contained within the region
+     *
+     * @param x       The x of the block
+     * @param y       The y of the block
+     * @param z       The z of the block
+     * @param ignoreY if true, the height will be ignored in the check
+     *
+     * @return If true, the position is contained
+     * @since 1.0.1
+     */
+    default boolean contains(int x, int y, int z, boolean ignoreY) {
+        return this.contains((double) x, (double) y, (double) z, ignoreY);
     }
 
     /**
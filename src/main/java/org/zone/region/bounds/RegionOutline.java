@@ -0,0 +1,226 @@
+package org.zone.region.bounds;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The columns along the edge of a {@link BoundedRegion}, in order around the edge. The outline is
+ * walked from the corners of the region's shape, so making one only costs the length of the edge
+ * no matter the area of the region. A stride above 1 keeps only every so many columns along each
+ * side, the corners are always kept
+ *
+ * @since 1.0.1
+ */
+public final class RegionOutline {
+
+    /**
+     * Something that takes a block position without creating a vector for it
+     *
+     * @since 1.0.1
+     */
+    @FunctionalInterface
+    public interface PositionConsumer {
+
+        /**
+         * Takes a block position
+         *
+         * @param x The x of the block
+         * @param y The y of the block
+         * @param z The z of the block
+         * @since 1.0.1
+         */
+        void accept(int x, int y, int z);
+    }
+
+    private final int @NotNull [] columnsX;
+    private final int @NotNull [] columnsZ;
+    private final boolean @NotNull [] corners;
+    private final int stride;
+    private final int minY;
+    private final int maxY;
+
+    private RegionOutline(
+            int @NotNull [] columnsX,
+            int @NotNull [] columnsZ,
+            boolean @NotNull [] corners,
+            int stride,
+            int minY,
+            int maxY) {
+        this.columnsX = columnsX;
+        this.columnsZ = columnsZ;
+        this.corners = corners;
+        this.stride = stride;
+        this.minY = minY;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Walks the sides between the given corners. Each side runs from its corner up to, but not
+     * including, the next corner, so no column is given twice. An open outline also keeps its last
+     * corner, a closed one joins its last corner back to the first
+     *
+     * @param cornersX The x of each corner in order
+     * @param cornersZ The z of each corner in order
+     * @param corner   If each corner should be counted as a corner of the region, where its
+     *                 height is shown. Corners that only smooth a curve are not
+     * @param closed   If the last corner joins back to the first
+     * @param stride   The amount of columns between each kept column along a side
+     * @param minY     The bottom of the region
+     * @param maxY     The top of the region
+     *
+     * @return The outline
+     */
+    static @NotNull RegionOutline walk(
+            int @NotNull [] cornersX,
+            int @NotNull [] cornersZ,
+            boolean @NotNull [] corner,
+            boolean closed,
+            int stride,
+            int minY,
+            int maxY) {
+        if (stride < 1) {
+            throw new IllegalArgumentException("Stride must be at least 1");
+        }
+        int sides = closed ? cornersX.length : cornersX.length - 1;
+        int capacity = 1;
+        for (int i = 0; i < sides; i++) {
+            int next = (i + 1) % cornersX.length;
+            int steps = Math.max(Math.abs(cornersX[next] - cornersX[i]),
+                    Math.abs(cornersZ[next] - cornersZ[i]));
+            capacity += (steps + stride - 1) / stride;
+        }
+        int[] columnsX = new int[capacity];
+        int[] columnsZ = new int[capacity];
+        boolean[] corners = new boolean[capacity];
+        int size = 0;
+        for (int i = 0; i < sides; i++) {
+            int next = (i + 1) % cornersX.length;
+            int offsetX = cornersX[next] - cornersX[i];
+            int offsetZ = cornersZ[next] - cornersZ[i];
+            int steps = Math.max(Math.abs(offsetX), Math.abs(offsetZ));
+            for (int step = 0; step < steps; step += stride) {
+                columnsX[size] = cornersX[i] + (int) Math.round((double) offsetX * step / steps);
+                columnsZ[size] = cornersZ[i] + (int) Math.round((double) offsetZ * step / steps);
+                corners[size] = step == 0 && corner[i];
+                size++;
+            }
+        }
+        if (!closed && cornersX.length > 0) {
+            int last = cornersX.length - 1;
+            columnsX[size] = cornersX[last];
+            columnsZ[size] = cornersZ[last];
+            corners[size] = corner[last];
+            size++;
+        }
+        return new RegionOutline(Arrays.copyOf(columnsX, size),
+                Arrays.copyOf(columnsZ, size),
+                Arrays.copyOf(corners, size),
+                stride,
+                minY,
+                maxY);
+    }
+
+    /**
+     * Gets the amount of columns in the outline
+     *
+     * @return The amount of columns
+     * @since 1.0.1
+     */
+    public int size() {
+        return this.columnsX.length;
+    }
+
+    /**
+     * Gets the x of a column in the outline
+     *
+     * @param index The index of the column
+     *
+     * @return The x of the column
+     * @since 1.0.1
+     */
+    public int getX(int index) {
+        return this.columnsX[index];
+    }
+
+    /**
+     * Gets the z of a column in the outline
+     *
+     * @param index The index of the column
+     *
+     * @return The z of the column
+     * @since 1.0.1
+     */
+    public int getZ(int index) {
+        return this.columnsZ[index];
+    }
+
+    /**
+     * Checks if the column is a corner of the region, where the height of the region is shown
+     *
+     * @param index The index of the column
+     *
+     * @return If the column is a corner
+     * @since 1.0.1
+     */
+    public boolean isCorner(int index) {
+        return this.corners[index];
+    }
+
+    /**
+     * Gets the amount of columns between each kept column along a side
+     *
+     * @return The stride the outline was walked with
+     * @since 1.0.1
+     */
+    public int getStride() {
+        return this.stride;
+    }
+
+    /**
+     * Gets the bottom of the region
+     *
+     * @return The min y
+     * @since 1.0.1
+     */
+    public int getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Gets the top of the region
+     *
+     * @return The max y
+     * @since 1.0.1
+     */
+    public int getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Gives each block of the outline at the height. When showing the height, the outline is also
+     * given at the bottom and top of the region along with every block of each corner in between
+     *
+     * @param y          The height to give the outline at
+     * @param showHeight If the bottom, top and corners should be given too
+     * @param consumer   What to give each block to
+     * @since 1.0.1
+     */
+    public void forEachPosition(int y, boolean showHeight, @NotNull PositionConsumer consumer) {
+        for (int i = 0; i < this.columnsX.length; i++) {
+            int x = this.columnsX[i];
+            int z = this.columnsZ[i];
+            consumer.accept(x, y, z);
+            if (!showHeight) {
+                continue;
+            }
+            consumer.accept(x, this.minY, z);
+            consumer.accept(x, this.maxY, z);
+            if (this.corners[i]) {
+                for (int height = this.minY + 1; height < this.maxY; height++) {
+                    consumer.accept(x, height, z);
+                }
+            }
+        }
+    }
+}
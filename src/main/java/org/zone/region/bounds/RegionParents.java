@@ -0,0 +1,39 @@
+package org.zone.region.bounds;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The child regions that hold a region, so a change to the region can be passed up to every
+ * child region above it. The holders are weakly kept so a child region that is thrown away
+ * without removing its regions is not kept alive by them
+ */
+final class RegionParents {
+
+    private final @NotNull Set<ChildRegion> parents = Collections.synchronizedSet(Collections
+            .newSetFromMap(new WeakHashMap<>()));
+
+    void add(@NotNull ChildRegion parent) {
+        this.parents.add(parent);
+    }
+
+    void remove(@NotNull ChildRegion parent) {
+        this.parents.remove(parent);
+    }
+
+    /**
+     * Tells every child region holding the region that the region has changed
+     */
+    void changed() {
+        Collection<ChildRegion> parents;
+        synchronized (this.parents) {
+            parents = new ArrayList<>(this.parents);
+        }
+        parents.forEach(ChildRegion::changed);
+    }
+}
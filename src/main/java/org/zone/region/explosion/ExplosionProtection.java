@@ -0,0 +1,177 @@
+package org.zone.region.explosion;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.explosion.Explosion;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.bounds.BoundedRegion;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Checks if an explosion reaches into any zone. The zones whose bounds intersect the box around
+ * the explosion are found using the zone manager's spatial index, then each region of those zones
+ * is tested against the sphere of the explosion, so the cost does not grow with the amount of
+ * zones that are far away
+ *
+ * @since 1.0.1
+ */
+public class ExplosionProtection {
+
+    /**
+     * Checks if the explosion reaches into any zone
+     *
+     * @param explosion The explosion to check
+     *
+     * @return If the explosion would affect a zone
+     * @since 1.0.1
+     */
+    public boolean isProtected(@NotNull Explosion explosion) {
+        return this.isProtected(explosion, zone -> true);
+    }
+
+    /**
+     * Checks if the explosion reaches into any zone that matches the filter
+     *
+     * @param explosion The explosion to check
+     * @param filter    The zones to consider, such as zones with a flag
+     *
+     * @return If the explosion would affect a matching zone
+     * @since 1.0.1
+     */
+    public boolean isProtected(
+            @NotNull Explosion explosion, @NotNull Predicate<? super Zone> filter) {
+        return this.isProtected(explosion.world(),
+                explosion.location().position(),
+                explosion.radius(),
+                filter);
+    }
+
+    /**
+     * Checks if the sphere reaches into any zone that matches the filter
+     *
+     * @param world  The world of the sphere, null for any world
+     * @param center The center of the sphere
+     * @param radius The radius of the sphere
+     * @param filter The zones to consider
+     *
+     * @return If the sphere reaches into a matching zone
+     * @since 1.0.1
+     */
+    public boolean isProtected(
+            @Nullable World<?, ?> world,
+            @NotNull Vector3d center,
+            double radius,
+            @NotNull Predicate<? super Zone> filter) {
+        for (Zone zone : this.getCandidates(world, center, radius)) {
+            if (filter.test(zone) && intersects(zone, center, radius)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the zones that the sphere reaches into
+     *
+     * @param world  The world of the sphere, null for any world
+     * @param center The center of the sphere
+     * @param radius The radius of the sphere
+     *
+     * @return The zones within reach of the sphere
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> getAffectedZones(
+            @Nullable World<?, ?> world, @NotNull Vector3d center, double radius) {
+        return this
+                .getCandidates(world, center, radius)
+                .stream()
+                .filter(zone -> intersects(zone, center, radius))
+                .collect(Collectors.toList());
+    }
+
+    private @NotNull Collection<Zone> getCandidates(
+            @Nullable World<?, ?> world, @NotNull Vector3d center, double radius) {
+        //AABB cannot have a size of 0
+        double extent = Math.max(radius, 0.5);
+        AABB area = AABB.of(center.sub(extent, extent, extent), center.add(extent, extent, extent));
+        return ZonePlugin.getZonesPlugin().getZoneManager().getZonesIntersecting(world, area);
+    }
+
+    /**
+     * Checks if the sphere reaches into any region of the zone
+     *
+     * @param zone   The zone to check
+     * @param center The center of the sphere
+     * @param radius The radius of the sphere
+     *
+     * @return If the sphere reaches the zone
+     * @since 1.0.1
+     */
+    public static boolean intersects(@NotNull Zone zone, @NotNull Vector3d center, double radius) {
+        for (BoundedRegion region : zone.getRegion().getTrueChildren()) {
+            if (intersects(region, center.x(), center.y(), center.z(), radius)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the sphere reaches into the region, by comparing the radius to the distance from
+     * the center to the closest point of the region
+     *
+     * @param region The region to check
+     * @param x      The x of the center of the sphere
+     * @param y      The y of the center of the sphere
+     * @param z      The z of the center of the sphere
+     * @param radius The radius of the sphere
+     *
+     * @return If the sphere reaches the region
+     * @since 1.0.1
+     */
+    public static boolean intersects(
+            @NotNull BoundedRegion region, double x, double y, double z, double radius) {
+        double dx = distanceOutside(x, region.getMinX(), region.getMaxX());
+        double dy = distanceOutside(y, region.getMinY(), region.getMaxY());
+        double dz = distanceOutside(z, region.getMinZ(), region.getMaxZ());
+        if (dx * dx + dy * dy + dz * dz > radius * radius) {
+            return false;
+        }
+        if (region.getClass() == BoundedRegion.class || region.contains(x, y, z, false)) {
+            return true;
+        }
+        //a shape only fills part of its box, so measure to the closest block of the shape. That
+        //block is rounded, so the radius is widened by a block to never let the sphere slip past
+        Optional<Vector3i> opNearest = region.getNearestPosition(new Vector3i(Math.floor(x),
+                Math.floor(y),
+                Math.floor(z)));
+        if (opNearest.isEmpty()) {
+            return true;
+        }
+        Vector3i nearest = opNearest.get();
+        double reach = radius + 1;
+        double nx = nearest.x() - x;
+        double ny = nearest.y() - y;
+        double nz = nearest.z() - z;
+        return nx * nx + ny * ny + nz * nz <= reach * reach;
+    }
+
+    private static double distanceOutside(double value, int min, int max) {
+        if (value < min) {
+            return min - value;
+        }
+        if (value > max) {
+            return value - max;
+        }
+        return 0;
+    }
+}
@@ -11,7 +11,9 @@ import org.zone.utils.Messages;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -21,12 +23,25 @@ import java.util.stream.Collectors;
  */
 public class DefaultFlagFile {
 
+    private final @NotNull File file;
     private final HoconConfigurationLoader loader;
-    private final ConfigurationNode node;
+    private final Map<FlagType.SerializableType<?>, Optional<? extends Flag.Serializable>> defaults = new ConcurrentHashMap<>();
+    private volatile ConfigurationNode node;
     public static final File FILE = new File("config/zone/DefaultZone.conf");
 
     public DefaultFlagFile() {
-        this.loader = HoconConfigurationLoader.builder().file(FILE).build();
+        this(FILE);
+    }
+
+    /**
+     * Creates the defaults from a file other than {@link #FILE}
+     *
+     * @param file The file of the defaults
+     * @since 1.0.1
+     */
+    public DefaultFlagFile(@NotNull File file) {
+        this.file = file;
+        this.loader = HoconConfigurationLoader.builder().file(file).build();
 
         ConfigurationNode node1;
         try {
@@ -41,16 +56,17 @@ public class DefaultFlagFile {
                 e.printStackTrace();
             }
         } catch (ConfigurateException e) {
-            node1 = this.loader.createNode();
+            this.node = this.loader.createNode();
             this.updateFile();
+            return;
         }
         this.node = node1;
     }
 
     private void createFile() throws IOException {
-        if (!FILE.exists()) {
-            Files.createDirectories(FILE.getParentFile().toPath());
-            Files.createFile(FILE.toPath());
+        if (!this.file.exists()) {
+            Files.createDirectories(this.file.getAbsoluteFile().getParentFile().toPath());
+            Files.createFile(this.file.toPath());
         }
     }
 
@@ -79,7 +95,44 @@ public class DefaultFlagFile {
     }
 
     /**
-     * Loads the default flag for the specified type
+     * Reloads the defaults from the file and parses the default of every registered flag type
+     *
+     * @throws ConfigurateException If the file could not be loaded
+     * @since 1.0.1
+     */
+    public void reload() throws ConfigurateException {
+        this.node = this.loader.load();
+        this.defaults.clear();
+        ZonePlugin
+                .getZonesPlugin()
+                .getFlagManager()
+                .getRegistered()
+                .stream()
+                .filter(type -> type instanceof FlagType.SerializableType)
+                .forEach(type -> this.getDefault((FlagType.SerializableType<?>) type));
+    }
+
+    /**
+     * Gets the cached default flag for the specified type. The flag is shared, so it should only
+     * be read, use {@link #loadDefault(FlagType.SerializableType)} for a copy that can be modified
+     *
+     * @param type The flag type
+     * @param <F>  The flag class
+     * @param <T>  The flag type class
+     *
+     * @return The default flag, if {@link Optional#empty()} then the type has no default
+     * @since 1.0.1
+     */
+    @SuppressWarnings("unchecked")
+    public <F extends Flag.Serializable, T extends FlagType.SerializableType<F>> Optional<F> getDefault(
+            T type) {
+        //the cache is keyed by type, so the flag held for a type is always of that type's class
+        return (Optional<F>) this.defaults.computeIfAbsent(type, key -> this.parseDefault(type));
+    }
+
+    /**
+     * Loads a new copy of the default flag for the specified type. Types that are known to have no
+     * default are not loaded again
      *
      * @param type The flag type
      * @param <F>  The flag class
@@ -90,6 +143,14 @@ public class DefaultFlagFile {
      */
     public <F extends Flag.Serializable, T extends FlagType.SerializableType<F>> Optional<F> loadDefault(
             T type) {
+        if (this.getDefault(type).isEmpty()) {
+            return Optional.empty();
+        }
+        return this.parseDefault(type);
+    }
+
+    private <F extends Flag.Serializable, T extends FlagType.SerializableType<F>> Optional<F> parseDefault(
+            T type) {
         try {
             @NotNull F flag = type.load(this.node.node("flags",
                     type.getPlugin().metadata().id(),
@@ -118,6 +179,7 @@ public class DefaultFlagFile {
             IOException {
         T type = (T) flag.getType();
         type.save(this.node.node("flags", type.getPlugin().metadata().id(), type.getKey()), flag);
+        this.defaults.remove(type);
     }
 
     /**
@@ -131,6 +193,7 @@ public class DefaultFlagFile {
     @SuppressWarnings("NonBooleanMethodNameMayNotStartWithQuestion")
     public void removeDefault(@SuppressWarnings("TypeMayBeWeakened") FlagType.SerializableType<? extends Flag> type) throws IOException {
         type.save(this.node.node("flags"), null);
+        this.defaults.clear();
     }
 
     /**
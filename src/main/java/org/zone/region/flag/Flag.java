@@ -42,6 +42,31 @@ public interface Flag {
 
     }
 
+    /**
+     * If changes to the flag should be recorded within the {@link org.zone.region.ZoneJournal}
+     * then it should implement this. The zone sets itself as the owner once the flag is added
+     *
+     * @since 1.0.1
+     */
+    interface Journaled extends Flag.Serializable {
+
+        /**
+         * Gets the zone the flag belongs to
+         *
+         * @return The zone, {@link Optional#empty()} if not added to a zone
+         * @since 1.0.1
+         */
+        @NotNull Optional<Zone> getOwner();
+
+        /**
+         * Sets the zone the flag belongs to
+         *
+         * @param zone The zone, null if removed from the zone
+         * @since 1.0.1
+         */
+        void setOwner(@Nullable Zone zone);
+    }
+
     /**
      * If the flag affects players then it should implement this
      *
@@ -147,7 +172,7 @@ public interface Flag {
          * @since 1.0.0
          */
         default boolean hasPermission(@NotNull Group group) {
-            return group.getAllKeys().contains(this.getRequiredKey());
+            return group.contains(this.getRequiredKey());
         }
     }
 
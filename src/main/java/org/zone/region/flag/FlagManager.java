@@ -8,7 +8,11 @@ import org.zone.ZonePlugin;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,6 +25,8 @@ import java.util.stream.Stream;
 public class FlagManager implements IdentifiableManager.Typed<FlagType<?>> {
 
     private final Collection<FlagType<?>> flags = new TreeSet<>(Comparator.comparing(Identifiable::getId));
+    private final Map<FlagType<?>, Integer> ordinals = new ConcurrentHashMap<>();
+    private final Map<String, FlagType<?>> byId = new ConcurrentHashMap<>();
     private final DefaultFlagFile defaultFlags = new DefaultFlagFile();
 
     public FlagManager() {
@@ -29,6 +35,8 @@ public class FlagManager implements IdentifiableManager.Typed<FlagType<?>> {
                 .getVanillaTypes(FlagType.class)
                 .map(type -> (FlagType<?>) type)
                 .collect(Collectors.toSet()));
+        this.flags.forEach(this::getOrdinal);
+        this.flags.forEach(type -> this.byId.put(type.getId().toLowerCase(Locale.ROOT), type));
     }
 
     /**
@@ -51,6 +59,50 @@ public class FlagManager implements IdentifiableManager.Typed<FlagType<?>> {
     @Override
     public void register(@NotNull FlagType<?> type) {
         this.flags.add(type);
+        this.getOrdinal(type);
+        this.byId.put(type.getId().toLowerCase(Locale.ROOT), type);
+    }
+
+    /**
+     * Gets the registered flag type from its plugin id and key, ignoring case
+     *
+     * @param pluginId The id of the plugin that registered the flag type
+     * @param key      The key of the flag type
+     *
+     * @return The flag type, if registered
+     * @since 1.0.1
+     */
+    public @NotNull Optional<FlagType<?>> getType(@NotNull String pluginId, @NotNull String key) {
+        return Optional.ofNullable(this.byId.get((pluginId + ":" + key).toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Gets the ordinal of the flag type. Each flag type is given the next free ordinal when it is
+     * first seen, so the ordinals are dense and can be used as an array index
+     *
+     * @param type The flag type
+     *
+     * @return The ordinal of the flag type
+     * @since 1.0.1
+     */
+    public int getOrdinal(@NotNull FlagType<?> type) {
+        Integer ordinal = this.ordinals.get(type);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (this.ordinals) {
+            return this.ordinals.computeIfAbsent(type, key -> this.ordinals.size());
+        }
+    }
+
+    /**
+     * Gets the amount of flag types that have been given an ordinal
+     *
+     * @return The amount of ordinals
+     * @since 1.0.1
+     */
+    public int getOrdinalCount() {
+        return this.ordinals.size();
     }
 
     public <F extends Flag, T extends FlagType<F>> Stream<? extends T> getRegistered(Class<T> clazz) {
@@ -4,8 +4,6 @@ import org.spongepowered.api.entity.explosive.Explosive;
 import org.spongepowered.api.entity.living.monster.Creeper;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.world.ExplosionEvent;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.math.vector.Vector3i;
 import org.zone.ZonePlugin;
 
 import java.util.Optional;
@@ -21,24 +19,7 @@ public class CreeperGriefListener {
         if (!(opExplosive.get() instanceof Creeper)) {
             return;
         }
-        Location<?, ?> location = event.explosion().location();
-        float explosionRadius = event.explosion().radius();
-        boolean contains = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getRegistered()
-                .stream()
-                .anyMatch(zone -> {
-                    Optional<Vector3i> nearestPos = zone
-                            .getRegion()
-                            .getNearestPosition(location.blockPosition());
-                    if (nearestPos.isEmpty()) {
-                        return false;
-                    }
-                    double distance = nearestPos.get().toDouble().distance(location.position());
-                    return distance <= explosionRadius;
-                });
-        if (contains) {
+        if (ZonePlugin.getZonesPlugin().getExplosionProtection().isProtected(event.explosion())) {
             event.setCancelled(true);
         }
     }
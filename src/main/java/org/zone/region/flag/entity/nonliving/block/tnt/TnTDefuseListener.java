@@ -9,8 +9,6 @@ import org.spongepowered.api.event.block.InteractBlockEvent;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.event.world.ExplosionEvent;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.math.vector.Vector3i;
 import org.zone.ZonePlugin;
 import org.zone.region.Zone;
 import org.zone.region.flag.FlagTypes;
@@ -52,24 +50,7 @@ public class TnTDefuseListener {
         if (!(opExplosive.get() instanceof PrimedTNT)) {
             return;
         }
-        Location<?, ?> location = event.explosion().location();
-        float explosionRadius = event.explosion().radius();
-        boolean contains = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getRegistered()
-                .stream()
-                .anyMatch(zone -> {
-                    Optional<Vector3i> nearestPos = zone
-                            .getRegion()
-                            .getNearestPosition(location.blockPosition());
-                    if (nearestPos.isEmpty()) {
-                        return false;
-                    }
-                    double distance = nearestPos.get().toDouble().distance(location.position());
-                    return distance <= explosionRadius;
-                });
-        if (contains) {
+        if (ZonePlugin.getZonesPlugin().getExplosionProtection().isProtected(event.explosion())) {
             event.setCancelled(true);
         }
     }
@@ -48,7 +48,6 @@ public class DoorInteractListener {
                             .map(parent -> parent
                                     .getMembers()
                                     .getGroup(player.uniqueId())
-                                    .getAllKeys()
                                     .contains(GroupKeys.INTERACT_DOOR))
                             .orElse(false)) {
                 return;
@@ -1,46 +1,25 @@
 package org.zone.region.flag.entity.player.move.greetings;
 
-import org.spongepowered.api.entity.living.player.Player;
-import org.spongepowered.api.event.Listener;
-import org.spongepowered.api.event.Order;
-import org.spongepowered.api.event.entity.MoveEntityEvent;
-import org.spongepowered.api.event.filter.Getter;
-import org.zone.ZonePlugin;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.zone.region.Zone;
 import org.zone.region.flag.FlagTypes;
+import org.zone.region.presence.ZoneMovementCoalescer;
+import org.zone.region.presence.ZoneTransition;
+import org.zone.region.presence.ZoneTransitionType;
 
 import java.util.Optional;
 
-public class GreetingsFlagListener {
+public class GreetingsFlagListener implements ZoneMovementCoalescer.MoveConsumer {
 
-    @Listener(order = Order.POST)
-    public void onPlayerMove(MoveEntityEvent event, @Getter("entity") Player player) {
-        if (event.originalPosition().toInt().equals(event.destinationPosition().toInt())) {
-            //ignores this event if the player didn't move, but instead rotated
+    @Override
+    public void onMove(@NotNull ServerPlayer player, @NotNull ZoneTransition transition) {
+        if (transition.getType() != ZoneTransitionType.ENTER) {
+            //player is either already in a zone or is not moving into one. Coming from one zone to another is out of scope of this tutorial
             return;
         }
 
-        Optional<Zone> opPreviousZone = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.originalPosition());
-
-        if (opPreviousZone.isPresent()) {
-            //player is already in a zone. No need to greet them unless they are coming from one zone to another, that is out of scope of this tutorial
-            return;
-        }
-
-        Optional<Zone> opNextZone = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.destinationPosition());
-
-        if (opNextZone.isEmpty()) {
-            //player is not moving into a zone, ignore this flag
-            return;
-        }
-
-        Zone zone = opNextZone.get();
+        Zone zone = transition.getNext().orElseThrow();
         Optional<GreetingsFlag> opFlag = zone.getFlag(FlagTypes.GREETINGS);
         if (opFlag.isEmpty()) {
             //not got the greetings flag, no message required
@@ -51,4 +30,4 @@ public class GreetingsFlagListener {
         opFlag.get().getDisplayType().sendMessage(opFlag.get().getGreetingsMessage(), player);
     }
 
-}
\ No newline at end of file
+}
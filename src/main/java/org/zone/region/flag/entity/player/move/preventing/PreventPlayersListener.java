@@ -1,9 +1,9 @@
 package org.zone.region.flag.entity.player.move.preventing;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockTypes;
-import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.effect.particle.ParticleEffect;
 import org.spongepowered.api.effect.particle.ParticleOptions;
 import org.spongepowered.api.effect.particle.ParticleTypes;
@@ -18,21 +18,21 @@ import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.world.Locatable;
-import org.spongepowered.api.world.Location;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 import org.zone.ZonePlugin;
 import org.zone.permissions.ZonePermissions;
 import org.zone.region.Zone;
 import org.zone.region.flag.FlagTypes;
-import org.zone.region.group.key.GroupKeys;
+import org.zone.region.presence.ZoneMovementCoalescer;
+import org.zone.region.presence.ZoneTransition;
+import org.zone.region.presence.ZoneTransitionType;
 
-import java.util.AbstractMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-public class PreventPlayersListener {
+public class PreventPlayersListener implements ZoneMovementCoalescer.MoveConsumer {
+
+    private static @Nullable ParticleEffect barrierEffect;
 
     @Listener(order = Order.FIRST)
     public void onPlayerEnter(MoveEntityEvent event, @Getter("entity") Player player) {
@@ -46,26 +46,17 @@ public class PreventPlayersListener {
             }
         }
 
-        Optional<Zone> opPreviousZone = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.originalPosition());
-
-        if (opPreviousZone.isPresent()) {
-            return;
-        }
-
-        Optional<Zone> opNextZone = ZonePlugin
+        ZoneTransition transition = ZonePlugin
                 .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.destinationPosition());
+                .getPresenceTracker()
+                .getTransition(event, player);
 
-        if (opNextZone.isEmpty()) {
-            //player is not moving into a zone, ignore this flag
+        if (transition.getType() != ZoneTransitionType.ENTER) {
+            //player is not moving into a zone from outside, ignore this flag
             return;
         }
 
-        Zone zone = opNextZone.get();
+        Zone zone = transition.getNext().orElseThrow();
         Optional<PreventPlayersFlag> opFlag = zone.getFlag(FlagTypes.PREVENT_PLAYERS);
         if (opFlag.isEmpty()) {
             return;
@@ -82,8 +73,8 @@ public class PreventPlayersListener {
         ServerPlayer serverPlayer = joinEvent.player();
         Optional<Zone> opZone = ZonePlugin
                 .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(joinEvent.player().world(), joinEvent.player().position());
+                .getPresenceTracker()
+                .getCurrentZone(serverPlayer);
 
         if (opZone.isEmpty()) {
             return;
@@ -111,18 +102,16 @@ public class PreventPlayersListener {
                 return;
             }
         }
-        Optional<Zone> opPreviousZone = ZonePlugin
+        ZoneTransition transition = ZonePlugin
                 .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.originalPosition());
+                .getPresenceTracker()
+                .getTransition(event, player);
+        Optional<Zone> opPreviousZone = transition.getPrevious();
         if (opPreviousZone.isEmpty()) {
             return;
         }
 
-        Optional<Zone> opNextZone = ZonePlugin
-                .getZonesPlugin()
-                .getZoneManager()
-                .getPriorityZone(event.entity().world(), event.destinationPosition());
+        Optional<Zone> opNextZone = transition.getNext();
         if (opNextZone.isEmpty()) {
             return;
         }
@@ -173,49 +162,31 @@ public class PreventPlayersListener {
 
     }
 
-    @Listener
-    public void onNear(MoveEntityEvent event, @Getter("entity") Player player) {
-        final Location<?, ?> loc = player.location().add(new Vector3i(0, 2, 0));
-        int distance = player.get(Keys.VIEW_DISTANCE).map(view -> view * 16).orElse(10);
-        Sponge.asyncScheduler().submit(Task.builder().delay(Ticks.of(0)).execute(() -> {
-            Map<Vector3i, Zone> zones = ZonePlugin
-                    .getZonesPlugin()
-                    .getZoneManager()
-                    .getRegistered()
-                    .stream()
-                    .map(zone -> new AbstractMap.SimpleEntry<>(zone
-                            .getRegion()
-                            .getNearestPosition(loc.blockPosition(), zone.getParentId().isEmpty()),
-                            zone))
-                    .filter(entry -> entry.getKey().isPresent())
-                    .filter(entry -> entry.getKey().get().distance(loc.blockPosition()) <= distance)
-                    .filter(entry -> !entry
-                            .getValue()
-                            .getMembers()
-                            .getGroup(player.uniqueId())
-                            .contains(GroupKeys.PLAYER_PREVENTION))
-                    .collect(Collectors.toMap(entry -> entry.getKey().get(),
-                            AbstractMap.SimpleEntry::getValue));
-            Sponge
-                    .server()
-                    .scheduler()
-                    .submit(Task
-                            .builder()
-                            .delay(Ticks.of(0))
-                            .execute(() -> zones.forEach((block, zone) -> player.spawnParticles(
-                                    ParticleEffect
-                                            .builder()
-                                            .type(ParticleTypes.BLOCK)
-                                            .quantity(1)
-                                            .option(ParticleOptions.BLOCK_STATE,
-                                                    BlockTypes.BARRIER.get().defaultState())
-                                            .option(ParticleOptions.VELOCITY,
-                                                    new Vector3d(0, 0.1, 0))
-                                            .build(),
-                                    block.toDouble())))
-                            .plugin(ZonePlugin.getZonesPlugin().getPluginContainer())
-                            .build());
-        }).plugin(ZonePlugin.getZonesPlugin().getPluginContainer()).build());
+    @Override
+    public void onMove(@NotNull ServerPlayer player, @NotNull ZoneTransition transition) {
+        if (ZonePermissions.BYPASS_ENTRY.hasPermission(player)) {
+            return;
+        }
+        ZonePlugin
+                .getZonesPlugin()
+                .getBorderRenderer()
+                .showZones(player, getBarrierEffect(), zone -> zone
+                        .getFlag(FlagTypes.PREVENT_PLAYERS)
+                        .filter(flag -> !flag.hasPermission(zone, player.uniqueId()))
+                        .isPresent());
+    }
+
+    private static @NotNull ParticleEffect getBarrierEffect() {
+        if (barrierEffect == null) {
+            barrierEffect = ParticleEffect
+                    .builder()
+                    .type(ParticleTypes.BLOCK)
+                    .quantity(1)
+                    .option(ParticleOptions.BLOCK_STATE, BlockTypes.BARRIER.get().defaultState())
+                    .option(ParticleOptions.VELOCITY, new Vector3d(0, 0.1, 0))
+                    .build();
+        }
+        return barrierEffect;
     }
 
     public static Optional<Vector3i> getOutsidePosition(
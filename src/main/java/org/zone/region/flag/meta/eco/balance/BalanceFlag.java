@@ -1,9 +1,13 @@
 package org.zone.region.flag.meta.eco.balance;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.service.economy.Currency;
 import org.spongepowered.api.service.economy.EconomyService;
+import org.zone.region.Zone;
+import org.zone.region.ZoneChange;
+import org.zone.region.ZoneJournal;
 import org.zone.region.flag.Flag;
 import org.zone.region.flag.FlagTypes;
 import org.zone.region.shop.transaction.DepositTransaction;
@@ -16,6 +20,7 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -23,9 +28,10 @@ import java.util.stream.Collectors;
  *
  * @since 1.0.0
  */
-public class BalanceFlag implements Flag.Serializable {
+public class BalanceFlag implements Flag.Journaled {
 
     private final @NotNull Map<Currency, BigDecimal> money = new HashMap<>();
+    private @Nullable Zone owner;
 
     public BalanceFlag() {
         this(new HashMap<>());
@@ -91,11 +97,8 @@ public class BalanceFlag implements Flag.Serializable {
         if (Sponge.serviceProvider().provide(EconomyService.class).isEmpty()) {
             return;
         }
-        if (this.money.containsKey(currency)) {
-            this.money.replace(currency, amount);
-            return;
-        }
         this.money.put(currency, amount);
+        ZoneJournal.record(this.owner, id -> new ZoneChange.BalanceSet(id, currency, amount));
     }
 
     /**
@@ -118,7 +121,7 @@ public class BalanceFlag implements Flag.Serializable {
         }
         BigDecimal money = this.getMoney(currency);
         BigDecimal nextMoney = money.add(amount);
-        this.setBalance(currency, money);
+        this.setBalance(currency, nextMoney);
         return new DepositTransaction(new TransactionBuilder()
                 .setState(TransactionState.SUCCESS)
                 .setOriginal(money)
@@ -146,7 +149,7 @@ public class BalanceFlag implements Flag.Serializable {
         }
         BigDecimal money = this.getMoney(currency);
         BigDecimal nextMoney = money.subtract(amount);
-        this.setBalance(currency, money);
+        this.setBalance(currency, nextMoney);
         return new WithdrawTransaction(new TransactionBuilder()
                 .setState(TransactionState.SUCCESS)
                 .setOriginal(money)
@@ -154,6 +157,16 @@ public class BalanceFlag implements Flag.Serializable {
                 .setFlag(this));
     }
 
+    @Override
+    public @NotNull Optional<Zone> getOwner() {
+        return Optional.ofNullable(this.owner);
+    }
+
+    @Override
+    public void setOwner(@Nullable Zone zone) {
+        this.owner = zone;
+    }
+
     @Override
     public @NotNull BalanceFlagType getType() {
         return FlagTypes.ECO;
@@ -1,7 +1,11 @@
 package org.zone.region.flag.meta.eco.shop;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.Zone;
+import org.zone.region.ZoneChange;
+import org.zone.region.ZoneJournal;
 import org.zone.region.flag.Flag;
 import org.zone.region.flag.FlagTypes;
 import org.zone.region.shop.Shop;
@@ -11,9 +15,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 
-public class ShopsFlag implements Flag.Serializable {
+public class ShopsFlag implements Flag.Journaled {
 
     private final Collection<Shop> shops = new HashSet<>();
+    private @Nullable Zone owner;
 
     public ShopsFlag() {
         this(Collections.emptyList());
@@ -37,8 +42,18 @@ public class ShopsFlag implements Flag.Serializable {
 
     public void register(Shop shop) {
         this.shops.add(shop);
+        ZoneJournal.record(this.owner, id -> ZoneChange.FlagSet.of(id, this));
     }
 
+    @Override
+    public @NotNull Optional<Zone> getOwner() {
+        return Optional.ofNullable(this.owner);
+    }
+
+    @Override
+    public void setOwner(@Nullable Zone zone) {
+        this.owner = zone;
+    }
 
     @Override
     public @NotNull ShopsFlagType getType() {
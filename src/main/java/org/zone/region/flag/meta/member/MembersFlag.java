@@ -1,8 +1,12 @@
 package org.zone.region.flag.meta.member;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.zone.ZonePlugin;
 import org.zone.config.node.ZoneNodes;
+import org.zone.region.Zone;
+import org.zone.region.ZoneChange;
+import org.zone.region.ZoneJournal;
 import org.zone.region.flag.Flag;
 import org.zone.region.flag.FlagTypes;
 import org.zone.region.group.DefaultGroups;
@@ -18,10 +22,12 @@ import java.util.stream.Collectors;
  *
  * @since 1.0.0
  */
-public class MembersFlag implements Flag.Serializable {
+public class MembersFlag implements Flag.Journaled {
 
     private final java.util.Map<Group, Collection<UUID>> groups = new HashMap<>();
+    private final java.util.Map<UUID, Group> memberGroups = new HashMap<>();
     private int usedPower;
+    private @Nullable Zone owner;
     public static final MembersFlag DEFAULT = new MembersFlag(DefaultGroups.createDefaultGroups());
 
     public MembersFlag() {
@@ -60,7 +66,10 @@ public class MembersFlag implements Flag.Serializable {
             throw new IllegalArgumentException("Cannot have no groups");
         }
         this.usedPower = usedPower;
-        this.groups.putAll(map);
+        map.forEach((group, members) -> {
+            this.groups.put(group, new HashSet<>(members));
+            members.forEach(uuid -> this.memberGroups.put(uuid, group));
+        });
     }
 
     /**
@@ -70,8 +79,7 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public long getPowerLevel() {
-        return this.groups.values().parallelStream().flatMap(Collection::parallelStream).count() -
-                this.usedPower;
+        return this.memberGroups.size() - this.usedPower;
     }
 
     public int getUsedPower() {
@@ -80,6 +88,7 @@ public class MembersFlag implements Flag.Serializable {
 
     public void setUsedPower(int usedPower) {
         this.usedPower = usedPower;
+        ZoneJournal.record(this.owner, id -> ZoneChange.FlagSet.of(id, this));
     }
 
     /**
@@ -107,6 +116,7 @@ public class MembersFlag implements Flag.Serializable {
      */
     public void removeKey(@NotNull GroupKey key) {
         this.groups.keySet().forEach(group -> group.remove(key));
+        ZoneJournal.record(this.owner, id -> ZoneChange.FlagSet.of(id, this));
     }
 
     /**
@@ -117,8 +127,9 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public void addKey(@NotNull Group group, @NotNull GroupKey key) {
-        this.removeKey(key);
+        this.groups.keySet().forEach(other -> other.remove(key));
         group.add(key);
+        ZoneJournal.record(this.owner, id -> ZoneChange.FlagSet.of(id, this));
     }
 
     /**
@@ -135,17 +146,14 @@ public class MembersFlag implements Flag.Serializable {
                 return false;
             }
         }
-        this.removeMember(uuid);
         if (group.equals(DefaultGroups.VISITOR)) {
+            this.removeMember(uuid);
             return false;
         }
-        Collection<UUID> set = this.groups.getOrDefault(group, new HashSet<>());
-        set.add(uuid);
-        if (this.groups.containsKey(group)) {
-            this.groups.replace(group, set);
-            return true;
-        }
-        this.groups.put(group, set);
+        this.detachMember(uuid);
+        this.groups.computeIfAbsent(group, key -> new HashSet<>()).add(uuid);
+        this.memberGroups.put(uuid, group);
+        ZoneJournal.record(this.owner, id -> new ZoneChange.MemberAdded(id, group.getId(), uuid));
         return true;
     }
 
@@ -156,11 +164,17 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public @NotNull Collection<UUID> getMembers() {
-        return this.groups
-                .entrySet()
-                .parallelStream()
-                .flatMap(e -> e.getValue().parallelStream())
-                .collect(Collectors.toUnmodifiableSet());
+        return Collections.unmodifiableSet(this.memberGroups.keySet());
+    }
+
+    /**
+     * Gets the amount of members found within this flag
+     *
+     * @return The amount of members
+     * @since 1.0.1
+     */
+    public int getMemberCount() {
+        return this.memberGroups.size();
     }
 
     /**
@@ -172,7 +186,11 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public @NotNull Collection<UUID> getMembers(@NotNull Group group) {
-        return this.groups.getOrDefault(group, Collections.emptyList());
+        Collection<UUID> members = this.groups.get(group);
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(members);
     }
 
     /**
@@ -194,14 +212,7 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public @NotNull Group getGroup(@NotNull UUID uuid) {
-        for (java.util.Map.Entry<Group, Collection<UUID>> entry : this.groups.entrySet()) {
-            for (UUID user : entry.getValue()) {
-                if (user.equals(uuid)) {
-                    return entry.getKey();
-                }
-            }
-        }
-        return DefaultGroups.VISITOR;
+        return this.memberGroups.getOrDefault(uuid, DefaultGroups.VISITOR);
     }
 
     /**
@@ -211,22 +222,41 @@ public class MembersFlag implements Flag.Serializable {
      * @since 1.0.0
      */
     public void removeMember(@NotNull UUID uuid) {
-        for (Collection<UUID> uuids : this.groups.values()) {
-            if (!uuids.contains(uuid)) {
-                continue;
-            }
-            uuids.remove(uuid);
-            return;
+        if (this.detachMember(uuid)) {
+            ZoneJournal.record(this.owner, id -> new ZoneChange.MemberRemoved(id, uuid));
         }
     }
 
+    private boolean detachMember(@NotNull UUID uuid) {
+        Group group = this.memberGroups.remove(uuid);
+        if (group == null) {
+            return false;
+        }
+        this.groups.get(group).remove(uuid);
+        return true;
+    }
+
     /**
      * Registers custom groups
      *
      * @since 1.0.0
      */
     public void registerGroup(@NotNull Group group) {
-        this.groups.put(group, new HashSet<>());
+        Collection<UUID> previous = this.groups.put(group, new HashSet<>());
+        if (previous != null) {
+            previous.forEach(this.memberGroups::remove);
+        }
+        ZoneJournal.record(this.owner, id -> ZoneChange.FlagSet.of(id, this));
+    }
+
+    @Override
+    public @NotNull Optional<Zone> getOwner() {
+        return Optional.ofNullable(this.owner);
+    }
+
+    @Override
+    public void setOwner(@Nullable Zone zone) {
+        this.owner = zone;
     }
 
     @Override
@@ -235,6 +265,6 @@ public class MembersFlag implements Flag.Serializable {
     }
 
     public @NotNull java.util.Map<Group, Collection<UUID>> getGroupMapping() {
-        return this.groups;
+        return Collections.unmodifiableMap(this.groups);
     }
 }
@@ -2,6 +2,9 @@ package org.zone.region.flag.meta.service.ban.flag;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.zone.region.Zone;
+import org.zone.region.ZoneChange;
+import org.zone.region.ZoneJournal;
 import org.zone.region.flag.Flag;
 import org.zone.region.flag.FlagType;
 import org.zone.region.flag.FlagTypes;
@@ -19,9 +22,10 @@ import java.util.stream.Collectors;
  *
  * @since 1.0.1
  */
-public class BanFlag implements Flag.Serializable {
+public class BanFlag implements Flag.Journaled {
 
     private final Collection<BanInfo> banInfo = new HashSet<>();
+    private @Nullable Zone owner;
 
     /**
      * Constructor of BanFlag class
@@ -69,6 +73,7 @@ public class BanFlag implements Flag.Serializable {
             banInfo = new TemporaryBanInfo(uuid, localDateTime);
         }
         this.banInfo.add(banInfo);
+        ZoneJournal.record(this.owner, id -> new ZoneChange.BanAdded(id, uuid, localDateTime));
     }
 
     /**
@@ -96,6 +101,7 @@ public class BanFlag implements Flag.Serializable {
             return;
         }
         this.banInfo.remove(banInfo.get());
+        ZoneJournal.record(this.owner, id -> new ZoneChange.BanRemoved(id, uuid));
     }
 
     /**
@@ -110,6 +116,16 @@ public class BanFlag implements Flag.Serializable {
         return this.banInfo.stream().anyMatch(banInfo1 -> banInfo1.getId().equals(uuid));
     }
 
+    @Override
+    public @NotNull Optional<Zone> getOwner() {
+        return Optional.ofNullable(this.owner);
+    }
+
+    @Override
+    public void setOwner(@Nullable Zone zone) {
+        this.owner = zone;
+    }
+
     @Override
     public @NotNull FlagType.SerializableType<? extends Serializable> getType() {
         return FlagTypes.BAN;
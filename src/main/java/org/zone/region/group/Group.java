@@ -4,7 +4,9 @@ import org.jetbrains.annotations.NotNull;
 import org.zone.Identifiable;
 import org.zone.annotations.Typed;
 import org.zone.region.group.key.GroupKey;
+import org.zone.region.group.key.GroupKeyManager;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Spliterator;
@@ -105,10 +107,23 @@ public interface Group extends Identifiable, Comparable<Group> {
      * @since 1.0.0
      */
     default boolean contains(GroupKey key) {
-        if (this.getKeys().contains(key)) {
-            return true;
-        }
-        return this.getParent().map(parent -> parent.contains(key)).orElse(false);
+        return this.getKeyBits().get(GroupKeyManager.getIndex(key));
+    }
+
+    /**
+     * Gets all GroupKeys assigned to this and its parents as a set of bits, each key being set at
+     * {@link GroupKeyManager#getIndex(GroupKey)}. Implementations may cache this, so it should
+     * not be modified
+     *
+     * @return The bits of all groupKeys
+     * @since 1.0.1
+     */
+    default @NotNull BitSet getKeyBits() {
+        BitSet bits = new BitSet();
+        this.getImplements().forEach(group -> group
+                .getKeys()
+                .forEach(key -> bits.set(GroupKeyManager.getIndex(key))));
+        return bits;
     }
 
     /**
@@ -145,7 +160,14 @@ public interface Group extends Identifiable, Comparable<Group> {
      */
     @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
     default boolean inherits(@NotNull Group group) {
-        return this.getImplements().anyMatch(g -> g.equals(group));
+        Group target = this;
+        while (target != null) {
+            if (target.equals(group)) {
+                return true;
+            }
+            target = target.getParent().orElse(null);
+        }
+        return false;
     }
 
     @Override
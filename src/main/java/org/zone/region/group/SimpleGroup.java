@@ -4,10 +4,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.plugin.PluginContainer;
 import org.zone.region.group.key.GroupKey;
+import org.zone.region.group.key.GroupKeyManager;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Basic implementation of a group
@@ -22,6 +27,27 @@ public class SimpleGroup implements Group {
     private final boolean canBeRemoved;
     private final Collection<GroupKey> keys = new HashSet<>();
     private @Nullable Group parent;
+    private volatile @Nullable CachedKeys cachedKeys;
+
+    /**
+     * Counts every change to the keys or parent of any group. A change to one group can change
+     * the keys of all the groups that inherit it, so a cache is only valid while this is unchanged
+     */
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
+
+    private static final class CachedKeys {
+
+        private final long modification;
+        private final @NotNull BitSet bits;
+        private final @NotNull Collection<GroupKey> keys;
+
+        private CachedKeys(
+                long modification, @NotNull BitSet bits, @NotNull Collection<GroupKey> keys) {
+            this.modification = modification;
+            this.bits = bits;
+            this.keys = keys;
+        }
+    }
 
     public SimpleGroup(
             @NotNull PluginContainer plugin, @NotNull String key, @NotNull Group parent) {
@@ -72,6 +98,7 @@ public class SimpleGroup implements Group {
     @Override
     public void setParent(@NotNull Group group) {
         this.parent = group;
+        MODIFICATIONS.incrementAndGet();
     }
 
     @Override
@@ -81,7 +108,57 @@ public class SimpleGroup implements Group {
 
     @Override
     public @NotNull Collection<GroupKey> getKeys() {
-        return this.keys;
+        return Collections.unmodifiableCollection(this.keys);
+    }
+
+    @Override
+    public boolean add(@NotNull GroupKey key) {
+        MODIFICATIONS.incrementAndGet();
+        return this.keys.add(key);
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends GroupKey> keys) {
+        MODIFICATIONS.incrementAndGet();
+        return this.keys.addAll(keys);
+    }
+
+    @Override
+    public boolean remove(@NotNull GroupKey key) {
+        MODIFICATIONS.incrementAndGet();
+        return this.keys.remove(key);
+    }
+
+    @Override
+    public boolean contains(GroupKey key) {
+        return this.getCachedKeys().bits.get(GroupKeyManager.getIndex(key));
+    }
+
+    @Override
+    public @NotNull BitSet getKeyBits() {
+        return this.getCachedKeys().bits;
+    }
+
+    @Override
+    public @NotNull Collection<GroupKey> getAllKeys() {
+        return this.getCachedKeys().keys;
+    }
+
+    private @NotNull CachedKeys getCachedKeys() {
+        long modification = MODIFICATIONS.get();
+        CachedKeys cached = this.cachedKeys;
+        if (cached != null && cached.modification == modification) {
+            return cached;
+        }
+        Collection<GroupKey> allKeys = this
+                .getImplements()
+                .flatMap(group -> group.getKeys().stream())
+                .collect(Collectors.toUnmodifiableSet());
+        BitSet bits = new BitSet();
+        allKeys.forEach(key -> bits.set(GroupKeyManager.getIndex(key)));
+        cached = new CachedKeys(modification, bits, allKeys);
+        this.cachedKeys = cached;
+        return cached;
     }
 
     @Override
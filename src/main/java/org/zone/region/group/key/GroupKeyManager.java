@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gets the Manager for GroupKeys.
@@ -17,6 +19,8 @@ import java.util.HashSet;
  */
 public class GroupKeyManager implements IdentifiableManager.Typed<GroupKey> {
 
+    private static final Map<GroupKey, Integer> INDEXES = new ConcurrentHashMap<>();
+
     @SuppressWarnings("vanilla-only")
     private final Collection<GroupKey> keys = new HashSet<>(Arrays.asList(GroupKeys.values()));
 
@@ -34,6 +38,27 @@ public class GroupKeyManager implements IdentifiableManager.Typed<GroupKey> {
     @Override
     public void register(@NotNull GroupKey key) {
         this.keys.add(key);
+        getIndex(key);
+    }
+
+    /**
+     * Gets the bit index of the group key. Each key is given the next free index when it is first
+     * seen. The indexes are shared by every group, including the default groups, so they are not
+     * tied to a single manager
+     *
+     * @param key The group key
+     *
+     * @return The bit index of the key
+     * @since 1.0.1
+     */
+    public static int getIndex(@NotNull GroupKey key) {
+        Integer index = INDEXES.get(key);
+        if (index != null) {
+            return index;
+        }
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(key, k -> INDEXES.size());
+        }
     }
 
     /**
@@ -0,0 +1,138 @@
+package org.zone.region.index;
+
+import org.jetbrains.annotations.NotNull;
+import org.zone.region.Zone;
+import org.zone.region.bounds.BoundedRegion;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A spatial index of the zones within a single world, keyed by chunk column. Each zone is
+ * registered to every chunk column that one of its {@link BoundedRegion} overlaps, so a point
+ * lookup only needs to test the zones found within that column.
+ *
+ * @since 1.0.1
+ */
+public class ZoneChunkIndex {
+
+    /**
+     * Zones that cover more chunk columns than this are not spread across the index, instead they
+     * are tested on every lookup
+     */
+    public static final int MAX_CHUNKS_PER_ZONE = 4096;
+
+    private final Map<Long, Collection<Zone>> chunks = new ConcurrentHashMap<>();
+    private final Map<Zone, long[]> indexed = new ConcurrentHashMap<>();
+    private final Collection<Zone> oversized = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Adds the zone to the index using the current bounds of its region
+     *
+     * @param zone The zone to add
+     * @since 1.0.1
+     */
+    public synchronized void add(@NotNull Zone zone) {
+        this.remove(zone);
+        Collection<BoundedRegion> regions = zone.getRegion().getTrueChildren();
+        Set<Long> keys = new HashSet<>();
+        for (BoundedRegion region : regions) {
+            int minChunkX = region.getMinX() >> 4;
+            int minChunkZ = region.getMinZ() >> 4;
+            int maxChunkX = region.getMaxX() >> 4;
+            int maxChunkZ = region.getMaxZ() >> 4;
+            long area = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+            if (area + keys.size() > MAX_CHUNKS_PER_ZONE) {
+                this.oversized.add(zone);
+                return;
+            }
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    keys.add(toKey(chunkX, chunkZ));
+                }
+            }
+        }
+        long[] zoneKeys = new long[keys.size()];
+        int index = 0;
+        for (long key : keys) {
+            zoneKeys[index++] = key;
+            this.chunks.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(zone);
+        }
+        this.indexed.put(zone, zoneKeys);
+    }
+
+    /**
+     * Removes the zone from the index
+     *
+     * @param zone The zone to remove
+     *
+     * @return If the zone was found within the index
+     * @since 1.0.1
+     */
+    public synchronized boolean remove(@NotNull Zone zone) {
+        if (this.oversized.remove(zone)) {
+            return true;
+        }
+        long[] keys = this.indexed.remove(zone);
+        if (keys == null) {
+            return false;
+        }
+        for (long key : keys) {
+            Collection<Zone> zones = this.chunks.get(key);
+            if (zones == null) {
+                continue;
+            }
+            zones.remove(zone);
+            if (zones.isEmpty()) {
+                this.chunks.remove(key);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all zones from the index
+     *
+     * @since 1.0.1
+     */
+    public synchronized void clear() {
+        this.chunks.clear();
+        this.indexed.clear();
+        this.oversized.clear();
+    }
+
+    /**
+     * Gets the zones that may contain the provided block column. The zones still need to be
+     * checked with {@link Zone#inRegion(org.spongepowered.api.world.World, org.spongepowered.math.vector.Vector3d)}
+     *
+     * @param blockX The x position of the block
+     * @param blockZ The z position of the block
+     *
+     * @return The zones whose bounds overlap the chunk column of the block
+     * @since 1.0.1
+     */
+    public @NotNull Collection<Zone> getCandidates(int blockX, int blockZ) {
+        Collection<Zone> zones = this.chunks.get(toKey(blockX >> 4, blockZ >> 4));
+        if (this.oversized.isEmpty()) {
+            return zones == null ? Collections.emptyList() : Collections.unmodifiableCollection(zones);
+        }
+        Collection<Zone> candidates = new ArrayList<>(this.oversized);
+        if (zones != null) {
+            candidates.addAll(zones);
+        }
+        return candidates;
+    }
+
+    /**
+     * Packs the chunk position into a single key
+     *
+     * @param chunkX The x position of the chunk
+     * @param chunkZ The z position of the chunk
+     *
+     * @return The key of the chunk column
+     * @since 1.0.1
+     */
+    public static long toKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,352 @@
+package org.zone.region.index;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.zone.region.Zone;
+import org.zone.region.bounds.BoundedRegion;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A R-tree of all the {@link BoundedRegion} boxes of the zones within a single world. The tree is
+ * bulk loaded using Sort-Tile-Recursive packing and is rebuilt on the next query after a zone has
+ * been added or removed.
+ *
+ * @since 1.0.1
+ */
+public class ZoneRTree {
+
+    /**
+     * The max amount of children each node of the tree has
+     */
+    public static final int NODE_CAPACITY = 16;
+
+    private static final int MIN_X = 0;
+    private static final int MIN_Y = 1;
+    private static final int MIN_Z = 2;
+    private static final int MAX_X = 3;
+    private static final int MAX_Y = 4;
+    private static final int MAX_Z = 5;
+
+    private final Map<Zone, Entry[]> entries = new HashMap<>();
+    private volatile @Nullable Node root;
+    private volatile boolean dirty;
+
+    /**
+     * A single box within the tree
+     *
+     * @since 1.0.1
+     */
+    public static final class Entry {
+
+        private final @NotNull Zone zone;
+        private final @NotNull BoundedRegion region;
+        private final int[] bounds;
+
+        private Entry(@NotNull Zone zone, @NotNull BoundedRegion region) {
+            this.zone = zone;
+            this.region = region;
+            this.bounds = new int[]{region.getMinX(),
+                    region.getMinY(),
+                    region.getMinZ(),
+                    region.getMaxX(),
+                    region.getMaxY(),
+                    region.getMaxZ()};
+        }
+
+        /**
+         * Gets the zone that owns this box
+         *
+         * @return The zone
+         * @since 1.0.1
+         */
+        public @NotNull Zone getZone() {
+            return this.zone;
+        }
+
+        /**
+         * Gets the region this box was created from
+         *
+         * @return The region
+         * @since 1.0.1
+         */
+        public @NotNull BoundedRegion getRegion() {
+            return this.region;
+        }
+    }
+
+    private static final class Node {
+
+        private final int[] bounds;
+        private final Node @Nullable [] children;
+        private final Entry @Nullable [] entries;
+
+        private Node(Node @Nullable [] children, Entry @Nullable [] entries, int[] bounds) {
+            this.children = children;
+            this.entries = entries;
+            this.bounds = bounds;
+        }
+    }
+
+    private static final class Candidate {
+
+        private final double distanceSquared;
+        private final @Nullable Node node;
+        private final @Nullable Entry entry;
+
+        private Candidate(double distanceSquared, @Nullable Node node, @Nullable Entry entry) {
+            this.distanceSquared = distanceSquared;
+            this.node = node;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Adds the zone to the tree using the current bounds of its region
+     *
+     * @param zone The zone to add
+     * @since 1.0.1
+     */
+    public synchronized void add(@NotNull Zone zone) {
+        Entry[] zoneEntries = zone
+                .getRegion()
+                .getTrueChildren()
+                .stream()
+                .map(region -> new Entry(zone, region))
+                .toArray(Entry[]::new);
+        this.entries.put(zone, zoneEntries);
+        this.dirty = true;
+    }
+
+    /**
+     * Removes the zone from the tree
+     *
+     * @param zone The zone to remove
+     *
+     * @return If the zone was found within the tree
+     * @since 1.0.1
+     */
+    public synchronized boolean remove(@NotNull Zone zone) {
+        if (this.entries.remove(zone) == null) {
+            return false;
+        }
+        this.dirty = true;
+        return true;
+    }
+
+    /**
+     * Removes all zones from the tree
+     *
+     * @since 1.0.1
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.dirty = true;
+    }
+
+    /**
+     * Gets all the boxes that intersect the provided area. The bounds of the area are inclusive
+     *
+     * @param minX The lowest x of the area
+     * @param minY The lowest y of the area
+     * @param minZ The lowest z of the area
+     * @param maxX The highest x of the area
+     * @param maxY The highest y of the area
+     * @param maxZ The highest z of the area
+     *
+     * @return The boxes found within the area
+     * @since 1.0.1
+     */
+    public @NotNull List<Entry> search(
+            double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        List<Entry> found = new ArrayList<>();
+        Node root = this.getRoot();
+        if (root == null) {
+            return found;
+        }
+        Deque<Node> toCheck = new ArrayDeque<>();
+        toCheck.push(root);
+        while (!toCheck.isEmpty()) {
+            Node node = toCheck.pop();
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    if (intersects(child.bounds, minX, minY, minZ, maxX, maxY, maxZ)) {
+                        toCheck.push(child);
+                    }
+                }
+                continue;
+            }
+            for (Entry entry : Objects.requireNonNull(node.entries)) {
+                if (intersects(entry.bounds, minX, minY, minZ, maxX, maxY, maxZ)) {
+                    found.add(entry);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the boxes nearest to the provided position using a best-first search. The boxes are
+     * returned in order of distance, nearest first
+     *
+     * @param x           The x of the position
+     * @param y           The y of the position
+     * @param z           The z of the position
+     * @param maxDistance The max distance from the position a box can be
+     * @param limit       The max amount of boxes to return
+     *
+     * @return The nearest boxes
+     * @since 1.0.1
+     */
+    public @NotNull List<Entry> nearest(
+            double x, double y, double z, double maxDistance, int limit) {
+        List<Entry> found = new ArrayList<>();
+        Node root = this.getRoot();
+        if (root == null || limit <= 0) {
+            return found;
+        }
+        double maxDistanceSquared = maxDistance * maxDistance;
+        Queue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingDouble(candidate -> candidate.distanceSquared));
+        queue.add(new Candidate(distanceSquared(root.bounds, x, y, z), root, null));
+        while (!queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            if (candidate.distanceSquared > maxDistanceSquared) {
+                break;
+            }
+            if (candidate.entry != null) {
+                found.add(candidate.entry);
+                if (found.size() >= limit) {
+                    break;
+                }
+                continue;
+            }
+            Node node = Objects.requireNonNull(candidate.node);
+            if (node.children != null) {
+                for (Node child : node.children) {
+                    queue.add(new Candidate(distanceSquared(child.bounds, x, y, z), child, null));
+                }
+                continue;
+            }
+            for (Entry entry : Objects.requireNonNull(node.entries)) {
+                queue.add(new Candidate(distanceSquared(entry.bounds, x, y, z), null, entry));
+            }
+        }
+        return found;
+    }
+
+    private static boolean intersects(
+            int[] bounds,
+            double minX,
+            double minY,
+            double minZ,
+            double maxX,
+            double maxY,
+            double maxZ) {
+        return bounds[MIN_X] <= maxX &&
+                bounds[MAX_X] >= minX &&
+                bounds[MIN_Y] <= maxY &&
+                bounds[MAX_Y] >= minY &&
+                bounds[MIN_Z] <= maxZ &&
+                bounds[MAX_Z] >= minZ;
+    }
+
+    private static double distanceSquared(int[] bounds, double x, double y, double z) {
+        double dx = Math.max(Math.max(bounds[MIN_X] - x, 0), x - bounds[MAX_X]);
+        double dy = Math.max(Math.max(bounds[MIN_Y] - y, 0), y - bounds[MAX_Y]);
+        double dz = Math.max(Math.max(bounds[MIN_Z] - z, 0), z - bounds[MAX_Z]);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static int[] union(Iterable<int[]> boxes) {
+        int[] union = {Integer.MAX_VALUE,
+                Integer.MAX_VALUE,
+                Integer.MAX_VALUE,
+                Integer.MIN_VALUE,
+                Integer.MIN_VALUE,
+                Integer.MIN_VALUE};
+        for (int[] box : boxes) {
+            for (int axis = MIN_X; axis <= MIN_Z; axis++) {
+                union[axis] = Math.min(union[axis], box[axis]);
+            }
+            for (int axis = MAX_X; axis <= MAX_Z; axis++) {
+                union[axis] = Math.max(union[axis], box[axis]);
+            }
+        }
+        return union;
+    }
+
+    private @Nullable Node getRoot() {
+        if (this.dirty) {
+            this.rebuild();
+        }
+        return this.root;
+    }
+
+    private synchronized void rebuild() {
+        if (!this.dirty) {
+            return;
+        }
+        List<Entry> all = new ArrayList<>();
+        for (Entry[] zoneEntries : this.entries.values()) {
+            all.addAll(Arrays.asList(zoneEntries));
+        }
+        if (all.isEmpty()) {
+            this.root = null;
+            this.dirty = false;
+            return;
+        }
+        List<Node> level = new ArrayList<>();
+        for (List<Entry> group : pack(all, entry -> entry.bounds)) {
+            level.add(new Node(null,
+                    group.toArray(Entry[]::new),
+                    union(group
+                            .stream()
+                            .map(entry -> entry.bounds)
+                            .collect(Collectors.toList()))));
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (List<Node> group : pack(level, node -> node.bounds)) {
+                parents.add(new Node(group.toArray(Node[]::new),
+                        null,
+                        union(group
+                                .stream()
+                                .map(node -> node.bounds)
+                                .collect(Collectors.toList()))));
+            }
+            level = parents;
+        }
+        this.root = level.get(0);
+        this.dirty = false;
+    }
+
+    private static <T> List<List<T>> pack(List<T> items, Function<T, int[]> toBounds) {
+        int leafCount = (items.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = sliceCount * NODE_CAPACITY;
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(item -> center(toBounds.apply(item),
+                MIN_X,
+                MAX_X)));
+        List<List<T>> groups = new ArrayList<>();
+        for (int sliceStart = 0; sliceStart < sorted.size(); sliceStart += sliceSize) {
+            List<T> slice = new ArrayList<>(sorted.subList(sliceStart,
+                    Math.min(sliceStart + sliceSize, sorted.size())));
+            slice.sort(Comparator.comparingLong(item -> center(toBounds.apply(item),
+                    MIN_Z,
+                    MAX_Z)));
+            for (int groupStart = 0; groupStart < slice.size(); groupStart += NODE_CAPACITY) {
+                groups.add(slice.subList(groupStart,
+                        Math.min(groupStart + NODE_CAPACITY, slice.size())));
+            }
+        }
+        return groups;
+    }
+
+    private static long center(int[] bounds, int minAxis, int maxAxis) {
+        return (long) bounds[minAxis] + bounds[maxAxis];
+    }
+}
@@ -0,0 +1,181 @@
+package org.zone.region.presence;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Gathers the block moves of each player during a tick and hands them to the registered
+ * {@link MoveConsumer}s once per player at the end of the tick, no matter how many
+ * {@link MoveEntityEvent}s the player caused. Only work that does not cancel the move belongs
+ * here, such as messages and particles, as the move has already happened by the time it runs
+ *
+ * @since 1.0.1
+ */
+public class ZoneMovementCoalescer {
+
+    /**
+     * Something that reacts to a player having moved during a tick
+     *
+     * @since 1.0.1
+     */
+    @FunctionalInterface
+    public interface MoveConsumer {
+
+        /**
+         * Called once per tick for each player that changed block position during the tick
+         *
+         * @param player     The player that moved
+         * @param transition The change in priority zone between the block the player was in at
+         *                   the start of the tick and the block they ended the tick in
+         * @since 1.0.1
+         */
+        void onMove(@NotNull ServerPlayer player, @NotNull ZoneTransition transition);
+    }
+
+    private final @NotNull Map<UUID, Move> moves = new ConcurrentHashMap<>();
+    private final @NotNull Collection<MoveConsumer> consumers = new CopyOnWriteArrayList<>();
+    private @Nullable ScheduledTask task;
+
+    private static final class Move {
+
+        private final @NotNull ServerPlayer player;
+        private final @NotNull ResourceKey originalWorld;
+        private final @NotNull Vector3i originalBlock;
+        private volatile @NotNull ResourceKey world;
+        private volatile @NotNull Vector3i block;
+
+        private Move(
+                @NotNull ServerPlayer player,
+                @NotNull ResourceKey originalWorld,
+                @NotNull Vector3i originalBlock) {
+            this.player = player;
+            this.originalWorld = originalWorld;
+            this.originalBlock = originalBlock;
+            this.world = originalWorld;
+            this.block = originalBlock;
+        }
+    }
+
+    /**
+     * Registers something to run once per tick for each player that moved
+     *
+     * @param consumer The consumer to run
+     * @since 1.0.1
+     */
+    public void register(@NotNull MoveConsumer consumer) {
+        this.consumers.add(consumer);
+    }
+
+    /**
+     * Starts handing the gathered moves to the consumers at the end of each tick
+     *
+     * @since 1.0.1
+     */
+    public synchronized void start() {
+        if (this.task != null) {
+            return;
+        }
+        this.task = Sponge
+                .server()
+                .scheduler()
+                .submit(Task
+                        .builder()
+                        .plugin(ZonePlugin.getZonesPlugin().getPluginContainer())
+                        .interval(Ticks.of(1))
+                        .execute(this::flush)
+                        .build());
+    }
+
+    /**
+     * Stops handing the moves to the consumers and forgets the moves that were gathered
+     *
+     * @since 1.0.1
+     */
+    public synchronized void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        this.moves.clear();
+    }
+
+    /**
+     * Gets the amount of players that have moved since the last flush
+     *
+     * @return The amount of pending moves
+     * @since 1.0.1
+     */
+    public int getPending() {
+        return this.moves.size();
+    }
+
+    @Listener(order = Order.POST)
+    public void onPlayerMove(MoveEntityEvent event, @Getter("entity") ServerPlayer player) {
+        Vector3i originalBlock = event.originalPosition().toInt();
+        Vector3i destinationBlock = event.destinationPosition().toInt();
+        if (originalBlock.equals(destinationBlock)) {
+            return;
+        }
+        ResourceKey world = player.world().key();
+        Move move = this.moves.computeIfAbsent(player.uniqueId(),
+                uuid -> new Move(player, world, originalBlock));
+        move.world = world;
+        move.block = destinationBlock;
+    }
+
+    @Listener
+    public void onPlayerLeave(ServerSideConnectionEvent.Disconnect event) {
+        this.moves.remove(event.player().uniqueId());
+    }
+
+    /**
+     * Hands each gathered move to the consumers. This is run at the end of each tick once
+     * started, but can be called sooner
+     *
+     * @since 1.0.1
+     */
+    public void flush() {
+        if (this.moves.isEmpty()) {
+            return;
+        }
+        ZoneManager manager = ZonePlugin.getZonesPlugin().getZoneManager();
+        Iterator<Move> iterator = this.moves.values().iterator();
+        while (iterator.hasNext()) {
+            Move move = iterator.next();
+            iterator.remove();
+            Zone previous = resolve(manager, move.originalWorld, move.originalBlock);
+            Zone next = resolve(manager, move.world, move.block);
+            ZoneTransition transition = new ZoneTransition(previous, next);
+            for (MoveConsumer consumer : this.consumers) {
+                consumer.onMove(move.player, transition);
+            }
+        }
+    }
+
+    private static @Nullable Zone resolve(
+            @NotNull ZoneManager manager, @NotNull ResourceKey world, @NotNull Vector3i block) {
+        return manager.getPriorityZone(world, block.x(), block.y(), block.z()).orElse(null);
+    }
+}
@@ -0,0 +1,164 @@
+package org.zone.region.presence;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the priority zone each online player is currently within. The priority zone is only
+ * resolved when a player changes block position, and the result of each
+ * {@link MoveEntityEvent} is shared between every listener that asks for it
+ *
+ * @since 1.0.1
+ */
+public class ZonePresenceTracker {
+
+    private final Map<UUID, Presence> presences = new ConcurrentHashMap<>();
+
+    private static final class Presence {
+
+        private final @Nullable ResourceKey world;
+        private final @NotNull Vector3i block;
+        private final @Nullable Zone zone;
+        private final long modificationCount;
+        private final @Nullable ZoneTransition transition;
+
+        private Presence(
+                @Nullable ResourceKey world,
+                @NotNull Vector3i block,
+                @Nullable Zone zone,
+                long modificationCount,
+                @Nullable ZoneTransition transition) {
+            this.world = world;
+            this.block = block;
+            this.zone = zone;
+            this.modificationCount = modificationCount;
+            this.transition = transition;
+        }
+
+        private boolean isAt(@Nullable ResourceKey world, @NotNull Vector3i block, long count) {
+            return this.world != null &&
+                    this.world.equals(world) &&
+                    this.block.equals(block) &&
+                    this.modificationCount == count;
+        }
+    }
+
+    /**
+     * Gets the change in priority zone caused by the provided move. The first call for an event
+     * resolves the transition, any further call for the same event returns the same result
+     *
+     * @param event  The move event
+     * @param player The player that is moving
+     *
+     * @return The transition of the move
+     * @since 1.0.1
+     */
+    public @NotNull ZoneTransition getTransition(
+            @NotNull MoveEntityEvent event, @NotNull Player player) {
+        Presence presence = this.presences.get(player.uniqueId());
+        if (presence != null && presence.transition != null && presence.transition.isFor(event)) {
+            return presence.transition;
+        }
+        ZoneManager manager = ZonePlugin.getZonesPlugin().getZoneManager();
+        long count = manager.getModificationCount();
+        World<?, ?> world = event.entity().world();
+        ResourceKey worldKey = getKey(world);
+        Vector3i originalBlock = event.originalPosition().toInt();
+        Vector3i destinationBlock = event.destinationPosition().toInt();
+
+        Zone previous;
+        if (presence != null && presence.isAt(worldKey, originalBlock, count)) {
+            previous = presence.zone;
+        } else {
+            previous = resolve(manager, world, originalBlock);
+        }
+        Zone next = originalBlock.equals(destinationBlock) ?
+                previous :
+                resolve(manager, world, destinationBlock);
+
+        ZoneTransition transition = new ZoneTransition(event, previous, next);
+        this.presences.put(player.uniqueId(),
+                new Presence(worldKey, destinationBlock, next, count, transition));
+        return transition;
+    }
+
+    /**
+     * Gets the priority zone the player is currently within
+     *
+     * @param player The player to check
+     *
+     * @return The zone the player is within, {@link Optional#empty()} if they are not in a zone
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getCurrentZone(@NotNull Player player) {
+        ZoneManager manager = ZonePlugin.getZonesPlugin().getZoneManager();
+        long count = manager.getModificationCount();
+        World<?, ?> world = player.world();
+        ResourceKey worldKey = getKey(world);
+        Vector3i block = player.blockPosition();
+        Presence presence = this.presences.get(player.uniqueId());
+        if (presence != null && presence.isAt(worldKey, block, count)) {
+            return Optional.ofNullable(presence.zone);
+        }
+        Zone zone = resolve(manager, world, block);
+        this.presences.put(player.uniqueId(), new Presence(worldKey, block, zone, count, null));
+        return Optional.ofNullable(zone);
+    }
+
+    /**
+     * Forgets the tracked zone of the player
+     *
+     * @param uuid The uuid of the player
+     * @since 1.0.1
+     */
+    public void clear(@NotNull UUID uuid) {
+        this.presences.remove(uuid);
+    }
+
+    /**
+     * Forgets the tracked zone of every player
+     *
+     * @since 1.0.1
+     */
+    public void clear() {
+        this.presences.clear();
+    }
+
+    @Listener
+    public void onPlayerLeave(ServerSideConnectionEvent.Disconnect event) {
+        this.clear(event.player().uniqueId());
+    }
+
+    private static @Nullable Zone resolve(
+            @NotNull ZoneManager manager, @Nullable World<?, ?> world, @NotNull Vector3i block) {
+        if (world instanceof ServerWorld sWorld) {
+            return manager
+                    .getPriorityZone(sWorld.key(), block.x(), block.y(), block.z())
+                    .orElse(null);
+        }
+        return manager.getPriorityZone(world, block.toDouble()).orElse(null);
+    }
+
+    private static @Nullable ResourceKey getKey(@Nullable World<?, ?> world) {
+        if (world instanceof ServerWorld sWorld) {
+            return sWorld.key();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package org.zone.region.presence;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.zone.region.Zone;
+
+import java.util.Optional;
+
+/**
+ * The change in priority zone caused by a single {@link MoveEntityEvent}, or by all the moves a
+ * player made within a tick when given by the {@link ZoneMovementCoalescer}
+ *
+ * @since 1.0.1
+ */
+public class ZoneTransition {
+
+    private final @Nullable MoveEntityEvent event;
+    private final @Nullable Zone previous;
+    private final @Nullable Zone next;
+
+    ZoneTransition(@NotNull MoveEntityEvent event, @Nullable Zone previous, @Nullable Zone next) {
+        this.event = event;
+        this.previous = previous;
+        this.next = next;
+    }
+
+    ZoneTransition(@Nullable Zone previous, @Nullable Zone next) {
+        this.event = null;
+        this.previous = previous;
+        this.next = next;
+    }
+
+    /**
+     * Gets the priority zone at the original position of the move
+     *
+     * @return The zone the player came from, {@link Optional#empty()} if they were not in a zone
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getPrevious() {
+        return Optional.ofNullable(this.previous);
+    }
+
+    /**
+     * Gets the priority zone at the destination of the move
+     *
+     * @return The zone the player is moving into, {@link Optional#empty()} if they are not
+     *         moving into a zone
+     * @since 1.0.1
+     */
+    public @NotNull Optional<Zone> getNext() {
+        return Optional.ofNullable(this.next);
+    }
+
+    /**
+     * Gets the kind of transition that the move made
+     *
+     * @return The transition type
+     * @since 1.0.1
+     */
+    public @NotNull ZoneTransitionType getType() {
+        if (this.previous == this.next) {
+            return ZoneTransitionType.NONE;
+        }
+        if (this.previous == null) {
+            return ZoneTransitionType.ENTER;
+        }
+        if (this.next == null) {
+            return ZoneTransitionType.LEAVE;
+        }
+        return ZoneTransitionType.TRANSFER;
+    }
+
+    boolean isFor(@NotNull MoveEntityEvent event) {
+        return this.event == event;
+    }
+}
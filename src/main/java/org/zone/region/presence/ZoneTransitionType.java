@@ -0,0 +1,29 @@
+package org.zone.region.presence;
+
+/**
+ * The kind of change in priority zone a player made when moving
+ *
+ * @since 1.0.1
+ */
+public enum ZoneTransitionType {
+
+    /**
+     * The player stayed within the same priority zone, or stayed outside of all zones
+     */
+    NONE,
+
+    /**
+     * The player moved from outside of all zones into a zone
+     */
+    ENTER,
+
+    /**
+     * The player moved from a zone to outside of all zones
+     */
+    LEAVE,
+
+    /**
+     * The player moved from one zone directly into another
+     */
+    TRANSFER
+}
@@ -3,13 +3,10 @@ package org.zone.region.shop.type.inventory.display;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.data.Keys;
-import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.block.InteractBlockEvent;
 import org.spongepowered.api.event.entity.InteractEntityEvent;
-import org.spongepowered.api.event.entity.MoveEntityEvent;
-import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.item.inventory.menu.InventoryMenu;
 import org.spongepowered.api.world.LocatableSnapshot;
@@ -20,6 +17,8 @@ import org.zone.ZonePlugin;
 import org.zone.region.Zone;
 import org.zone.region.flag.FlagTypes;
 import org.zone.region.flag.meta.eco.shop.ShopsFlag;
+import org.zone.region.presence.ZoneMovementCoalescer;
+import org.zone.region.presence.ZoneTransition;
 import org.zone.region.shop.Shop;
 
 import java.util.Collection;
@@ -27,10 +26,10 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
-public class DisplayCaseShopListener {
+public class DisplayCaseShopListener implements ZoneMovementCoalescer.MoveConsumer {
 
-    @Listener
-    public void createDisplayItem(MoveEntityEvent event, @Getter("entity") Player player) {
+    @Override
+    public void onMove(@NotNull ServerPlayer player, @NotNull ZoneTransition transition) {
         Optional<Zone> opZone = ZonePlugin
                 .getZonesPlugin()
                 .getZoneManager()
@@ -72,10 +71,11 @@ public class DisplayCaseShopListener {
 
     private void openInventory(
             @NotNull ServerPlayer player, @NotNull LocatableSnapshot<BlockSnapshot> snapshot) {
+        Vector3i position = snapshot.position();
         @NotNull Optional<Zone> opZone = ZonePlugin
                 .getZonesPlugin()
                 .getZoneManager()
-                .getPriorityZone(player.world(), snapshot.position().toDouble());
+                .getPriorityZone(player.world().key(), position.x(), position.y(), position.z());
         if (opZone.isEmpty()) {
             return;
         }
@@ -0,0 +1,421 @@
+package org.zone.region.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts the node of a zone to and from a compact binary file. The layout of version 2 is
+ * <ul>
+ *     <li>The magic number and version</li>
+ *     <li>The name, parent id and world, as length prefixed UTF-8</li>
+ *     <li>The region as a tree of packed int arrays, each bounded region being six ints. Regions
+ *     with a shape, such as polygons and cylinders, are written as a tree of typed values</li>
+ *     <li>A table of the flag ids, followed by a length prefixed block of each flag referencing
+ *     its position within the table</li>
+ *     <li>Any other values of the zone's node</li>
+ * </ul>
+ * Flags are stored as a tree of typed values, with UUIDs written as two longs.
+ * <p>
+ * Version 1 files, which cannot hold shaped regions, are still read.
+ * <p>
+ * Files are read through a memory mapped buffer
+ *
+ * @since 1.0.1
+ */
+public final class BinaryZoneFormat {
+
+    /**
+     * The first four bytes of every binary zone file
+     */
+    public static final int MAGIC = 0x5A4F4E45;
+
+    /**
+     * The current version of the format
+     */
+    public static final short VERSION = 2;
+
+    private static final short VERSION_WITHOUT_SHAPES = 1;
+
+    private static final String NAME = "Name";
+    private static final String PARENT = "Parent";
+    private static final String FLAGS = "Flags";
+    private static final String REGION = "Region";
+    private static final String WORLD = "World";
+
+    private static final byte REGION_BOUNDED = 0;
+    private static final byte REGION_CHILDREN = 1;
+    private static final byte REGION_SHAPE = 2;
+
+    private static final byte VALUE_EMPTY = 0;
+    private static final byte VALUE_MAP = 1;
+    private static final byte VALUE_LIST = 2;
+    private static final byte VALUE_STRING = 3;
+    private static final byte VALUE_BOOLEAN = 4;
+    private static final byte VALUE_INT = 5;
+    private static final byte VALUE_LONG = 6;
+    private static final byte VALUE_DOUBLE = 7;
+    private static final byte VALUE_FLOAT = 8;
+    private static final byte VALUE_UUID = 9;
+
+    private BinaryZoneFormat() {
+        throw new RuntimeException("Should not create");
+    }
+
+    /**
+     * Reads the zone's node from the file using a memory mapped buffer
+     *
+     * @param path The file to read
+     *
+     * @return The zone's node, matching the node the file was written from
+     *
+     * @throws IOException If the file could not be read or is not a binary zone file
+     * @since 1.0.1
+     */
+    public static @NotNull ConfigurationNode read(@NotNull Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes the zone's node to the file
+     *
+     * @param path The file to write to
+     * @param node The zone's node
+     *
+     * @throws IOException If the file could not be written
+     * @since 1.0.1
+     */
+    public static void write(@NotNull Path path, @NotNull ConfigurationNode node) throws
+            IOException {
+        Files.write(path, encode(node));
+    }
+
+    /**
+     * Converts the zone's node into bytes
+     *
+     * @param node The zone's node
+     *
+     * @return The bytes of the zone
+     *
+     * @throws IOException If the node holds a value that cannot be written
+     * @since 1.0.1
+     */
+    public static byte @NotNull [] encode(@NotNull ConfigurationNode node) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        writeNullableString(output, node.node(NAME).getString());
+        writeNullableString(output, node.node(PARENT).getString());
+        writeNullableString(output, node.node(REGION, WORLD).getString());
+
+        List<ConfigurationNode> regions = new ArrayList<>();
+        for (Map.Entry<Object, ? extends ConfigurationNode> entry : node
+                .node(REGION)
+                .childrenMap()
+                .entrySet()) {
+            if (!WORLD.equals(entry.getKey().toString())) {
+                regions.add(entry.getValue());
+            }
+        }
+        writeRegions(output, regions);
+
+        List<ConfigurationNode> flags = new ArrayList<>();
+        for (ConfigurationNode pluginNode : node.node(FLAGS).childrenMap().values()) {
+            flags.addAll(pluginNode.childrenMap().values());
+        }
+        output.writeInt(flags.size());
+        for (ConfigurationNode flag : flags) {
+            writeString(output, flag.parent().key().toString());
+            writeString(output, flag.key().toString());
+        }
+        for (int ordinal = 0; ordinal < flags.size(); ordinal++) {
+            ByteArrayOutputStream flagBytes = new ByteArrayOutputStream();
+            writeValue(new DataOutputStream(flagBytes), flags.get(ordinal));
+            output.writeInt(ordinal);
+            output.writeInt(flagBytes.size());
+            flagBytes.writeTo(output);
+        }
+
+        BasicConfigurationNode other = BasicConfigurationNode.root();
+        for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+            String key = entry.getKey().toString();
+            if (!(NAME.equals(key) || PARENT.equals(key) || FLAGS.equals(key) ||
+                    REGION.equals(key))) {
+                other.node(key).from(entry.getValue());
+            }
+        }
+        writeValue(output, other);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Converts the bytes of a zone back into the zone's node
+     *
+     * @param buffer The bytes of the zone
+     *
+     * @return The zone's node
+     *
+     * @throws IOException If the bytes are not a binary zone
+     * @since 1.0.1
+     */
+    public static @NotNull ConfigurationNode decode(@NotNull ByteBuffer buffer) throws
+            IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a binary zone file");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION && version != VERSION_WITHOUT_SHAPES) {
+                throw new IOException("Unknown binary zone version of " + version);
+            }
+            BasicConfigurationNode node = BasicConfigurationNode.root();
+            String name = readNullableString(buffer);
+            String parent = readNullableString(buffer);
+            String world = readNullableString(buffer);
+            if (name != null) {
+                node.node(NAME).raw(name);
+            }
+            if (parent != null) {
+                node.node(PARENT).raw(parent);
+            }
+            ConfigurationNode regionNode = node.node(REGION);
+            readRegions(buffer, regionNode);
+            if (world != null) {
+                regionNode.node(WORLD).raw(world);
+            }
+
+            int flagCount = buffer.getInt();
+            String[][] table = new String[flagCount][];
+            for (int i = 0; i < flagCount; i++) {
+                table[i] = new String[]{readString(buffer), readString(buffer)};
+            }
+            for (int i = 0; i < flagCount; i++) {
+                String[] id = table[buffer.getInt()];
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                readValue(buffer, node.node(FLAGS, id[0], id[1]));
+                if (buffer.position() != end) {
+                    throw new IOException("Flag of " + id[0] + ":" + id[1] + " is corrupt");
+                }
+            }
+            readValue(buffer, node);
+            return node;
+        } catch (RuntimeException e) {
+            throw new IOException("Binary zone is corrupt", e);
+        }
+    }
+
+    private static void writeRegions(
+            @NotNull DataOutputStream output, @NotNull List<? extends ConfigurationNode> regions)
+            throws IOException {
+        output.writeInt(regions.size());
+        for (ConfigurationNode region : regions) {
+            if (!region.node("shape").virtual()) {
+                output.writeByte(REGION_SHAPE);
+                writeValue(output, region);
+                continue;
+            }
+            if (region.node("pos1").virtual()) {
+                output.writeByte(REGION_CHILDREN);
+                writeRegions(output, new ArrayList<>(region.childrenMap().values()));
+                continue;
+            }
+            output.writeByte(REGION_BOUNDED);
+            output.writeInt(region.node("pos1", "x").getInt());
+            output.writeInt(region.node("pos1", "y").getInt());
+            output.writeInt(region.node("pos1", "z").getInt());
+            output.writeInt(region.node("pos2", "x").getInt());
+            output.writeInt(region.node("pos2", "y").getInt());
+            output.writeInt(region.node("pos2", "z").getInt());
+        }
+    }
+
+    private static void readRegions(@NotNull ByteBuffer buffer, @NotNull ConfigurationNode node)
+            throws IOException {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            ConfigurationNode region = node.node(String.valueOf(i));
+            byte type = buffer.get();
+            if (type == REGION_CHILDREN) {
+                readRegions(buffer, region);
+                continue;
+            }
+            if (type == REGION_SHAPE) {
+                readValue(buffer, region);
+                continue;
+            }
+            if (type != REGION_BOUNDED) {
+                throw new IOException("Unknown region type of " + type);
+            }
+            region.node("pos1", "x").raw(buffer.getInt());
+            region.node("pos1", "y").raw(buffer.getInt());
+            region.node("pos1", "z").raw(buffer.getInt());
+            region.node("pos2", "x").raw(buffer.getInt());
+            region.node("pos2", "y").raw(buffer.getInt());
+            region.node("pos2", "z").raw(buffer.getInt());
+        }
+    }
+
+    private static void writeValue(@NotNull DataOutputStream output, @NotNull ConfigurationNode node)
+            throws IOException {
+        if (node.isMap()) {
+            Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            output.writeByte(VALUE_MAP);
+            output.writeInt(children.size());
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : children.entrySet()) {
+                writeString(output, entry.getKey().toString());
+                writeValue(output, entry.getValue());
+            }
+            return;
+        }
+        if (node.isList()) {
+            List<? extends ConfigurationNode> children = node.childrenList();
+            output.writeByte(VALUE_LIST);
+            output.writeInt(children.size());
+            for (ConfigurationNode child : children) {
+                writeValue(output, child);
+            }
+            return;
+        }
+        Object value = node.rawScalar();
+        if (value == null) {
+            output.writeByte(VALUE_EMPTY);
+        } else if (value instanceof Boolean bool) {
+            output.writeByte(VALUE_BOOLEAN);
+            output.writeBoolean(bool);
+        } else if (value instanceof Integer integer) {
+            output.writeByte(VALUE_INT);
+            output.writeInt(integer);
+        } else if (value instanceof Long number) {
+            output.writeByte(VALUE_LONG);
+            output.writeLong(number);
+        } else if (value instanceof Double number) {
+            output.writeByte(VALUE_DOUBLE);
+            output.writeDouble(number);
+        } else if (value instanceof Float number) {
+            output.writeByte(VALUE_FLOAT);
+            output.writeFloat(number);
+        } else {
+            String text = value.toString();
+            UUID uuid = asUuid(text);
+            if (uuid == null) {
+                output.writeByte(VALUE_STRING);
+                writeString(output, text);
+                return;
+            }
+            output.writeByte(VALUE_UUID);
+            output.writeLong(uuid.getMostSignificantBits());
+            output.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static void readValue(@NotNull ByteBuffer buffer, @NotNull ConfigurationNode node)
+            throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case VALUE_EMPTY:
+                return;
+            case VALUE_MAP:
+                int mapSize = buffer.getInt();
+                if (mapSize == 0) {
+                    node.raw(Collections.emptyMap());
+                }
+                for (int i = 0; i < mapSize; i++) {
+                    readValue(buffer, node.node(readString(buffer)));
+                }
+                return;
+            case VALUE_LIST:
+                int listSize = buffer.getInt();
+                if (listSize == 0) {
+                    node.raw(Collections.emptyList());
+                }
+                for (int i = 0; i < listSize; i++) {
+                    readValue(buffer, node.appendListNode());
+                }
+                return;
+            case VALUE_STRING:
+                node.raw(readString(buffer));
+                return;
+            case VALUE_BOOLEAN:
+                node.raw(buffer.get() != 0);
+                return;
+            case VALUE_INT:
+                node.raw(buffer.getInt());
+                return;
+            case VALUE_LONG:
+                node.raw(buffer.getLong());
+                return;
+            case VALUE_DOUBLE:
+                node.raw(buffer.getDouble());
+                return;
+            case VALUE_FLOAT:
+                node.raw(buffer.getFloat());
+                return;
+            case VALUE_UUID:
+                node.raw(new UUID(buffer.getLong(), buffer.getLong()).toString());
+                return;
+            default:
+                throw new IOException("Unknown value type of " + type);
+        }
+    }
+
+    private static @Nullable UUID asUuid(@NotNull String text) {
+        if (text.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(text);
+            return uuid.toString().equals(text) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeString(@NotNull DataOutputStream output, @NotNull String text)
+            throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeNullableString(
+            @NotNull DataOutputStream output, @Nullable String text) throws IOException {
+        output.writeBoolean(text != null);
+        if (text != null) {
+            writeString(output, text);
+        }
+    }
+
+    private static @NotNull String readString(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static @Nullable String readNullableString(@NotNull ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return readString(buffer);
+    }
+}
@@ -0,0 +1,206 @@
+package org.zone.region.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Stores each zone in its own file, found at {@code <folder>/<pluginId>/<key>.<extension>}. Zones
+ * are written in the current {@link ZoneFileFormat}, zones found in another format are still read
+ *
+ * @since 1.0.1
+ */
+public class FileZoneStore implements ZoneStore {
+
+    private final @NotNull File folder;
+    private final @NotNull Supplier<ZoneFileFormat> format;
+
+    /**
+     * Creates the store
+     *
+     * @param folder The folder containing a folder for each plugin
+     * @param format Gets the format zones should be written in
+     * @since 1.0.1
+     */
+    public FileZoneStore(@NotNull File folder, @NotNull Supplier<ZoneFileFormat> format) {
+        this.folder = folder;
+        this.format = format;
+    }
+
+    /**
+     * Gets the folder of the store
+     *
+     * @return The folder containing a folder for each plugin
+     * @since 1.0.1
+     */
+    public @NotNull File getFolder() {
+        return this.folder;
+    }
+
+    /**
+     * Gets the format that zones are written in
+     *
+     * @return The format
+     * @since 1.0.1
+     */
+    public @NotNull ZoneFileFormat getFormat() {
+        return this.format.get();
+    }
+
+    /**
+     * Gets the file the zone is currently stored in. The file of the current format is preferred
+     * if the zone is stored in multiple formats
+     *
+     * @param id The id of the zone
+     *
+     * @return The file of the zone, if stored
+     * @since 1.0.1
+     */
+    public @NotNull Optional<File> getFile(@NotNull String id) {
+        File pluginFolder = new File(this.folder, ZoneStore.getPluginId(id));
+        String key = ZoneStore.getKey(id);
+        ZoneFileFormat current = this.getFormat();
+        File file = current.getFile(pluginFolder, key);
+        if (file.exists()) {
+            return Optional.of(file);
+        }
+        for (ZoneFileFormat format : ZoneFileFormat.values()) {
+            if (format == current) {
+                continue;
+            }
+            file = format.getFile(pluginFolder, key);
+            if (file.exists()) {
+                return Optional.of(file);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull Collection<String> list() {
+        Collection<String> ids = new LinkedHashSet<>();
+        File[] pluginFolders = this.folder.listFiles(File::isDirectory);
+        if (pluginFolders == null) {
+            return ids;
+        }
+        for (File pluginFolder : pluginFolders) {
+            File[] keyFiles = pluginFolder.listFiles();
+            if (keyFiles == null) {
+                continue;
+            }
+            for (File file : keyFiles) {
+                ZoneFileFormat
+                        .of(file)
+                        .ifPresent(format -> ids.add(pluginFolder.getName() +
+                                ":" +
+                                format.getKey(file)));
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public @NotNull ConfigurationNode read(@NotNull String id) throws ConfigurateException {
+        Optional<File> opFile = this.getFile(id);
+        if (opFile.isEmpty()) {
+            throw new ConfigurateException("Zone of " + id + " is not stored");
+        }
+        File file = opFile.get();
+        return ZoneFileFormat.of(file).orElse(ZoneFileFormat.HOCON).read(file.toPath());
+    }
+
+    @Override
+    public @NotNull File write(@NotNull String id, @NotNull ConfigurationNode node) throws
+            ConfigurateException {
+        return this.write(id, node, this.getFormat());
+    }
+
+    /**
+     * Writes the zone in the provided format. The zone is written to a temporary file that then
+     * replaces the zone's file, so a failed write never leaves a partly written file. Any file of
+     * the zone in another format is removed once written
+     *
+     * @param id     The id of the zone
+     * @param node   The node of the zone
+     * @param format The format to write in
+     *
+     * @return The file that was written to
+     *
+     * @throws ConfigurateException If the zone could not be written
+     * @since 1.0.1
+     */
+    public @NotNull File write(
+            @NotNull String id, @NotNull ConfigurationNode node, @NotNull ZoneFileFormat format)
+            throws ConfigurateException {
+        File pluginFolder = new File(this.folder, ZoneStore.getPluginId(id));
+        String key = ZoneStore.getKey(id);
+        File file = format.getFile(pluginFolder, key);
+        try {
+            Files.createDirectories(pluginFolder.toPath());
+            Path temp = Files.createTempFile(pluginFolder.toPath(), key, ".tmp");
+            try {
+                format.write(temp, node);
+                try {
+                    Files.move(temp,
+                            file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            for (ZoneFileFormat other : ZoneFileFormat.values()) {
+                if (other != format) {
+                    Files.deleteIfExists(other.getFile(pluginFolder, key).toPath());
+                }
+            }
+        } catch (IOException e) {
+            throw new ConfigurateException(node, e);
+        }
+        return file;
+    }
+
+    @Override
+    public boolean delete(@NotNull String id) throws ConfigurateException {
+        File pluginFolder = new File(this.folder, ZoneStore.getPluginId(id));
+        String key = ZoneStore.getKey(id);
+        boolean deleted = false;
+        try {
+            for (ZoneFileFormat format : ZoneFileFormat.values()) {
+                deleted |= Files.deleteIfExists(format.getFile(pluginFolder, key).toPath());
+            }
+        } catch (IOException e) {
+            throw new ConfigurateException(e);
+        }
+        return deleted;
+    }
+
+    @Override
+    public @NotNull Optional<String> getStamp(@NotNull String id) {
+        return this
+                .getFile(id)
+                .map(file -> file.getName() + ":" + file.lastModified() + ":" + file.length());
+    }
+
+    @Override
+    public boolean isOutdated(@NotNull String id) {
+        return this
+                .getFile(id)
+                .flatMap(ZoneFileFormat::of)
+                .map(format -> format != this.getFormat())
+                .orElse(false);
+    }
+}
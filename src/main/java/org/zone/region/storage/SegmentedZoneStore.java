@@ -0,0 +1,542 @@
+package org.zone.region.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+/**
+ * Stores all zones within a single append-only segment file. Each write appends a record of the
+ * zone in the {@link BinaryZoneFormat} and points the zone's id at it, removing a zone appends an
+ * empty record. The file is memory mapped for reading and the id to offset index is built by
+ * walking the record headers of the mapped file, so opening the store and writing a zone each
+ * take a constant amount of system calls no matter how many zones there are.
+ * <p>
+ * Records that have been replaced are dead space, once the dead space reaches
+ * {@link #COMPACT_RATIO} of the file (and at least {@link #COMPACT_MIN_BYTES}) the live records
+ * are copied into the next generation of the segment file in the background, such as
+ * {@code zones.1.segment}, which the store then switches to. The file being read is never replaced
+ * while it is mapped, the older generation is removed once it is no longer used. A segment file
+ * can not grow past {@link Integer#MAX_VALUE} bytes
+ *
+ * @since 1.0.1
+ */
+public class SegmentedZoneStore implements ZoneStore {
+
+    /**
+     * The first four bytes of the segment file
+     */
+    public static final int MAGIC = 0x5A534547;
+
+    /**
+     * The current version of the segment file
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The fraction of the file that needs to be dead space before it is compacted
+     */
+    public static final double COMPACT_RATIO = 0.5;
+
+    /**
+     * The amount of dead bytes needed before the file is compacted
+     */
+    public static final long COMPACT_MIN_BYTES = 64 * 1024;
+
+    private static final int RECORD_MAGIC = 0x5A524543;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+    private static final int REMOVED = -1;
+
+    private final @NotNull Path path;
+    private @NotNull Path current;
+    private long generation;
+    private final @NotNull Map<String, Record> index = new LinkedHashMap<>();
+    private final @NotNull ExecutorService compactor = Executors.newSingleThreadExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "Zone Segment Compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private @Nullable FileChannel channel;
+    private @Nullable MappedByteBuffer mapped;
+    private long size;
+    private long liveBytes;
+    private boolean compacting;
+    private @Nullable String fileStamp;
+
+    private static final class Record {
+
+        private final long offset;
+        private final int recordLength;
+        private final int dataOffset;
+        private final int dataLength;
+
+        private Record(long offset, int recordLength, int dataOffset, int dataLength) {
+            this.offset = offset;
+            this.recordLength = recordLength;
+            this.dataOffset = dataOffset;
+            this.dataLength = dataLength;
+        }
+    }
+
+    /**
+     * Creates the store, the file is opened when first used
+     *
+     * @param file The segment file
+     * @since 1.0.1
+     */
+    public SegmentedZoneStore(@NotNull File file) {
+        this.path = file.toPath();
+        this.current = this.path;
+    }
+
+    /**
+     * Gets the generation of the segment file that is currently used
+     *
+     * @return The segment file
+     * @since 1.0.1
+     */
+    public synchronized @NotNull File getFile() {
+        return this.current.toFile();
+    }
+
+    /**
+     * Gets the amount of bytes of the segment file that are used by records that have been
+     * replaced or removed
+     *
+     * @return The amount of dead bytes
+     * @since 1.0.1
+     */
+    public synchronized long getDeadBytes() {
+        return Math.max(0, this.size - HEADER_SIZE - this.liveBytes);
+    }
+
+    @Override
+    public synchronized @NotNull Collection<String> list() throws ConfigurateException {
+        this.open();
+        return Collections.unmodifiableCollection(new ArrayList<>(this.index.keySet()));
+    }
+
+    @Override
+    public @NotNull ConfigurationNode read(@NotNull String id) throws ConfigurateException {
+        ByteBuffer data;
+        synchronized (this) {
+            this.open();
+            Record record = this.index.get(id);
+            if (record == null) {
+                throw new ConfigurateException("Zone of " + id + " is not stored");
+            }
+            data = this.slice(record);
+        }
+        try {
+            return BinaryZoneFormat.decode(data);
+        } catch (IOException e) {
+            throw new ConfigurateException("Zone of " + id + " could not be read", e);
+        }
+    }
+
+    @Override
+    public synchronized @NotNull File write(@NotNull String id, @NotNull ConfigurationNode node)
+            throws ConfigurateException {
+        this.open();
+        try {
+            this.append(id, BinaryZoneFormat.encode(node));
+        } catch (IOException e) {
+            throw new ConfigurateException(node, e);
+        }
+        this.compactIfNeeded();
+        return this.getFile();
+    }
+
+    @Override
+    public synchronized boolean delete(@NotNull String id) throws ConfigurateException {
+        this.open();
+        if (!this.index.containsKey(id)) {
+            return false;
+        }
+        try {
+            this.append(id, null);
+        } catch (IOException e) {
+            throw new ConfigurateException(e);
+        }
+        this.compactIfNeeded();
+        return true;
+    }
+
+    /**
+     * Gets a checksum of the zone's record, so the stamp does not change when the record is moved
+     * by compaction
+     *
+     * @param id The id of the zone
+     *
+     * @return The stamp, if the zone is stored
+     */
+    @Override
+    public synchronized @NotNull Optional<String> getStamp(@NotNull String id) {
+        try {
+            this.open();
+            Record record = this.index.get(id);
+            if (record == null) {
+                return Optional.empty();
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(this.slice(record));
+            return Optional.of(Long.toHexString(checksum.getValue()) + ":" + record.dataLength);
+        } catch (ConfigurateException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks if the segment file was changed by something other than this store since the store
+     * last opened or wrote to it
+     *
+     * @return If the segment file was changed elsewhere
+     * @since 1.0.1
+     */
+    public synchronized boolean isChangedElsewhere() {
+        if (this.fileStamp == null) {
+            return Files.exists(this.current);
+        }
+        try {
+            return !this.fileStamp.equals(this.readFileStamp());
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private @NotNull String readFileStamp() throws IOException {
+        return Files.getLastModifiedTime(this.current).toMillis() + ":" + Files.size(this.current);
+    }
+
+    /**
+     * Copies the live records into the next generation of the segment file and switches to it,
+     * removing all dead space
+     *
+     * @throws ConfigurateException If the file could not be compacted
+     * @since 1.0.1
+     */
+    public synchronized void compact() throws ConfigurateException {
+        this.open();
+        Path previous = this.current;
+        Path next = this.getGenerationPath(this.generation + 1);
+        Path temp = next.resolveSibling(next.getFileName() + ".compact");
+        try {
+            try (FileChannel output = FileChannel.open(temp,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+                output.write(createHeader());
+                for (Record record : this.index.values()) {
+                    output.write(this.sliceRecord(record));
+                }
+                output.force(true);
+            }
+            //the next generation is not mapped, so it can be replaced on every platform
+            try {
+                Files.move(temp,
+                        next,
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, next, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new ConfigurateException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        this.close();
+        this.open();
+        if (!this.current.equals(previous)) {
+            deleteQuietly(previous);
+        }
+    }
+
+    /**
+     * Closes the segment file, it will be opened again when next used
+     *
+     * @since 1.0.1
+     */
+    public synchronized void close() {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        this.channel = null;
+        this.mapped = null;
+        this.index.clear();
+        this.size = 0;
+        this.liveBytes = 0;
+        this.fileStamp = null;
+    }
+
+    private void open() throws ConfigurateException {
+        if (this.channel != null) {
+            return;
+        }
+        try {
+            Files.createDirectories(this.path.toAbsolutePath().getParent());
+            this.findCurrent();
+            FileChannel channel = FileChannel.open(this.current,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new ConfigurateException("Segment file is too large: " + this.current);
+            }
+            if (size < HEADER_SIZE) {
+                channel.truncate(0);
+                channel.write(createHeader(), 0);
+                size = HEADER_SIZE;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt(0) != MAGIC || mapped.getShort(Integer.BYTES) != VERSION) {
+                channel.close();
+                throw new ConfigurateException("Not a zone segment file: " + this.current);
+            }
+            this.channel = channel;
+            this.mapped = mapped;
+            this.size = this.scan(mapped);
+            if (this.size != size) {
+                channel.truncate(this.size);
+            }
+            this.fileStamp = this.readFileStamp();
+        } catch (IOException e) {
+            throw new ConfigurateException(e);
+        }
+    }
+
+    private void findCurrent() throws IOException {
+        long newest = 0;
+        Collection<Path> older = new ArrayList<>();
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(this.path
+                .toAbsolutePath()
+                .getParent())) {
+            for (Path sibling : siblings) {
+                long generation = this.getGeneration(sibling);
+                if (generation < 0) {
+                    continue;
+                }
+                if (generation > newest) {
+                    older.add(this.getGenerationPath(newest));
+                    newest = generation;
+                } else if (generation < newest) {
+                    older.add(sibling);
+                }
+            }
+        }
+        this.generation = newest;
+        this.current = this.getGenerationPath(newest);
+        //left behind when the older generation was still mapped while being removed
+        older.stream().filter(Files::exists).forEach(SegmentedZoneStore::deleteQuietly);
+    }
+
+    private @NotNull Path getGenerationPath(long generation) {
+        if (generation == 0) {
+            return this.path;
+        }
+        String name = this.path.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        if (extension < 0) {
+            return this.path.resolveSibling(name + "." + generation);
+        }
+        return this.path.resolveSibling(name.substring(0, extension) +
+                "." +
+                generation +
+                name.substring(extension));
+    }
+
+    private long getGeneration(@NotNull Path sibling) {
+        String name = sibling.getFileName().toString();
+        String base = this.path.getFileName().toString();
+        if (name.equals(base)) {
+            return 0;
+        }
+        int extension = base.lastIndexOf('.');
+        String prefix = (extension < 0 ? base : base.substring(0, extension)) + ".";
+        String suffix = extension < 0 ? "" : base.substring(extension);
+        if (!name.startsWith(prefix) ||
+                !name.endsWith(suffix) ||
+                name.length() <= prefix.length() + suffix.length()) {
+            return -1;
+        }
+        String generation = name.substring(prefix.length(), name.length() - suffix.length());
+        try {
+            return Long.parseUnsignedLong(generation);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void deleteQuietly(@NotNull Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            //still mapped on some platforms, removed when the store is next opened
+        }
+    }
+
+    private long scan(@NotNull ByteBuffer mapped) {
+        long end = mapped.limit();
+        int position = HEADER_SIZE;
+        while (position + Integer.BYTES * 3 <= end) {
+            if (mapped.getInt(position) != RECORD_MAGIC) {
+                break;
+            }
+            int idLength = mapped.getInt(position + Integer.BYTES);
+            if (idLength < 0 || position + Integer.BYTES * 3L + idLength > end) {
+                break;
+            }
+            int dataLengthOffset = position + Integer.BYTES * 2 + idLength;
+            int dataLength = mapped.getInt(dataLengthOffset);
+            int dataOffset = dataLengthOffset + Integer.BYTES;
+            long recordEnd = (long) dataOffset + Math.max(dataLength, 0);
+            if (dataLength < REMOVED || recordEnd > end) {
+                break;
+            }
+            byte[] idBytes = new byte[idLength];
+            mapped.get(position + Integer.BYTES * 2, idBytes);
+            String id = new String(idBytes, StandardCharsets.UTF_8);
+            Record record = dataLength == REMOVED ?
+                    null :
+                    new Record(position,
+                            (int) (recordEnd - position),
+                            dataOffset - position,
+                            dataLength);
+            this.put(id, record);
+            position = (int) recordEnd;
+        }
+        return position;
+    }
+
+    private void append(@NotNull String id, byte @Nullable [] data) throws IOException {
+        FileChannel channel = this.channel;
+        if (channel == null) {
+            throw new IOException("Segment file is not open");
+        }
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int dataLength = data == null ? 0 : data.length;
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 3 + idBytes.length + dataLength);
+        buffer.putInt(RECORD_MAGIC);
+        buffer.putInt(idBytes.length);
+        buffer.put(idBytes);
+        buffer.putInt(data == null ? REMOVED : data.length);
+        if (data != null) {
+            buffer.put(data);
+        }
+        buffer.flip();
+        long offset = this.size;
+        if (offset + buffer.limit() > Integer.MAX_VALUE) {
+            //records are read from a single mapped buffer, which is indexed by int
+            throw new IOException("Segment file is full, it needs to be compacted: " +
+                    this.current);
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+        channel.force(false);
+        this.size = offset + buffer.limit();
+        this.fileStamp = this.readFileStamp();
+        Record record = data == null ?
+                null :
+                new Record(offset,
+                        buffer.limit(),
+                        Integer.BYTES * 3 + idBytes.length,
+                        data.length);
+        this.put(id, record);
+    }
+
+    private void put(@NotNull String id, @Nullable Record record) {
+        Record previous = record == null ? this.index.remove(id) : this.index.put(id, record);
+        if (previous != null) {
+            this.liveBytes -= previous.recordLength;
+        }
+        if (record != null) {
+            this.liveBytes += record.recordLength;
+        }
+    }
+
+    private @NotNull ByteBuffer slice(@NotNull Record record) throws ConfigurateException {
+        ByteBuffer buffer = this.sliceRecord(record);
+        return buffer
+                .position(record.dataOffset)
+                .limit(record.dataOffset + record.dataLength)
+                .slice();
+    }
+
+    private @NotNull ByteBuffer sliceRecord(@NotNull Record record) throws ConfigurateException {
+        MappedByteBuffer mapped = this.mapped;
+        FileChannel channel = this.channel;
+        if (mapped == null || channel == null) {
+            throw new ConfigurateException("Segment file is not open");
+        }
+        if (record.offset + record.recordLength > mapped.limit()) {
+            try {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, this.size);
+            } catch (IOException e) {
+                throw new ConfigurateException(e);
+            }
+            this.mapped = mapped;
+        }
+        return mapped
+                .duplicate()
+                .position((int) record.offset)
+                .limit((int) (record.offset + record.recordLength))
+                .slice();
+    }
+
+    private void compactIfNeeded() {
+        long dead = this.getDeadBytes();
+        if (this.compacting || dead < COMPACT_MIN_BYTES || dead < this.size * COMPACT_RATIO) {
+            return;
+        }
+        this.compacting = true;
+        this.compactor.execute(() -> {
+            try {
+                this.compact();
+            } catch (ConfigurateException e) {
+                e.printStackTrace();
+            } finally {
+                synchronized (this) {
+                    this.compacting = false;
+                }
+            }
+        });
+    }
+
+    private static @NotNull ByteBuffer createHeader() {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).flip();
+    }
+}
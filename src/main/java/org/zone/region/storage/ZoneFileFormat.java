@@ -0,0 +1,145 @@
+package org.zone.region.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The formats a zone can be stored in. Both formats hold the same information, so a zone can be
+ * loaded from one and saved in the other without losing anything
+ *
+ * @since 1.0.1
+ */
+public enum ZoneFileFormat {
+
+    /**
+     * The human editable Hocon format
+     */
+    HOCON("conf") {
+        @Override
+        public @NotNull ConfigurationNode read(@NotNull Path path) throws ConfigurateException {
+            return HoconConfigurationLoader.builder().path(path).build().load();
+        }
+
+        @Override
+        public void write(@NotNull Path path, @NotNull ConfigurationNode node) throws
+                ConfigurateException {
+            HoconConfigurationLoader.builder().path(path).build().save(node);
+        }
+    },
+
+    /**
+     * The compact binary format, see {@link BinaryZoneFormat}
+     */
+    BINARY("zone") {
+        @Override
+        public @NotNull ConfigurationNode read(@NotNull Path path) throws ConfigurateException {
+            try {
+                return BinaryZoneFormat.read(path);
+            } catch (IOException e) {
+                throw new ConfigurateException(e);
+            }
+        }
+
+        @Override
+        public void write(@NotNull Path path, @NotNull ConfigurationNode node) throws
+                ConfigurateException {
+            try {
+                BinaryZoneFormat.write(path, node);
+            } catch (IOException e) {
+                throw new ConfigurateException(node, e);
+            }
+        }
+    };
+
+    private final @NotNull String extension;
+
+    ZoneFileFormat(@NotNull String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the file extension of the format, without the dot
+     *
+     * @return The file extension
+     * @since 1.0.1
+     */
+    public @NotNull String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * Gets the key of the zone from a file of this format
+     *
+     * @param file The zone file
+     *
+     * @return The key of the zone
+     * @since 1.0.1
+     */
+    public @NotNull String getKey(@NotNull File file) {
+        String fileName = file.getName();
+        return fileName.substring(0, fileName.length() - this.extension.length() - 1);
+    }
+
+    /**
+     * Gets the file the zone would be stored in using this format
+     *
+     * @param folder The folder of the zone's plugin
+     * @param key    The key of the zone
+     *
+     * @return The file
+     * @since 1.0.1
+     */
+    public @NotNull File getFile(@NotNull File folder, @NotNull String key) {
+        return new File(folder, key + "." + this.extension);
+    }
+
+    /**
+     * Reads the zone's node from the file
+     *
+     * @param path The file to read
+     *
+     * @return The zone's node
+     *
+     * @throws ConfigurateException If the file could not be read
+     * @since 1.0.1
+     */
+    public abstract @NotNull ConfigurationNode read(@NotNull Path path) throws
+            ConfigurateException;
+
+    /**
+     * Writes the zone's node to the file
+     *
+     * @param path The file to write to
+     * @param node The zone's node
+     *
+     * @throws ConfigurateException If the file could not be written
+     * @since 1.0.1
+     */
+    public abstract void write(@NotNull Path path, @NotNull ConfigurationNode node) throws
+            ConfigurateException;
+
+    /**
+     * Gets the format of the file from its extension
+     *
+     * @param file The file
+     *
+     * @return The format, if the extension is known
+     * @since 1.0.1
+     */
+    public static @NotNull Optional<ZoneFileFormat> of(@NotNull File file) {
+        String fileName = file.getName();
+        for (ZoneFileFormat format : values()) {
+            if (fileName.endsWith("." + format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,114 @@
+package org.zone.region.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Where the nodes of zones are stored. Each zone is stored under its id, being the plugin id and
+ * key of the zone split by a ':'
+ *
+ * @since 1.0.1
+ */
+public interface ZoneStore {
+
+    /**
+     * Gets the ids of all the zones within the store
+     *
+     * @return The ids of the stored zones
+     *
+     * @throws ConfigurateException If the store could not be read
+     * @since 1.0.1
+     */
+    @NotNull Collection<String> list() throws ConfigurateException;
+
+    /**
+     * Reads the node of a zone. This may be called from multiple threads at once
+     *
+     * @param id The id of the zone
+     *
+     * @return The node of the zone
+     *
+     * @throws ConfigurateException If the zone is not within the store or could not be read
+     * @since 1.0.1
+     */
+    @NotNull ConfigurationNode read(@NotNull String id) throws ConfigurateException;
+
+    /**
+     * Writes the node of a zone, replacing any node previously stored with the id
+     *
+     * @param id   The id of the zone
+     * @param node The node of the zone
+     *
+     * @return The file the zone was written to
+     *
+     * @throws ConfigurateException If the zone could not be written
+     * @since 1.0.1
+     */
+    @NotNull File write(@NotNull String id, @NotNull ConfigurationNode node) throws
+            ConfigurateException;
+
+    /**
+     * Removes the zone from the store
+     *
+     * @param id The id of the zone
+     *
+     * @return If the zone was within the store
+     *
+     * @throws ConfigurateException If the zone could not be removed
+     * @since 1.0.1
+     */
+    boolean delete(@NotNull String id) throws ConfigurateException;
+
+    /**
+     * Checks if the zone is stored in a way that is no longer used, such as an old format, so it
+     * should be written again
+     *
+     * @param id The id of the zone
+     *
+     * @return If the zone should be written again
+     * @since 1.0.1
+     */
+    default boolean isOutdated(@NotNull String id) {
+        return false;
+    }
+
+    /**
+     * Gets a stamp of the stored zone that changes whenever the stored zone changes, such as the
+     * size and modified time of a file. This is used to tell if a zone needs to be read again
+     *
+     * @param id The id of the zone
+     *
+     * @return The stamp, if the zone is stored
+     * @since 1.0.1
+     */
+    @NotNull Optional<String> getStamp(@NotNull String id);
+
+    /**
+     * Gets the plugin id from the id of a zone
+     *
+     * @param id The id of the zone
+     *
+     * @return The plugin id
+     * @since 1.0.1
+     */
+    static @NotNull String getPluginId(@NotNull String id) {
+        return id.substring(0, id.indexOf(':'));
+    }
+
+    /**
+     * Gets the key from the id of a zone
+     *
+     * @param id The id of the zone
+     *
+     * @return The key of the zone
+     * @since 1.0.1
+     */
+    static @NotNull String getKey(@NotNull String id) {
+        return id.substring(id.indexOf(':') + 1);
+    }
+}
@@ -0,0 +1,19 @@
+package org.zone.region.storage;
+
+/**
+ * The types of {@link ZoneStore} that zones can be saved to
+ *
+ * @since 1.0.1
+ */
+public enum ZoneStoreType {
+
+    /**
+     * A file for each zone, see {@link FileZoneStore}
+     */
+    FILES,
+
+    /**
+     * A single file for all zones, see {@link SegmentedZoneStore}
+     */
+    SEGMENTED
+}
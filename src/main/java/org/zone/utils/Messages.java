@@ -15,6 +15,7 @@ import org.zone.commands.system.ArgumentCommand;
 import org.zone.commands.system.context.ErrorContext;
 import org.zone.permissions.ZonePermission;
 import org.zone.region.Zone;
+import org.zone.region.ZoneLoader;
 import org.zone.region.flag.FlagType;
 import org.zone.region.flag.entity.player.move.greetings.GreetingsFlag;
 import org.zone.region.flag.entity.player.move.leaving.LeavingFlag;
@@ -151,6 +152,30 @@ public final class Messages {
                         .color(NamedTextColor.RED));
     }
 
+    public static Component getZonesLoadTimings(ZoneLoader.Timings timings) {
+        return Component
+                .text("|- Found " +
+                        timings.getFiles() +
+                        " zones, loaded " +
+                        timings.getLoaded() +
+                        ", kept " +
+                        timings.getUnchanged() +
+                        " and removed " +
+                        timings.getRemoved() +
+                        " in " +
+                        timings.getTotal() +
+                        "ms (listing " +
+                        timings.getListing() +
+                        "ms, parsing " +
+                        timings.getParsing() +
+                        "ms, flags " +
+                        timings.getFlagDecoding() +
+                        "ms, regions " +
+                        timings.getRegionDecoding() +
+                        "ms)")
+                .color(NamedTextColor.DARK_AQUA);
+    }
+
     public static Component getZonesLoaded(Collection<Zone> zoneCollection) {
         return Component
                 .text("|---|Loaded " + zoneCollection.size() + " Zones|---|")
@@ -0,0 +1,124 @@
+package region;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.block.transaction.Operation;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.ZonePlugin;
+import org.zone.region.ChangeBlockResolver;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import tools.ZoneMocks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ChangeBlockResolverTests {
+
+    private static final ResourceKey WORLD = Mockito.mock(ResourceKey.class);
+    private static final ResourceKey OTHER_WORLD = Mockito.mock(ResourceKey.class);
+
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+    private ZoneManager manager;
+    private Operation breaking;
+
+    private BlockTransaction createTransaction(ResourceKey world, int x, int y, int z) {
+        BlockSnapshot original = Mockito.mock(BlockSnapshot.class);
+        Mockito.when(original.world()).thenReturn(world);
+        Mockito.when(original.position()).thenReturn(new Vector3i(x, y, z));
+        BlockTransaction transaction = Mockito.mock(BlockTransaction.class);
+        Mockito.when(transaction.original()).thenReturn(original);
+        Mockito.when(transaction.operation()).thenReturn(this.breaking);
+        return transaction;
+    }
+
+    @BeforeEach
+    public void setup() {
+        this.breaking = Mockito.mock(Operation.class);
+        this.manager = Mockito.spy(new ZoneManager());
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        Mockito.when(plugin.getZoneManager()).thenReturn(this.manager);
+        this.staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+        this.staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+    }
+
+    @AfterEach
+    public void close() {
+        this.staticZonePlugin.close();
+    }
+
+    @Test
+    public void testZonesAreDecidedOncePerZone() {
+        //spans 13 chunks, more than the cache starts with room for
+        Zone wide = ZoneMocks.createZone("zones:wide",
+                WORLD,
+                new Vector3i(0, 0, 0),
+                new Vector3i(207, 64, 15));
+        Zone open = ZoneMocks.createZone("zones:open",
+                WORLD,
+                new Vector3i(0, 0, 32),
+                new Vector3i(15, 64, 47));
+        Zone other = ZoneMocks.createZone("zones:other",
+                OTHER_WORLD,
+                new Vector3i(0, 0, 0),
+                new Vector3i(15, 64, 15));
+        this.manager.registerAll(List.of(wide, open, other));
+
+        List<BlockTransaction> protectedTransactions = new ArrayList<>();
+        List<BlockTransaction> openTransactions = new ArrayList<>();
+        List<BlockTransaction> transactions = new ArrayList<>();
+        for (int pass = 0; pass < 2; pass++) {
+            for (int x = 0; x <= 207; x += 8) {
+                protectedTransactions.add(this.createTransaction(WORLD, x, 5, 5));
+            }
+        }
+        transactions.addAll(protectedTransactions);
+        for (int z = 32; z <= 47; z += 4) {
+            openTransactions.add(this.createTransaction(WORLD, 5, 5, z));
+        }
+        transactions.addAll(openTransactions);
+        BlockTransaction otherWorld = this.createTransaction(OTHER_WORLD, 5, 5, 5);
+        BlockTransaction backAgain = this.createTransaction(WORLD, 5, 5, 5);
+        transactions.add(otherWorld);
+        transactions.add(backAgain);
+        BlockTransaction placing = this.createTransaction(WORLD, 6, 5, 6);
+        Mockito.when(placing.operation()).thenReturn(Mockito.mock(Operation.class));
+        transactions.add(placing);
+        ChangeBlockEvent.All event = Mockito.mock(ChangeBlockEvent.All.class);
+        Mockito.when(event.transactions()).thenReturn(transactions);
+
+        Map<Zone, Integer> decisions = new HashMap<>();
+        int invalidated = ChangeBlockResolver.invalidate(event,
+                operation -> operation == this.breaking,
+                zone -> {
+                    decisions.merge(zone, 1, Integer::sum);
+                    return zone != open;
+                });
+
+        Assertions.assertEquals(Map.of(wide, 1, open, 1, other, 1), decisions);
+        Assertions.assertEquals(protectedTransactions.size() + 2, invalidated);
+        protectedTransactions.forEach(transaction -> Mockito.verify(transaction).invalidate());
+        openTransactions.forEach(transaction -> Mockito
+                .verify(transaction, Mockito.never())
+                .invalidate());
+        Mockito.verify(otherWorld).invalidate();
+        Mockito.verify(backAgain).invalidate();
+        Mockito.verify(placing, Mockito.never()).invalidate();
+
+        //each chunk is looked up once, until the world changes
+        Mockito.verify(this.manager).getChunkZones(WORLD, 12, 0);
+        Mockito.verify(this.manager).getChunkZones(WORLD, 0, 2);
+        Mockito.verify(this.manager).getChunkZones(OTHER_WORLD, 0, 0);
+        Mockito.verify(this.manager, Mockito.times(2)).getChunkZones(WORLD, 0, 0);
+    }
+}
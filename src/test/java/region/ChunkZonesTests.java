@@ -0,0 +1,93 @@
+package region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.ChunkZones;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import tools.ZoneMocks;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ChunkZonesTests {
+
+    private static final ResourceKey WORLD = Mockito.mock(ResourceKey.class);
+
+    @Test
+    public void testChildTakesPriorityOverParent() {
+        ZoneManager manager = new ZoneManager();
+        Zone parent = ZoneMocks.createZone("zones:parent",
+                WORLD,
+                new Vector3i(0, 0, 0),
+                new Vector3i(31, 64, 31));
+        Zone child = ZoneMocks.createZone("zones:child",
+                WORLD,
+                new Vector3i(4, 10, 4),
+                new Vector3i(8, 20, 8));
+        Mockito.when(child.getParent()).thenReturn(Optional.of(parent));
+        Mockito.when(child.getParentId()).thenReturn(Optional.of("zones:parent"));
+        manager.registerAll(List.of(parent, child));
+
+        ChunkZones zones = manager.getChunkZones(WORLD, 0, 0);
+
+        Assertions.assertEquals(2, zones.getZones().size());
+        Assertions.assertSame(child, zones.getPriorityZone(5, 15, 5));
+        //the child only covers part of the height
+        Assertions.assertSame(parent, zones.getPriorityZone(5, 30, 5));
+        Assertions.assertSame(parent, zones.getPriorityZone(12, 15, 12));
+    }
+
+    @Test
+    public void testOverlappingZonesUseSmallestId() {
+        ZoneManager manager = new ZoneManager();
+        Zone second = ZoneMocks.createZone("zones:second",
+                WORLD,
+                new Vector3i(0, 0, 0),
+                new Vector3i(10, 10, 10));
+        Zone first = ZoneMocks.createZone("zones:first",
+                WORLD,
+                new Vector3i(5, 0, 5),
+                new Vector3i(20, 10, 20));
+        manager.registerAll(List.of(second, first));
+
+        ChunkZones zones = manager.getChunkZones(WORLD, 0, 0);
+
+        Assertions.assertSame(second, zones.getPriorityZone(2, 5, 2));
+        Assertions.assertSame(first, zones.getPriorityZone(7, 5, 7));
+        Assertions.assertNull(zones.getPriorityZone(2, 5, 14));
+        Assertions.assertTrue(manager.getChunkZones(WORLD, 4, 4).isEmpty());
+    }
+
+    @Test
+    public void testOwnershipOfChunks() {
+        ZoneManager manager = new ZoneManager();
+        Zone claim = ZoneMocks.createZone("zones:claim",
+                WORLD,
+                new Vector3i(0, 0, 0),
+                new Vector3i(47, 10, 31));
+        manager.register(claim);
+
+        ChunkZones inside = manager.getChunkZones(WORLD, 2, 1);
+        Assertions.assertEquals(ChunkZones.Ownership.FULL, inside.getOwnership());
+        Assertions.assertEquals(Optional.of(claim), inside.getOwner());
+        Assertions.assertSame(claim, inside.getPriorityZone(47, 200, 31));
+        //within the last block but past the edge of the region
+        Assertions.assertNull(inside.getPriorityZone(47.5, 5, 20));
+        Assertions.assertSame(inside, manager.getChunkZones(WORLD, 2, 1));
+        Assertions.assertEquals(ChunkZones.Ownership.EMPTY,
+                manager.getChunkZones(WORLD, 3, 1).getOwnership());
+
+        Zone other = ZoneMocks.createZone("zones:other",
+                WORLD,
+                new Vector3i(40, 0, 20),
+                new Vector3i(60, 10, 40));
+        manager.register(other);
+        Assertions.assertEquals(ChunkZones.Ownership.MIXED,
+                manager.getChunkZones(WORLD, 2, 1).getOwnership());
+        Assertions.assertSame(other, manager.getChunkZones(WORLD, 3, 1).getPriorityZone(50, 5, 25));
+    }
+}
@@ -0,0 +1,78 @@
+package region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.PriorityZoneCache;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.PositionType;
+import tools.ZoneMocks;
+
+import java.util.Optional;
+
+public class PriorityZoneCacheTests {
+
+    private static final ResourceKey WORLD = Mockito.mock(ResourceKey.class);
+
+    @Test
+    public void testRepeatedLookupIsHit() {
+        ZoneManager manager = new ZoneManager();
+        Zone zone = ZoneMocks.createZone("zones:first",
+                WORLD,
+                new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10)));
+        manager.register(zone);
+        PriorityZoneCache cache = manager.getPriorityZoneCache();
+
+        Assertions.assertEquals(Optional.of(zone), cache.getPriorityZone(WORLD, 5, 5, 5));
+        Assertions.assertEquals(Optional.of(zone), cache.getPriorityZone(WORLD, 5, 5, 5));
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, -5, 5, -5));
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, -5, 5, -5));
+
+        Assertions.assertEquals(2, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+        Assertions.assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testChangedZonesAreInvalidated() {
+        ZoneManager manager = new ZoneManager();
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10));
+        Zone first = ZoneMocks.createZone("zones:first", WORLD, region);
+        manager.register(first);
+        PriorityZoneCache cache = manager.getPriorityZoneCache();
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, 20, 5, 20));
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, 500, 5, 500));
+
+        region.setPosition(PositionType.TWO, new Vector3i(30, 10, 30));
+        manager.updateBounds(first);
+        //the block outside of the zone is kept
+        Assertions.assertEquals(1, cache.getSize());
+        Assertions.assertEquals(Optional.of(first), cache.getPriorityZone(WORLD, 20, 5, 20));
+
+        Zone second = ZoneMocks.createZone("zones:a",
+                WORLD,
+                new BoundedRegion(new Vector3i(15, 0, 15), new Vector3i(25, 10, 25)));
+        manager.register(second);
+        Assertions.assertEquals(Optional.of(second), cache.getPriorityZone(WORLD, 20, 5, 20));
+
+        manager.unregister(second);
+        Assertions.assertEquals(Optional.of(first), cache.getPriorityZone(WORLD, 20, 5, 20));
+    }
+
+    @Test
+    public void testDisabledCacheIsBypassed() {
+        ZoneManager manager = new ZoneManager();
+        PriorityZoneCache cache = manager.getPriorityZoneCache();
+        cache.setEnabled(false);
+
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, 5, 5, 5));
+        Assertions.assertEquals(Optional.empty(), cache.getPriorityZone(WORLD, 5, 5, 5));
+
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(0, cache.getSize());
+    }
+}
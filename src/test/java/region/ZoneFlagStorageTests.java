@@ -0,0 +1,136 @@
+package region;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.EventManager;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneBuilder;
+import org.zone.region.bounds.ChildRegion;
+import org.zone.region.flag.DefaultFlagFile;
+import org.zone.region.flag.Flag;
+import org.zone.region.flag.FlagManager;
+import org.zone.region.flag.FlagType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class ZoneFlagStorageTests {
+
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+    private MockedStatic<Sponge> staticSponge;
+    private FlagManager flagManager;
+
+    private static FlagType<Flag> createType(String id) {
+        //noinspection unchecked
+        FlagType<Flag> type = Mockito.mock(FlagType.class);
+        Mockito.when(type.getId()).thenReturn(id);
+        return type;
+    }
+
+    private static Flag createFlag(FlagType<?> type) {
+        Flag flag = Mockito.mock(Flag.class);
+        Mockito.<FlagType<?>>when(flag.getType()).thenReturn(type);
+        return flag;
+    }
+
+    private static Zone createZone(Flag... flags) {
+        return new ZoneBuilder()
+                .setKey("first")
+                .setName("First")
+                .setWorld(Mockito.mock(ResourceKey.class))
+                .setRegion(new ChildRegion())
+                .addFlags(flags)
+                .build();
+    }
+
+    @BeforeEach
+    public void setup() {
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        this.staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+        this.staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+        try (MockedConstruction<DefaultFlagFile> ignored = Mockito.mockConstruction(
+                DefaultFlagFile.class)) {
+            this.flagManager = new FlagManager();
+        }
+        Mockito.when(plugin.getFlagManager()).thenReturn(this.flagManager);
+
+        this.staticSponge = Mockito.mockStatic(Sponge.class);
+        this.staticSponge.when(Sponge::eventManager).thenReturn(Mockito.mock(EventManager.class));
+    }
+
+    @AfterEach
+    public void close() {
+        this.staticSponge.close();
+        this.staticZonePlugin.close();
+    }
+
+    @Test
+    public void testOrdinalsAreDenseAndStable() {
+        FlagType<Flag> first = createType("zones:first");
+        FlagType<Flag> second = createType("zones:second");
+        int count = this.flagManager.getOrdinalCount();
+
+        this.flagManager.register(first);
+        this.flagManager.register(second);
+
+        Assertions.assertEquals(count, this.flagManager.getOrdinal(first));
+        Assertions.assertEquals(count + 1, this.flagManager.getOrdinal(second));
+        Assertions.assertEquals(count, this.flagManager.getOrdinal(first));
+        Assertions.assertEquals(count + 2, this.flagManager.getOrdinalCount());
+    }
+
+    @Test
+    public void testAddReplaceAndRemoveKeepFlagsInSync() {
+        FlagType<Flag> firstType = createType("zones:first");
+        FlagType<Flag> secondType = createType("zones:second");
+        this.flagManager.register(firstType);
+        this.flagManager.register(secondType);
+        Flag first = createFlag(firstType);
+        Zone zone = createZone(first);
+
+        Flag second = createFlag(secondType);
+        Assertions.assertTrue(zone.addFlag(second));
+        Assertions.assertEquals(Optional.of(first), zone.getFlag(firstType));
+        Assertions.assertEquals(Optional.of(second), zone.getFlag(secondType));
+        Assertions.assertEquals(Set.of(first, second), Set.copyOf(zone.getFlags()));
+
+        Flag replacement = createFlag(firstType);
+        Assertions.assertTrue(zone.setFlag(replacement));
+        Assertions.assertEquals(Optional.of(replacement), zone.getFlag(firstType));
+        Assertions.assertEquals(Set.of(replacement, second), Set.copyOf(zone.getFlags()));
+
+        Assertions.assertTrue(zone.removeFlag(secondType));
+        Assertions.assertFalse(zone.containsFlag(secondType));
+        Assertions.assertEquals(Optional.empty(), zone.getFlag(secondType));
+        Assertions.assertEquals(List.of(replacement), List.copyOf(zone.getFlags()));
+        Assertions.assertFalse(zone.removeFlag(secondType));
+    }
+
+    @Test
+    public void testTypeRegisteredAfterZoneIsBuilt() {
+        FlagType<Flag> firstType = createType("zones:first");
+        this.flagManager.register(firstType);
+        Flag first = createFlag(firstType);
+        Zone zone = createZone(first);
+
+        FlagType<Flag> laterType = createType("zones:later");
+        this.flagManager.register(laterType);
+        Assertions.assertFalse(zone.containsFlag(laterType));
+        Assertions.assertEquals(Optional.empty(), zone.getFlag(laterType));
+
+        Flag later = createFlag(laterType);
+        Assertions.assertTrue(zone.addFlag(later));
+        Assertions.assertEquals(Optional.of(later), zone.getFlag(laterType));
+        Assertions.assertEquals(Optional.of(first), zone.getFlag(firstType));
+        Assertions.assertEquals(Set.of(first, later), Set.copyOf(zone.getFlags()));
+    }
+}
@@ -0,0 +1,98 @@
+package region;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.zone.region.Zone;
+import org.zone.region.ZoneChange;
+import org.zone.region.ZoneJournal;
+import org.zone.region.ZoneManager;
+import org.zone.region.ZoneSaveQueue;
+import tools.ZoneMocks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ZoneJournalTests {
+
+    @Test
+    public void testAppendAndRead(@TempDir Path folder) throws IOException {
+        ZoneJournal journal = new ZoneJournal(Mockito.mock(ZoneManager.class),
+                folder.resolve("zones.journal").toFile(),
+                Runnable::run);
+        journal.setEnabled(true);
+        UUID member = UUID.randomUUID();
+        LocalDateTime release = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        journal.append(new ZoneChange.MemberAdded("zones:first", "zone:owner", member));
+        journal.append(new ZoneChange.BanAdded("zones:first", member, release));
+        journal.append(new ZoneChange.MemberRemoved("zones:second", member));
+
+        List<ZoneChange> changes = journal.read();
+        Assertions.assertEquals(3, changes.size());
+        ZoneChange.MemberAdded added = (ZoneChange.MemberAdded) changes.get(0);
+        Assertions.assertEquals("zones:first", added.getZoneId());
+        Assertions.assertEquals("zone:owner", added.getGroupId());
+        Assertions.assertEquals(member, added.getMember());
+        ZoneChange.BanAdded banned = (ZoneChange.BanAdded) changes.get(1);
+        Assertions.assertEquals(Optional.of(release), banned.getRelease());
+        Assertions.assertEquals("zones:second", changes.get(2).getZoneId());
+        Assertions.assertEquals(ZoneChange.Type.MEMBER_REMOVED, changes.get(2).getType());
+        journal.setEnabled(false);
+    }
+
+    @Test
+    public void testTornRecordIsRemoved(@TempDir Path folder) throws IOException {
+        File file = folder.resolve("zones.journal").toFile();
+        ZoneJournal journal = new ZoneJournal(Mockito.mock(ZoneManager.class), file, Runnable::run);
+        journal.setEnabled(true);
+        journal.append(new ZoneChange.MemberRemoved("zones:first", UUID.randomUUID()));
+        journal.append(new ZoneChange.MemberRemoved("zones:second", UUID.randomUUID()));
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.setLength(file.length() - 3);
+        }
+
+        Assertions.assertEquals(1, journal.read().size());
+        journal.append(new ZoneChange.MemberRemoved("zones:third", UUID.randomUUID()));
+        List<ZoneChange> changes = journal.read();
+        Assertions.assertEquals(2, changes.size());
+        Assertions.assertEquals("zones:third", changes.get(1).getZoneId());
+        journal.setEnabled(false);
+    }
+
+    @Test
+    public void testCheckpointSavesAndClears(@TempDir Path folder) throws Exception {
+        ZoneManager manager = Mockito.mock(ZoneManager.class);
+        Zone zone = ZoneMocks.createZone("zones:first");
+        Mockito.when(manager.getZone("zones:first")).thenReturn(Optional.of(zone));
+        File file = folder.resolve("zones.journal").toFile();
+        Mockito.when(manager.snapshot(zone)).thenReturn(BasicConfigurationNode.root());
+        Mockito.when(manager.getSaveQueue()).thenReturn(new ZoneSaveQueue(manager,
+                Mockito.mock(Logger.class)));
+        ZoneJournal journal = new ZoneJournal(manager, file, Runnable::run);
+        journal.setEnabled(true);
+        journal.append(new ZoneChange.MemberRemoved("zones:first", UUID.randomUUID()));
+        journal.append(new ZoneChange.MemberRemoved("zones:first", UUID.randomUUID()));
+        Assertions.assertTrue(journal.consumeRecorded(zone));
+        Assertions.assertFalse(journal.consumeRecorded(zone));
+
+        journal.checkpoint();
+
+        Mockito
+                .verify(manager, Mockito.times(1))
+                .write(ArgumentMatchers.eq("zones:first"), ArgumentMatchers.any());
+        Assertions.assertTrue(journal.read().isEmpty());
+        journal.setEnabled(false);
+        Assertions.assertFalse(file.exists());
+    }
+}
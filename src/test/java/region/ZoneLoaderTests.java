@@ -0,0 +1,105 @@
+package region;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.Sponge;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneLoader;
+import org.zone.region.ZoneManager;
+import org.zone.region.ZoneSaveQueue;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.region.storage.ZoneStore;
+import org.zone.region.storage.ZoneStoreType;
+import tools.ZoneStoreMocks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ZoneLoaderTests {
+
+    private MockedStatic<Sponge> staticSponge;
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+
+    @BeforeEach
+    public void setup() {
+        this.staticSponge = ZoneStoreMocks.mockSponge("zones");
+        this.staticZonePlugin = ZoneStoreMocks.mockPlugin(ZoneStoreType.FILES);
+    }
+
+    @AfterEach
+    public void close() {
+        this.staticZonePlugin.close();
+        this.staticSponge.close();
+    }
+
+    @Test
+    public void testLoadPrefersPrimaryStoreAndMovesOthers(@TempDir Path folder) throws
+            IOException {
+        ZoneSaveQueue queue = Mockito.mock(ZoneSaveQueue.class);
+        ZoneManager manager = Mockito.spy(new ZoneManager(Mockito.mock(Logger.class),
+                folder.toFile(),
+                () -> ZoneFileFormat.HOCON));
+        Mockito.doReturn(queue).when(manager).getSaveQueue();
+        ZoneStore segmented = manager.getStore(ZoneStoreType.SEGMENTED);
+
+        ZoneStoreMocks.writeZone(folder, "zones:good", "Good");
+        ZoneStoreMocks.writeZone(folder, "zones:both", "Both In Files");
+        Files.writeString(folder.resolve("zones").resolve("broken.conf"), "Name = \"Bro");
+        segmented.write("zones:both", ZoneStoreMocks.createNode("Both In Segment"));
+        segmented.write("zones:moved", ZoneStoreMocks.createNode("Moved"));
+
+        ZoneLoader loader = new ZoneLoader(manager, ZoneStoreType.FILES, Runnable::run);
+        Collection<Zone> loaded = loader.load();
+        Map<String, Zone> zones = loaded
+                .stream()
+                .collect(Collectors.toMap(Zone::getId, Function.identity()));
+
+        Assertions.assertEquals(Set.of("zones:good", "zones:both", "zones:moved"), zones.keySet());
+        Assertions.assertEquals("Both In Files", zones.get("zones:both").getName());
+        Assertions.assertEquals("Moved", zones.get("zones:moved").getName());
+
+        Mockito.verify(manager).markMoving(zones.get("zones:moved"));
+        Mockito.verify(manager, Mockito.never()).markMoving(zones.get("zones:both"));
+        Mockito.verify(manager, Mockito.never()).markMoving(zones.get("zones:good"));
+        Mockito.verify(queue).markDirty(zones.get("zones:moved"));
+        Mockito.verify(queue, Mockito.times(1)).markDirty(ArgumentMatchers.any());
+
+        ZoneLoader.Timings timings = loader.getTimings();
+        Assertions.assertEquals(4, timings.getFiles());
+        Assertions.assertEquals(3, timings.getLoaded());
+        Assertions.assertTrue(timings.getTotal() >= timings.getListing());
+        Assertions.assertTrue(timings.getTotal() >=
+                timings.getParsing() + timings.getRegionDecoding() + timings.getFlagDecoding());
+    }
+
+    @Test
+    public void testOutdatedFormatIsSavedAgain(@TempDir Path folder) throws IOException {
+        ZoneSaveQueue queue = Mockito.mock(ZoneSaveQueue.class);
+        ZoneManager manager = Mockito.spy(new ZoneManager(Mockito.mock(Logger.class),
+                folder.toFile(),
+                () -> ZoneFileFormat.BINARY));
+        Mockito.doReturn(queue).when(manager).getSaveQueue();
+        ZoneStoreMocks.writeZone(folder, "zones:good", "Good");
+
+        Collection<Zone> loaded = new ZoneLoader(manager, ZoneStoreType.FILES, Runnable::run)
+                .load();
+
+        Zone zone = loaded.iterator().next();
+        Mockito.verify(queue).markDirty(zone);
+        Mockito.verify(manager, Mockito.never()).markMoving(zone);
+    }
+}
@@ -0,0 +1,65 @@
+package region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class ZoneManagerTests {
+
+    @Test
+    public void testRegisteredIsSnapshot() {
+        ZoneManager manager = new ZoneManager();
+        Zone first = Mockito.mock(Zone.class);
+        Zone second = Mockito.mock(Zone.class);
+        manager.register(first);
+
+        Collection<Zone> snapshot = manager.getRegistered();
+        manager.register(second);
+
+        Assertions.assertEquals(List.of(first), List.copyOf(snapshot));
+        Assertions.assertEquals(List.of(first, second), List.copyOf(manager.getRegistered()));
+    }
+
+    @Test
+    public void testRegisterAllAndUnregister() {
+        ZoneManager manager = new ZoneManager();
+        Zone first = Mockito.mock(Zone.class);
+        Zone second = Mockito.mock(Zone.class);
+        Mockito.when(first.getId()).thenReturn("zones:first");
+        Mockito.when(second.getId()).thenReturn("zones:second");
+        long count = manager.getModificationCount();
+
+        manager.registerAll(List.of(first, second));
+
+        Assertions.assertEquals(count + 1, manager.getModificationCount());
+        Assertions.assertTrue(manager.unregister(first));
+        Assertions.assertFalse(manager.unregister(first));
+        Assertions.assertEquals(List.of(second), List.copyOf(manager.getRegistered()));
+    }
+
+    @Test
+    public void testIdAndChildrenLookup() {
+        ZoneManager manager = new ZoneManager();
+        Zone parent = Mockito.mock(Zone.class);
+        Zone child = Mockito.mock(Zone.class);
+        Mockito.when(parent.getId()).thenReturn("zones:parent");
+        Mockito.when(child.getId()).thenReturn("zones:child");
+        Mockito.when(child.getParentId()).thenReturn(Optional.of("zones:parent"));
+
+        manager.registerAll(List.of(parent, child));
+
+        Assertions.assertEquals(Optional.of(parent), manager.getZone("zones:parent"));
+        Assertions.assertEquals(Optional.empty(), manager.getZone("zones:missing"));
+        Assertions.assertEquals(List.of(child), List.copyOf(manager.getChildren(parent)));
+        Assertions.assertTrue(manager.getChildren(child).isEmpty());
+
+        manager.unregister(child);
+        Assertions.assertTrue(manager.getChildren(parent).isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package region;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.Sponge;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneFileWatcher;
+import org.zone.region.ZoneLoader;
+import org.zone.region.ZoneManager;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.region.storage.ZoneStoreType;
+import tools.ZoneStoreMocks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ZoneReloadTests {
+
+    private MockedStatic<Sponge> staticSponge;
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+
+    @TempDir
+    Path folder;
+
+    private ZoneManager manager;
+
+    private static Map<String, Zone> byId(Collection<Zone> zones) {
+        return zones.stream().collect(Collectors.toMap(Zone::getId, Function.identity()));
+    }
+
+    private ZoneLoader createLoader() {
+        return new ZoneLoader(this.manager, ZoneStoreType.FILES, Runnable::run);
+    }
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.staticSponge = ZoneStoreMocks.mockSponge("zones");
+        this.staticZonePlugin = ZoneStoreMocks.mockPlugin(ZoneStoreType.FILES);
+        this.manager = new ZoneManager(Mockito.mock(Logger.class),
+                this.folder.toFile(),
+                () -> ZoneFileFormat.HOCON);
+
+        ZoneStoreMocks.writeZone(this.folder, "zones:first", "First");
+        ZoneStoreMocks.writeZone(this.folder, "zones:second", "Second");
+        ZoneStoreMocks.writeZone(this.folder, "zones:third", "Third");
+        this.manager.registerAll(this.createLoader().load());
+    }
+
+    @AfterEach
+    public void close() {
+        this.manager.getFileWatcher().stop();
+        this.staticZonePlugin.close();
+        this.staticSponge.close();
+    }
+
+    @Test
+    public void testOnlyChangedZonesAreLoaded() throws IOException {
+        Zone third = this.manager.getZone("zones:third").orElseThrow();
+        ZoneStoreMocks.writeZone(this.folder, "zones:first", "First Renamed");
+        Files.delete(this.folder.resolve("zones").resolve("second.conf"));
+        ZoneStoreMocks.writeZone(this.folder, "zones:fourth", "Fourth");
+
+        ZoneLoader loader = this.createLoader();
+        Map<String, Zone> zones = byId(loader.loadChanged());
+
+        Assertions.assertEquals(Set.of("zones:first", "zones:third", "zones:fourth"),
+                zones.keySet());
+        Assertions.assertEquals("First Renamed", zones.get("zones:first").getName());
+        Assertions.assertSame(third, zones.get("zones:third"));
+        Assertions.assertEquals(3, loader.getTimings().getFiles());
+        Assertions.assertEquals(2, loader.getTimings().getLoaded());
+        Assertions.assertEquals(1, loader.getTimings().getUnchanged());
+        Assertions.assertEquals(1, loader.getTimings().getRemoved());
+    }
+
+    @Test
+    public void testBrokenChangeKeepsRegisteredZone() throws IOException {
+        Zone first = this.manager.getZone("zones:first").orElseThrow();
+        Files.writeString(this.folder.resolve("zones").resolve("first.conf"), "Name = \"Bro");
+
+        ZoneLoader loader = this.createLoader();
+        Map<String, Zone> zones = byId(loader.loadChanged());
+
+        Assertions.assertEquals(Set.of("zones:first", "zones:second", "zones:third"),
+                zones.keySet());
+        Assertions.assertSame(first, zones.get("zones:first"));
+        Assertions.assertEquals(0, loader.getTimings().getLoaded());
+        Assertions.assertEquals(2, loader.getTimings().getUnchanged());
+    }
+
+    @Test
+    public void testOwnWritesAreNotChangedElsewhere() throws IOException {
+        Zone first = this.manager.getZone("zones:first").orElseThrow();
+        Assertions.assertFalse(this.manager.hasChangedElsewhere("zones:first"));
+
+        this.manager.write("zones:first", ZoneStoreMocks.createNode("First Saved"));
+
+        Assertions.assertFalse(this.manager.hasChangedElsewhere("zones:first"));
+        Assertions.assertFalse(this.manager.hasChanged("zones:first",
+                this.manager.getStore(ZoneStoreType.FILES)));
+        Assertions.assertSame(first, byId(this.createLoader().loadChanged()).get("zones:first"));
+
+        ZoneStoreMocks.writeZone(this.folder, "zones:first", "First Edited");
+        Files.delete(this.folder.resolve("zones").resolve("second.conf"));
+
+        Assertions.assertTrue(this.manager.hasChangedElsewhere("zones:first"));
+        Assertions.assertTrue(this.manager.hasChanged("zones:first",
+                this.manager.getStore(ZoneStoreType.FILES)));
+        Assertions.assertTrue(this.manager.hasChangedElsewhere("zones:second"));
+        Assertions.assertFalse(this.manager.hasChangedElsewhere("zones:unknown"));
+    }
+
+    @Test
+    public void testWatcherOnlyReloadsChangesMadeElsewhere() throws IOException {
+        ZoneManager manager = Mockito.spy(this.manager);
+        Mockito.doNothing().when(manager).reloadZones();
+        ZoneFileWatcher watcher = new ZoneFileWatcher(manager, this.folder.toFile());
+        watcher.start();
+        try {
+            manager.write("zones:first", ZoneStoreMocks.createNode("First Saved"));
+            Mockito
+                    .verify(manager, Mockito.after(ZoneFileWatcher.QUIET_PERIOD * 3).never())
+                    .reloadZones();
+
+            File file = ZoneStoreMocks.writeZone(this.folder, "zones:first", "First Edited");
+            Assertions.assertTrue(file.exists());
+            Mockito
+                    .verify(manager, Mockito.timeout(ZoneFileWatcher.QUIET_PERIOD * 10))
+                    .reloadZones();
+        } finally {
+            watcher.stop();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package region;
+
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import org.zone.region.ZoneSaveQueue;
+import tools.ZoneMocks;
+
+import java.io.File;
+
+public class ZoneSaveQueueTests {
+
+    private static ZoneManager createManager(Zone... zones) throws ConfigurateException {
+        ZoneManager manager = Mockito.mock(ZoneManager.class);
+        for (Zone zone : zones) {
+            Mockito.when(manager.snapshot(zone)).thenReturn(BasicConfigurationNode.root());
+        }
+        return manager;
+    }
+
+    @Test
+    public void testRepeatedMarksAreCoalesced() throws ConfigurateException {
+        Zone zone = ZoneMocks.createZone("zones:first");
+        Zone other = ZoneMocks.createZone("zones:second");
+        ZoneManager manager = createManager(zone, other);
+        ZoneSaveQueue queue = new ZoneSaveQueue(manager, Mockito.mock(Logger.class));
+
+        queue.markDirty(zone);
+        queue.markDirty(zone);
+        queue.markDirty(other);
+        queue.markDirty(zone);
+        Assertions.assertTrue(queue.isDirty(zone));
+
+        queue.flush();
+
+        Assertions.assertFalse(queue.isDirty(zone));
+        Mockito
+                .verify(manager, Mockito.times(1))
+                .write(ArgumentMatchers.eq("zones:first"), ArgumentMatchers.any());
+        Mockito
+                .verify(manager, Mockito.times(1))
+                .write(ArgumentMatchers.eq("zones:second"), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testCancelledZoneIsNotSaved() throws ConfigurateException {
+        Zone zone = ZoneMocks.createZone("zones:first");
+        ZoneManager manager = createManager(zone);
+        ZoneSaveQueue queue = new ZoneSaveQueue(manager, Mockito.mock(Logger.class));
+
+        queue.markDirty(zone);
+        Assertions.assertTrue(queue.cancel(zone));
+        queue.flush();
+
+        Mockito
+                .verify(manager, Mockito.never())
+                .write(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testFailedWriteIsQueuedAgain() throws ConfigurateException {
+        Zone zone = ZoneMocks.createZone("zones:first");
+        ZoneManager manager = createManager(zone);
+        ConfigurateException failure = new ConfigurateException("disk full");
+        Mockito
+                .when(manager.write(ArgumentMatchers.eq("zones:first"), ArgumentMatchers.any()))
+                .thenThrow(failure)
+                .thenReturn(new File("first.conf"));
+        Logger logger = Mockito.mock(Logger.class);
+        ZoneSaveQueue queue = new ZoneSaveQueue(manager, logger);
+
+        queue.markDirty(zone);
+        queue.flush();
+        Assertions.assertTrue(queue.isDirty(zone));
+        Mockito
+                .verify(logger, Mockito.times(1))
+                .error(ArgumentMatchers.contains("zones:first"), ArgumentMatchers.same(failure));
+
+        queue.flush();
+        Assertions.assertFalse(queue.isDirty(zone));
+        Mockito
+                .verify(manager, Mockito.times(2))
+                .write(ArgumentMatchers.eq("zones:first"), ArgumentMatchers.any());
+        Mockito.verifyNoMoreInteractions(logger);
+    }
+}
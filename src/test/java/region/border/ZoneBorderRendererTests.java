@@ -0,0 +1,100 @@
+package region.border;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.api.effect.particle.ParticleEffect;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.border.ZoneBorderRenderer;
+import org.zone.region.bounds.BoundedRegion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ZoneBorderRendererTests {
+
+    private static ServerPlayer createPlayer() {
+        ServerPlayer player = Mockito.mock(ServerPlayer.class);
+        Mockito.when(player.uniqueId()).thenReturn(UUID.randomUUID());
+        Mockito.when(player.position()).thenReturn(new Vector3d(10, 0, 10));
+        return player;
+    }
+
+    private static void verifyDrawn(ServerPlayer player, int times) {
+        Mockito
+                .verify(player, Mockito.times(times))
+                .spawnParticles(ArgumentMatchers.any(ParticleEffect.class),
+                        ArgumentMatchers.any(Vector3d.class));
+    }
+
+    @Test
+    public void testParticleBudgetIsSharedAcrossTicks() {
+        ZoneBorderRenderer renderer = new ZoneBorderRenderer();
+        renderer.setParticleBudget(50);
+        ParticleEffect effect = Mockito.mock(ParticleEffect.class);
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(20, 0, 20));
+        ServerPlayer first = createPlayer();
+        ServerPlayer second = createPlayer();
+
+        renderer.showRegion(first, effect, region, 0, false);
+        renderer.showRegion(second, effect, region, 0, false);
+        renderer.tick();
+
+        Assertions.assertEquals(1, renderer.getPending());
+        renderer.tick();
+
+        Assertions.assertEquals(0, renderer.getPending());
+        verifyDrawn(first, 50);
+        verifyDrawn(second, 50);
+    }
+
+    @Test
+    public void testPlayerIsOnlyDrawnOncePerRefresh() {
+        ZoneBorderRenderer renderer = new ZoneBorderRenderer();
+        renderer.setRefreshTicks(3);
+        ParticleEffect effect = Mockito.mock(ParticleEffect.class);
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(2, 0, 2));
+        ServerPlayer player = createPlayer();
+
+        renderer.showRegion(player, effect, region, 0, false);
+        renderer.tick();
+        renderer.showRegion(player, effect, region, 0, false);
+        renderer.showRegion(player, effect, region, 0, false);
+        renderer.tick();
+        renderer.tick();
+
+        verifyDrawn(player, 8);
+        renderer.tick();
+
+        verifyDrawn(player, 16);
+    }
+
+    @Test
+    public void testPlayersPastTheBudgetAreNotStarved() {
+        ZoneBorderRenderer renderer = new ZoneBorderRenderer();
+        renderer.setRefreshTicks(3);
+        renderer.setParticleBudget(8);
+        ParticleEffect effect = Mockito.mock(ParticleEffect.class);
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(1, 0, 1));
+        List<ServerPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            players.add(createPlayer());
+        }
+
+        //two players fit in each tick, so only six fit in a refresh while all ten keep asking
+        for (int tick = 0; tick < 5; tick++) {
+            for (ServerPlayer player : players) {
+                renderer.showRegion(player, effect, region, 0, false);
+            }
+            renderer.tick();
+        }
+
+        for (ServerPlayer player : players) {
+            verifyDrawn(player, 4);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package region.bounds;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.ChildRegion;
+import org.zone.region.bounds.PositionType;
+
+import java.util.List;
+import java.util.Set;
+
+public class ChildRegionTests {
+
+    @Test
+    public void testNestedRegionsAreFlattened() {
+        BoundedRegion first = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10));
+        BoundedRegion second = new BoundedRegion(new Vector3i(20, 0, 20), new Vector3i(30, 10, 30));
+        ChildRegion region = new ChildRegion(List.of(first, new ChildRegion(List.of(second))));
+
+        Assertions.assertEquals(Set.of(first, second), Set.copyOf(region.getTrueChildren()));
+        Assertions.assertEquals(new Vector3i(0, 0, 0), region.getMin());
+        Assertions.assertEquals(new Vector3i(30, 10, 30), region.getMax());
+        Assertions.assertTrue(region.contains(new Vector3d(25, 5, 25), false));
+        Assertions.assertFalse(region.contains(new Vector3d(15, 5, 15), false));
+        Assertions.assertFalse(region.contains(new Vector3d(25, 50, 25), false));
+        Assertions.assertTrue(region.contains(new Vector3d(25, 50, 25), true));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedOnChange() {
+        BoundedRegion inner = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10));
+        ChildRegion child = new ChildRegion(List.of(inner));
+        ChildRegion region = new ChildRegion(List.of(child));
+        Assertions.assertFalse(region.contains(new Vector3d(40, 5, 40), false));
+
+        inner.setPosition(PositionType.TWO, new Vector3i(50, 10, 50));
+        Assertions.assertTrue(region.contains(new Vector3d(40, 5, 40), false));
+        Assertions.assertEquals(new Vector3i(50, 10, 50), region.getMax());
+
+        BoundedRegion added = new BoundedRegion(new Vector3i(100, 0, 100),
+                new Vector3i(110, 10, 110));
+        child.add(added);
+        Assertions.assertTrue(region.contains(new Vector3d(105, 5, 105), false));
+
+        child.remove(inner);
+        child.remove(added);
+        Assertions.assertTrue(region.isEmpty());
+        Assertions.assertFalse(region.contains(new Vector3d(5, 5, 5), false));
+    }
+
+    @Test
+    public void testOtherRegionsDoNotChangeVersion() {
+        BoundedRegion inner = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10));
+        ChildRegion region = new ChildRegion(List.of(inner));
+        BoundedRegion selection = new BoundedRegion(new Vector3i(0, 0, 0),
+                new Vector3i(5, 5, 5));
+        long version = region.getVersion();
+
+        selection.setPosition(PositionType.TWO, new Vector3i(20, 5, 20));
+        Assertions.assertEquals(version, region.getVersion());
+
+        inner.setPosition(PositionType.TWO, new Vector3i(20, 10, 20));
+        Assertions.assertNotEquals(version, region.getVersion());
+    }
+
+    @Test
+    public void testRemovingMovedRegionIsNotCached() {
+        BoundedRegion first = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(5, 5, 5));
+        BoundedRegion second = new BoundedRegion(new Vector3i(20, 0, 20),
+                new Vector3i(25, 5, 25));
+        ChildRegion region = new ChildRegion(List.of(first, second));
+        Assertions.assertTrue(region.contains(2, 2, 2, false));
+
+        first.setPosition(PositionType.TWO, new Vector3i(4, 4, 4));
+        Assertions.assertTrue(region.contains(2, 2, 2, false));
+        region.remove(first);
+
+        Assertions.assertFalse(region.contains(2, 2, 2, false));
+        Assertions.assertEquals(List.of(second), List.copyOf(region.getTrueChildren()));
+    }
+
+    @Test
+    public void testNestedChangeReachesOuterRegion() {
+        BoundedRegion inner = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(5, 5, 5));
+        ChildRegion child = new ChildRegion(List.of(inner));
+        ChildRegion region = new ChildRegion(List.of(child));
+        long version = region.getVersion();
+
+        inner.setPosition(PositionType.TWO, new Vector3i(10, 5, 10));
+
+        Assertions.assertTrue(region.getVersion() > version);
+        Assertions.assertTrue(region.contains(8, 2, 8, false));
+    }
+}
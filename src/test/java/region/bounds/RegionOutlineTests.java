@@ -0,0 +1,166 @@
+package region.bounds;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.CylinderRegion;
+import org.zone.region.bounds.PolygonRegion;
+import org.zone.region.bounds.PositionType;
+import org.zone.region.bounds.RegionOutline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RegionOutlineTests {
+
+    private static Set<Vector2i> getColumns(RegionOutline outline) {
+        Set<Vector2i> columns = new HashSet<>();
+        for (int i = 0; i < outline.size(); i++) {
+            columns.add(new Vector2i(outline.getX(i), outline.getZ(i)));
+        }
+        return columns;
+    }
+
+    private static int getCorners(RegionOutline outline) {
+        int corners = 0;
+        for (int i = 0; i < outline.size(); i++) {
+            if (outline.isCorner(i)) {
+                corners++;
+            }
+        }
+        return corners;
+    }
+
+    @Test
+    public void testBoxOutlineOnlyHoldsEdge() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(4, 10, 3));
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(14, outline.size());
+        Set<Vector2i> columns = getColumns(outline);
+        Assertions.assertEquals(14, columns.size());
+        Assertions.assertTrue(columns
+                .stream()
+                .allMatch(column -> column.x() == 0 ||
+                        column.x() == 4 ||
+                        column.y() == 0 ||
+                        column.y() == 3));
+        Assertions.assertEquals(4, getCorners(outline));
+    }
+
+    @Test
+    public void testThinBoxOutlineIsWalkedOnce() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(0, 10, 5));
+
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(6, outline.size());
+        Assertions.assertEquals(6, getColumns(outline).size());
+    }
+
+    @Test
+    public void testThinBoxAlongXOutlineIsWalkedOnce() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 7), new Vector3i(5, 10, 7));
+
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(6, outline.size());
+        Assertions.assertEquals(6, getColumns(outline).size());
+        Assertions.assertEquals(2, getCorners(outline));
+    }
+
+    @Test
+    public void testSingleBlockOutline() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(3, 0, 3), new Vector3i(3, 10, 3));
+
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(1, outline.size());
+        Assertions.assertEquals(new Vector2i(3, 3), new Vector2i(outline.getX(0), outline.getZ(0)));
+        Assertions.assertTrue(outline.isCorner(0));
+    }
+
+    @Test
+    public void testStrideKeepsCorners() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(10, 10, 10));
+
+        RegionOutline outline = region.getOutline(4);
+
+        //each side of 10 keeps the columns 0, 4 and 8 along it
+        Assertions.assertEquals(12, outline.size());
+        Set<Vector2i> columns = getColumns(outline);
+        Assertions.assertTrue(columns.containsAll(Arrays.asList(new Vector2i(0, 0),
+                new Vector2i(10, 0),
+                new Vector2i(10, 10),
+                new Vector2i(0, 10))));
+    }
+
+    @Test
+    public void testOutlineIsCachedUntilRegionChanges() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(4, 10, 4));
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertSame(outline, region.getOutline(1));
+
+        region.setPosition(PositionType.TWO, new Vector3i(8, 10, 8));
+
+        RegionOutline changed = region.getOutline(1);
+        Assertions.assertNotSame(outline, changed);
+        Assertions.assertEquals(32, changed.size());
+    }
+
+    @Test
+    public void testShowingHeightGivesCornerColumns() {
+        BoundedRegion region = new BoundedRegion(new Vector3i(0, 0, 0), new Vector3i(2, 4, 2));
+        List<Vector3i> positions = new ArrayList<>();
+
+        region
+                .getOutline(1)
+                .forEachPosition(10,
+                        true,
+                        (x, y, z) -> positions.add(new Vector3i(x, y, z)));
+
+        //the outline at the height, bottom and top, then the 3 blocks between in each corner
+        Assertions.assertEquals(8 * 3 + 4 * 3, positions.size());
+        Assertions.assertTrue(positions.contains(new Vector3i(2, 2, 2)));
+    }
+
+    @Test
+    public void testPolygonOutlineFollowsEdges() {
+        PolygonRegion region = new PolygonRegion(Arrays.asList(new Vector2i(0, 0),
+                new Vector2i(10, 0),
+                new Vector2i(0, 10)), 0, 10);
+
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(30, outline.size());
+        Assertions.assertEquals(3, getCorners(outline));
+        Assertions.assertTrue(getColumns(outline).contains(new Vector2i(5, 5)));
+        for (int i = 0; i < outline.size(); i++) {
+            Assertions.assertTrue(region.contains(outline.getX(i), 0, outline.getZ(i), true));
+        }
+    }
+
+    @Test
+    public void testCylinderOutlineStaysOnEdge() {
+        CylinderRegion region = new CylinderRegion(new Vector2i(0, 0), 10, 0, 10);
+
+        RegionOutline outline = region.getOutline(1);
+
+        Assertions.assertEquals(4, getCorners(outline));
+        for (int i = 0; i < outline.size(); i++) {
+            int x = outline.getX(i);
+            int z = outline.getZ(i);
+            Assertions.assertTrue(region.contains(x, 0, z, true));
+            Assertions.assertTrue(x * x + z * z >= 8 * 8);
+        }
+        Set<Vector2i> columns = getColumns(outline);
+        Assertions.assertTrue(columns.contains(new Vector2i(10, 0)));
+        Assertions.assertTrue(columns.contains(new Vector2i(0, -10)));
+    }
+}
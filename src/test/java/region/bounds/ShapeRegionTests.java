@@ -0,0 +1,82 @@
+package region.bounds;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.ChildRegion;
+import org.zone.region.bounds.CylinderRegion;
+import org.zone.region.bounds.PolygonRegion;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ShapeRegionTests {
+
+    //an L shape, so the corner at 10, 10 is outside
+    private static final List<Vector2i> L_SHAPE = List.of(new Vector2i(0, 0),
+            new Vector2i(10, 0),
+            new Vector2i(10, 4),
+            new Vector2i(4, 4),
+            new Vector2i(4, 10),
+            new Vector2i(0, 10));
+
+    @Test
+    public void testConcavePolygonContains() {
+        PolygonRegion region = new PolygonRegion(L_SHAPE, 0, 20);
+
+        Assertions.assertTrue(region.contains(2, 5, 8, false));
+        Assertions.assertTrue(region.contains(8, 5, 2, false));
+        Assertions.assertTrue(region.contains(10, 5, 4, false));
+        Assertions.assertTrue(region.contains(4, 5, 10, false));
+        Assertions.assertFalse(region.contains(8, 5, 8, false));
+        Assertions.assertFalse(region.contains(2, 30, 8, false));
+        Assertions.assertTrue(region.contains(2, 30, 8, true));
+        Assertions.assertFalse(region.containsColumns(0, 0, 3, 3));
+        Assertions.assertEquals(Optional.of(new Vector2i(4, 9)),
+                region.getNearestPosition(new Vector2i(6, 9)));
+    }
+
+    @Test
+    public void testCylinderContains() {
+        CylinderRegion region = new CylinderRegion(new Vector2i(0, 0), 10, 0, 20);
+
+        Assertions.assertEquals(new Vector3i(-10, 0, -10), region.getMin());
+        Assertions.assertTrue(region.contains(6, 5, 8, false));
+        Assertions.assertFalse(region.contains(8, 5, 8, false));
+        Assertions.assertTrue(region.containsColumns(-5, -5, 5, 5));
+        Assertions.assertFalse(region.containsColumns(0, 0, 8, 8));
+        Assertions.assertEquals(Optional.of(new Vector3i(10, 20, 0)),
+                region.getNearestPosition(new Vector3i(30, 40, 0)));
+    }
+
+    @Test
+    public void testShapesLoadThroughChildRegion() throws SerializationException {
+        ChildRegion region = new ChildRegion(List.of(new PolygonRegion(L_SHAPE, 0, 20),
+                new CylinderRegion(new Vector2i(50, 50), 5, 10, 30),
+                new BoundedRegion(new Vector3i(100, 0, 100), new Vector3i(110, 10, 110))));
+        ConfigurationNode node = BasicConfigurationNode.root();
+        region.save(node);
+
+        ChildRegion loaded = ChildRegion.load(node);
+
+        Assertions.assertEquals(3, loaded.getTrueChildren().size());
+        Assertions.assertFalse(loaded.contains(8, 5, 8, false));
+        Assertions.assertTrue(loaded.contains(2, 5, 8, false));
+        Assertions.assertTrue(loaded.contains(53, 20, 53, false));
+        Assertions.assertFalse(loaded.contains(54, 20, 54, false));
+        Assertions.assertTrue(loaded.contains(105, 5, 105, false));
+        PolygonRegion polygon = loaded
+                .getTrueChildren()
+                .stream()
+                .filter(child -> child instanceof PolygonRegion)
+                .map(child -> (PolygonRegion) child)
+                .findAny()
+                .orElseThrow();
+        Assertions.assertEquals(L_SHAPE, polygon.getPoints());
+    }
+}
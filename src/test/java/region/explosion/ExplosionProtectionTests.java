@@ -0,0 +1,43 @@
+package region.explosion;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.CylinderRegion;
+import org.zone.region.explosion.ExplosionProtection;
+
+public class ExplosionProtectionTests {
+
+    private static final BoundedRegion REGION = new BoundedRegion(new Vector3i(0, 0, 0),
+            new Vector3i(10, 10, 10));
+
+    @Test
+    public void testCenterInsideRegion() {
+        Assertions.assertTrue(ExplosionProtection.intersects(REGION, 5, 5, 5, 0));
+    }
+
+    @Test
+    public void testSphereReachingFace() {
+        Assertions.assertTrue(ExplosionProtection.intersects(REGION, 14, 5, 5, 4));
+        Assertions.assertFalse(ExplosionProtection.intersects(REGION, 14.5, 5, 5, 4));
+    }
+
+    @Test
+    public void testSphereNearCornerOutsideReach() {
+        //within the box around the sphere but not within the sphere
+        Assertions.assertFalse(ExplosionProtection.intersects(REGION, 13, 13, 13, 4));
+        Assertions.assertTrue(ExplosionProtection.intersects(REGION, 12, 12, 12, 4));
+    }
+
+    @Test
+    public void testShapeIsMeasuredPastItsBox() {
+        CylinderRegion cylinder = new CylinderRegion(new Vector2i(0, 0), 10, 0, 10);
+
+        //the corner of the box is 14 away from the center, so 4 away from the circle
+        Assertions.assertFalse(ExplosionProtection.intersects(cylinder, 9.5, 5, 9.5, 2));
+        Assertions.assertTrue(ExplosionProtection.intersects(cylinder, 9.5, 5, 9.5, 4));
+        Assertions.assertTrue(ExplosionProtection.intersects(cylinder, 0, 5, 0, 0));
+    }
+}
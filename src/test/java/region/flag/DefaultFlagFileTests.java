@@ -0,0 +1,83 @@
+package region.flag;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.zone.ZonePlugin;
+import org.zone.region.flag.DefaultFlagFile;
+import org.zone.region.flag.Flag;
+import org.zone.region.flag.FlagManager;
+import org.zone.region.flag.FlagType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class DefaultFlagFileTests {
+
+    private static FlagType.SerializableType<Flag.Serializable> createType(List<String> loaded)
+            throws IOException {
+        PluginMetadata metadata = Mockito.mock(PluginMetadata.class);
+        Mockito.when(metadata.id()).thenReturn("zones");
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(container.metadata()).thenReturn(metadata);
+        //noinspection unchecked
+        FlagType.SerializableType<Flag.Serializable> type = Mockito.mock(
+                FlagType.SerializableType.class);
+        Mockito.when(type.getPlugin()).thenReturn(container);
+        Mockito.when(type.getKey()).thenReturn("greeting");
+        Mockito.when(type.load(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            ConfigurationNode node = invocation.getArgument(0);
+            loaded.add(node.node("message").getString());
+            return Mockito.mock(Flag.Serializable.class);
+        });
+        return type;
+    }
+
+    private static void writeMessage(File file, String message) throws IOException {
+        Files.writeString(file.toPath(),
+                "flags { zones { greeting { message = \"" + message + "\" } } }");
+    }
+
+    @Test
+    public void testDefaultIsCachedUntilReload(@TempDir Path folder) throws IOException {
+        File file = folder.resolve("DefaultZone.conf").toFile();
+        writeMessage(file, "hello");
+        List<String> loaded = new ArrayList<>();
+        FlagType.SerializableType<Flag.Serializable> type = createType(loaded);
+        DefaultFlagFile defaults = new DefaultFlagFile(file);
+
+        Optional<Flag.Serializable> first = defaults.getDefault(type);
+        Assertions.assertTrue(first.isPresent());
+        Assertions.assertSame(first.get(), defaults.getDefault(type).orElseThrow());
+        Assertions.assertEquals(List.of("hello"), loaded);
+
+        writeMessage(file, "welcome");
+        Assertions.assertSame(first.get(), defaults.getDefault(type).orElseThrow());
+
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        FlagManager flagManager = Mockito.mock(FlagManager.class);
+        Mockito.when(plugin.getFlagManager()).thenReturn(flagManager);
+        Mockito.when(flagManager.getRegistered()).thenReturn(List.of(type));
+        try (MockedStatic<ZonePlugin> staticZonePlugin = Mockito.mockStatic(ZonePlugin.class)) {
+            staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+            defaults.reload();
+        }
+
+        Assertions.assertEquals(List.of("hello", "welcome"), loaded);
+        Optional<Flag.Serializable> reloaded = defaults.getDefault(type);
+        Assertions.assertTrue(reloaded.isPresent());
+        Assertions.assertNotSame(first.get(), reloaded.get());
+        Assertions.assertEquals(2, loaded.size());
+    }
+}
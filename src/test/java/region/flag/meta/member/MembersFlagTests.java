@@ -0,0 +1,96 @@
+package region.flag.meta.member;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoException;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.zone.ZonePlugin;
+import org.zone.config.ZoneConfig;
+import org.zone.config.node.ZoneNodes;
+import org.zone.region.flag.meta.member.MembersFlag;
+import org.zone.region.group.DefaultGroups;
+import org.zone.region.group.Group;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class MembersFlagTests {
+
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+
+    @BeforeEach
+    void init() {
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        PluginMetadata metadata = Mockito.mock(PluginMetadata.class);
+        ZoneConfig config = Mockito.mock(ZoneConfig.class);
+        Mockito.when(config.getOrElse(ZoneNodes.MAX_OWNER)).thenReturn(99);
+        try {
+            this.staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+            this.staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+        } catch (MockitoException e) {
+            plugin = ZonePlugin.getZonesPlugin();
+        }
+        Mockito.when(plugin.getPluginContainer()).thenReturn(container);
+        Mockito.when(plugin.getConfig()).thenReturn(config);
+        Mockito.when(container.metadata()).thenReturn(metadata);
+        Mockito.when(metadata.id()).thenReturn("zones");
+    }
+
+    @AfterEach
+    void close() {
+        if (this.staticZonePlugin != null) {
+            this.staticZonePlugin.close();
+        }
+    }
+
+    @Test
+    public void testGroupLookupFollowsMembership() {
+        Group first = Mockito.mock(Group.class);
+        Group second = Mockito.mock(Group.class);
+        UUID uuid = UUID.randomUUID();
+        MembersFlag flag = new MembersFlag(first, second);
+
+        flag.addMember(first, uuid);
+        Assertions.assertEquals(first, flag.getGroup(uuid));
+
+        flag.addMember(second, uuid);
+        Assertions.assertEquals(second, flag.getGroup(uuid));
+        Assertions.assertFalse(flag.getMembers(first).contains(uuid));
+        Assertions.assertEquals(1, flag.getMemberCount());
+
+        flag.removeMember(uuid);
+        Assertions.assertEquals(DefaultGroups.VISITOR, flag.getGroup(uuid));
+        Assertions.assertEquals(0, flag.getMemberCount());
+    }
+
+    @Test
+    public void testPowerLevelCountsMembers() {
+        Group group = Mockito.mock(Group.class);
+        UUID uuid = UUID.randomUUID();
+        MembersFlag flag = new MembersFlag(Map.of(group, Set.of(uuid, UUID.randomUUID())), 1);
+
+        Assertions.assertEquals(1, flag.getPowerLevel());
+        Assertions.assertEquals(group, flag.getGroup(uuid));
+
+        flag.registerGroup(group);
+        Assertions.assertEquals(DefaultGroups.VISITOR, flag.getGroup(uuid));
+        Assertions.assertEquals(-1, flag.getPowerLevel());
+    }
+
+    @Test
+    public void testDefaultMembersAreNotShared() {
+        MembersFlag flag = new MembersFlag();
+        UUID uuid = UUID.randomUUID();
+
+        flag.addMember(DefaultGroups.NEW_MEMBER, uuid);
+
+        Assertions.assertFalse(new MembersFlag().getMembers().contains(uuid));
+    }
+}
@@ -0,0 +1,59 @@
+package region.group;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.zone.region.group.Group;
+import org.zone.region.group.SimpleGroup;
+import org.zone.region.group.key.GroupKeys;
+
+public class SimpleGroupTests {
+
+    private static Group createRoot() {
+        return Mockito.mock(Group.class);
+    }
+
+    private static PluginContainer createPlugin() {
+        PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        PluginMetadata metadata = Mockito.mock(PluginMetadata.class);
+        Mockito.when(metadata.id()).thenReturn("zones");
+        Mockito.when(plugin.metadata()).thenReturn(metadata);
+        return plugin;
+    }
+
+    @Test
+    public void testInheritedKeyChangesAreSeen() {
+        PluginContainer plugin = createPlugin();
+        SimpleGroup parent = new SimpleGroup(plugin, "parent", createRoot());
+        SimpleGroup child = new SimpleGroup(plugin, "child", parent);
+
+        Assertions.assertFalse(child.contains(GroupKeys.INTERACT_DOOR));
+
+        parent.add(GroupKeys.INTERACT_DOOR);
+        Assertions.assertTrue(child.contains(GroupKeys.INTERACT_DOOR));
+        Assertions.assertTrue(child.getAllKeys().contains(GroupKeys.INTERACT_DOOR));
+
+        parent.remove(GroupKeys.INTERACT_DOOR);
+        Assertions.assertFalse(child.contains(GroupKeys.INTERACT_DOOR));
+        Assertions.assertTrue(child.getAllKeys().isEmpty());
+    }
+
+    @Test
+    public void testSetParentChangesKeys() {
+        PluginContainer plugin = createPlugin();
+        SimpleGroup first = new SimpleGroup(plugin, "first", createRoot());
+        SimpleGroup second = new SimpleGroup(plugin, "second", createRoot());
+        SimpleGroup child = new SimpleGroup(plugin, "child", first);
+        first.add(GroupKeys.OWNER);
+
+        Assertions.assertTrue(child.contains(GroupKeys.OWNER));
+        Assertions.assertTrue(child.inherits(first));
+
+        child.setParent(second);
+        Assertions.assertFalse(child.contains(GroupKeys.OWNER));
+        Assertions.assertFalse(child.inherits(first));
+        Assertions.assertTrue(child.inherits(second));
+    }
+}
@@ -0,0 +1,44 @@
+package region.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.Zone;
+import org.zone.region.index.ZoneChunkIndex;
+import tools.ZoneMocks;
+
+public class ZoneChunkIndexTests {
+
+    @Test
+    public void testCandidatesWithinBounds() {
+        ZoneChunkIndex index = new ZoneChunkIndex();
+        Zone zone = ZoneMocks.createZone(new Vector3i(-20, 0, -20), new Vector3i(20, 255, 20));
+        index.add(zone);
+
+        Assertions.assertTrue(index.getCandidates(0, 0).contains(zone));
+        Assertions.assertTrue(index.getCandidates(-20, 20).contains(zone));
+        Assertions.assertTrue(index.getCandidates(-33, 0).isEmpty());
+        Assertions.assertTrue(index.getCandidates(48, 0).isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        ZoneChunkIndex index = new ZoneChunkIndex();
+        Zone zone = ZoneMocks.createZone(new Vector3i(0, 0, 0), new Vector3i(40, 255, 40));
+        index.add(zone);
+
+        Assertions.assertTrue(index.remove(zone));
+        Assertions.assertTrue(index.getCandidates(0, 0).isEmpty());
+        Assertions.assertFalse(index.remove(zone));
+    }
+
+    @Test
+    public void testOversizedZoneIsAlwaysCandidate() {
+        ZoneChunkIndex index = new ZoneChunkIndex();
+        Zone zone = ZoneMocks.createZone(new Vector3i(-100000, 0, -100000),
+                new Vector3i(100000, 255, 100000));
+        index.add(zone);
+
+        Assertions.assertTrue(index.getCandidates(5000000, 5000000).contains(zone));
+    }
+}
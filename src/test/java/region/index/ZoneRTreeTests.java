@@ -0,0 +1,86 @@
+package region.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.Zone;
+import org.zone.region.index.ZoneRTree;
+import tools.ZoneMocks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ZoneRTreeTests {
+
+    @Test
+    public void testSearchMatchesBruteForce() {
+        ZoneRTree tree = new ZoneRTree();
+        List<Zone> zones = new ArrayList<>();
+        for (int x = 0; x < 20; x++) {
+            for (int z = 0; z < 20; z++) {
+                Zone zone = ZoneMocks.createZone(new Vector3i(x * 10, 0, z * 10),
+                        new Vector3i(x * 10 + 5, 10, z * 10 + 5));
+                zones.add(zone);
+                tree.add(zone);
+            }
+        }
+
+        Set<Zone> found = tree
+                .search(12, 0, 12, 35, 5, 27)
+                .stream()
+                .map(ZoneRTree.Entry::getZone)
+                .collect(Collectors.toSet());
+        Set<Zone> expected = zones
+                .stream()
+                .filter(zone -> zone
+                        .getRegion()
+                        .getTrueChildren()
+                        .stream()
+                        .anyMatch(region -> region.getMin().x() <= 35 &&
+                                region.getMax().x() >= 12 &&
+                                region.getMin().z() <= 27 &&
+                                region.getMax().z() >= 12))
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(expected, found);
+        Assertions.assertEquals(6, found.size());
+    }
+
+    @Test
+    public void testNearestIsOrderedByDistance() {
+        ZoneRTree tree = new ZoneRTree();
+        Zone near = ZoneMocks.createZone(new Vector3i(10, 0, 0), new Vector3i(15, 10, 5));
+        Zone middle = ZoneMocks.createZone(new Vector3i(30, 0, 0), new Vector3i(35, 10, 5));
+        Zone far = ZoneMocks.createZone(new Vector3i(100, 0, 0), new Vector3i(105, 10, 5));
+        tree.add(far);
+        tree.add(near);
+        tree.add(middle);
+
+        List<Zone> found = tree
+                .nearest(0, 5, 0, 50, Integer.MAX_VALUE)
+                .stream()
+                .map(ZoneRTree.Entry::getZone)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(List.of(near, middle), found);
+        Assertions.assertEquals(List.of(near),
+                tree
+                        .nearest(0, 5, 0, 50, 1)
+                        .stream()
+                        .map(ZoneRTree.Entry::getZone)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRemove() {
+        ZoneRTree tree = new ZoneRTree();
+        Zone zone = ZoneMocks.createZone(new Vector3i(0, 0, 0), new Vector3i(5, 5, 5));
+        tree.add(zone);
+
+        Assertions.assertEquals(1, tree.search(0, 0, 0, 1, 1, 1).size());
+        Assertions.assertTrue(tree.remove(zone));
+        Assertions.assertTrue(tree.search(0, 0, 0, 1, 1, 1).isEmpty());
+    }
+}
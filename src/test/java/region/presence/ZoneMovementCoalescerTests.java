@@ -0,0 +1,108 @@
+package region.presence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import org.zone.region.presence.ZoneMovementCoalescer;
+import org.zone.region.presence.ZoneTransition;
+import org.zone.region.presence.ZoneTransitionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ZoneMovementCoalescerTests {
+
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+    private ZoneManager zoneManager;
+    private ServerPlayer player;
+    private Zone zone;
+
+    @BeforeEach
+    void init() {
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        this.zoneManager = Mockito.mock(ZoneManager.class);
+        this.staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+        this.staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+        Mockito.when(plugin.getZoneManager()).thenReturn(this.zoneManager);
+
+        ServerWorld world = Mockito.mock(ServerWorld.class);
+        Mockito.when(world.key()).thenReturn(Mockito.mock(ResourceKey.class));
+        this.player = Mockito.mock(ServerPlayer.class);
+        Mockito.when(this.player.uniqueId()).thenReturn(UUID.randomUUID());
+        Mockito.when(this.player.world()).thenReturn(world);
+
+        this.zone = Mockito.mock(Zone.class);
+        Mockito
+                .when(this.zoneManager.getPriorityZone(ArgumentMatchers.any(ResourceKey.class),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> {
+                    int x = invocation.getArgument(1);
+                    return x >= 10 ? Optional.of(this.zone) : Optional.empty();
+                });
+    }
+
+    @AfterEach
+    void close() {
+        this.staticZonePlugin.close();
+    }
+
+    private void move(ZoneMovementCoalescer coalescer, double fromX, double toX) {
+        MoveEntityEvent event = Mockito.mock(MoveEntityEvent.class);
+        Mockito.when(event.entity()).thenReturn(this.player);
+        Mockito.when(event.originalPosition()).thenReturn(new Vector3d(fromX, 0, 0));
+        Mockito.when(event.destinationPosition()).thenReturn(new Vector3d(toX, 0, 0));
+        coalescer.onPlayerMove(event, this.player);
+    }
+
+    @Test
+    public void testMovesWithinTickAreHandledOnce() {
+        ZoneMovementCoalescer coalescer = new ZoneMovementCoalescer();
+        List<ZoneTransition> transitions = new ArrayList<>();
+        coalescer.register((player, transition) -> transitions.add(transition));
+
+        this.move(coalescer, 8.5, 9.5);
+        this.move(coalescer, 9.5, 10.5);
+        this.move(coalescer, 10.5, 11.5);
+        Assertions.assertEquals(1, coalescer.getPending());
+        coalescer.flush();
+
+        Assertions.assertEquals(1, transitions.size());
+        Assertions.assertEquals(ZoneTransitionType.ENTER, transitions.get(0).getType());
+        Assertions.assertEquals(Optional.of(this.zone), transitions.get(0).getNext());
+        Assertions.assertEquals(0, coalescer.getPending());
+        Mockito
+                .verify(this.zoneManager, Mockito.times(2))
+                .getPriorityZone(ArgumentMatchers.any(ResourceKey.class),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    public void testMovesWithinBlockAreIgnored() {
+        ZoneMovementCoalescer coalescer = new ZoneMovementCoalescer();
+        List<ZoneTransition> transitions = new ArrayList<>();
+        coalescer.register((player, transition) -> transitions.add(transition));
+
+        this.move(coalescer, 10.2, 10.8);
+        coalescer.flush();
+
+        Assertions.assertTrue(transitions.isEmpty());
+    }
+}
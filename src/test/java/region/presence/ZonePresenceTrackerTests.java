@@ -0,0 +1,120 @@
+package region.presence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+import org.zone.ZonePlugin;
+import org.zone.region.Zone;
+import org.zone.region.ZoneManager;
+import org.zone.region.presence.ZonePresenceTracker;
+import org.zone.region.presence.ZoneTransition;
+import org.zone.region.presence.ZoneTransitionType;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public class ZonePresenceTrackerTests {
+
+    private MockedStatic<ZonePlugin> staticZonePlugin;
+    private ZoneManager zoneManager;
+    private ServerPlayer player;
+    private ServerWorld world;
+    private Zone zone;
+
+    @BeforeEach
+    void init() {
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        this.zoneManager = Mockito.mock(ZoneManager.class);
+        this.staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+        this.staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+        Mockito.when(plugin.getZoneManager()).thenReturn(this.zoneManager);
+
+        this.world = Mockito.mock(ServerWorld.class);
+        Mockito.when(this.world.key()).thenReturn(Mockito.mock(ResourceKey.class));
+        this.player = Mockito.mock(ServerPlayer.class);
+        Mockito.when(this.player.uniqueId()).thenReturn(UUID.randomUUID());
+        Mockito.when(this.player.world()).thenReturn(this.world);
+
+        this.zone = Mockito.mock(Zone.class);
+        Mockito
+                .when(this.zoneManager.getPriorityZone(ArgumentMatchers.any(ResourceKey.class),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> {
+                    int x = invocation.getArgument(1);
+                    return x >= 10 ? Optional.of(this.zone) : Optional.empty();
+                });
+    }
+
+    @AfterEach
+    void close() {
+        this.staticZonePlugin.close();
+    }
+
+    private MoveEntityEvent createEvent(Vector3d from, Vector3d to) {
+        MoveEntityEvent event = Mockito.mock(MoveEntityEvent.class);
+        Mockito.when(event.entity()).thenReturn(this.player);
+        Mockito.when(event.originalPosition()).thenReturn(from);
+        Mockito.when(event.destinationPosition()).thenReturn(to);
+        return event;
+    }
+
+    @Test
+    public void testEnterAndLeave() {
+        ZonePresenceTracker tracker = new ZonePresenceTracker();
+
+        ZoneTransition enter = tracker.getTransition(this.createEvent(new Vector3d(9.5, 0, 0),
+                new Vector3d(10.5, 0, 0)), this.player);
+        ZoneTransition leave = tracker.getTransition(this.createEvent(new Vector3d(10.5, 0, 0),
+                new Vector3d(9.5, 0, 0)), this.player);
+
+        Assertions.assertEquals(ZoneTransitionType.ENTER, enter.getType());
+        Assertions.assertEquals(Optional.of(this.zone), enter.getNext());
+        Assertions.assertEquals(ZoneTransitionType.LEAVE, leave.getType());
+        Assertions.assertEquals(Optional.of(this.zone), leave.getPrevious());
+    }
+
+    @Test
+    public void testSameEventResolvesOnce() {
+        ZonePresenceTracker tracker = new ZonePresenceTracker();
+        MoveEntityEvent event = this.createEvent(new Vector3d(9.5, 0, 0), new Vector3d(10.5, 0, 0));
+
+        ZoneTransition first = tracker.getTransition(event, this.player);
+        ZoneTransition second = tracker.getTransition(event, this.player);
+
+        Assertions.assertSame(first, second);
+        Mockito
+                .verify(this.zoneManager, Mockito.times(2))
+                .getPriorityZone(ArgumentMatchers.any(ResourceKey.class),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    public void testFollowingMoveReusesDestination() {
+        ZonePresenceTracker tracker = new ZonePresenceTracker();
+        tracker.getTransition(this.createEvent(new Vector3d(9.5, 0, 0), new Vector3d(10.5, 0, 0)),
+                this.player);
+        ZoneTransition transition = tracker.getTransition(this.createEvent(new Vector3d(10.5, 0, 0),
+                new Vector3d(11.5, 0, 0)), this.player);
+
+        Assertions.assertEquals(ZoneTransitionType.NONE, transition.getType());
+        Mockito
+                .verify(this.zoneManager, Mockito.times(3))
+                .getPriorityZone(ArgumentMatchers.any(ResourceKey.class),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyInt());
+    }
+}
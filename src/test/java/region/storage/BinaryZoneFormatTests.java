@@ -0,0 +1,119 @@
+package region.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.math.vector.Vector2d;
+import org.spongepowered.math.vector.Vector2i;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.ChildRegion;
+import org.zone.region.bounds.CylinderRegion;
+import org.zone.region.bounds.PolygonRegion;
+import org.zone.region.bounds.Region;
+import org.zone.region.storage.BinaryZoneFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class BinaryZoneFormatTests {
+
+    private static ConfigurationNode createZoneNode() throws SerializationException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("Name").set("Test Zone");
+        node.node("Parent").set("zones:parent");
+        ChildRegion region = new ChildRegion(List.of(new BoundedRegion(new Vector3i(-5, 0, 3),
+                        new Vector3i(10, 255, 40)),
+                new ChildRegion(List.of(new BoundedRegion(new Vector3i(1, 2, 3),
+                        new Vector3i(4, 5, 6))))));
+        region.save(node.node("Region"));
+        node.node("Region", "World").set("minecraft:overworld");
+        node.node("Flags", "zones", "members", "owner").setList(String.class,
+                List.of(UUID.randomUUID().toString(), "not a uuid"));
+        node.node("Flags", "zones", "members", "visitor").set(List.of());
+        node.node("Flags", "zones", "balance", "amount").set(12.5);
+        node.node("Flags", "zones", "balance", "enabled").set(true);
+        node.node("Flags", "zones", "balance", "big").set(Long.MAX_VALUE);
+        return node;
+    }
+
+    private static Set<List<Vector3i>> toBounds(Region region) {
+        return region
+                .getTrueChildren()
+                .stream()
+                .map(bounded -> List.of(bounded.getMin(), bounded.getMax()))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ConfigurationNode node = createZoneNode();
+
+        byte[] bytes = BinaryZoneFormat.encode(node);
+        ConfigurationNode decoded = BinaryZoneFormat.decode(ByteBuffer.wrap(bytes));
+
+        Assertions.assertEquals(node.node("Name").raw(), decoded.node("Name").raw());
+        Assertions.assertEquals(node.node("Parent").raw(), decoded.node("Parent").raw());
+        Assertions.assertEquals(node.node("Flags").raw(), decoded.node("Flags").raw());
+        Assertions.assertEquals("minecraft:overworld",
+                decoded.node("Region", "World").getString());
+        ChildRegion original = ChildRegion.load(node.node("Region"));
+        ChildRegion loaded = ChildRegion.load(decoded.node("Region"));
+        Assertions.assertEquals(toBounds(original), toBounds(loaded));
+    }
+
+    @Test
+    public void testReencodeIsStable() throws IOException {
+        byte[] bytes = BinaryZoneFormat.encode(createZoneNode());
+        ConfigurationNode decoded = BinaryZoneFormat.decode(ByteBuffer.wrap(bytes));
+
+        Assertions.assertArrayEquals(bytes, BinaryZoneFormat.encode(decoded));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6});
+
+        Assertions.assertThrows(IOException.class, () -> BinaryZoneFormat.decode(buffer));
+    }
+
+    @Test
+    public void testShapedRegionsRoundTrip() throws IOException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        ChildRegion region = new ChildRegion(List.of(new PolygonRegion(List.of(new Vector2i(0, 0),
+                        new Vector2i(10, 0),
+                        new Vector2i(0, 10)), 0, 20),
+                new ChildRegion(List.of(new CylinderRegion(new Vector2i(50, 50), 8, 5, 15)))));
+        region.save(node.node("Region"));
+
+        ConfigurationNode decoded = BinaryZoneFormat.decode(ByteBuffer.wrap(BinaryZoneFormat.encode(
+                node)));
+        ChildRegion loaded = ChildRegion.load(decoded.node("Region"));
+
+        Assertions.assertEquals(toBounds(region), toBounds(loaded));
+        PolygonRegion polygon = loaded
+                .getTrueChildren()
+                .stream()
+                .filter(child -> child instanceof PolygonRegion)
+                .map(child -> (PolygonRegion) child)
+                .findAny()
+                .orElseThrow();
+        Assertions.assertEquals(List.of(new Vector2i(0, 0), new Vector2i(10, 0), new Vector2i(0, 10)),
+                polygon.getPoints());
+        CylinderRegion cylinder = loaded
+                .getTrueChildren()
+                .stream()
+                .filter(child -> child instanceof CylinderRegion)
+                .map(child -> (CylinderRegion) child)
+                .findAny()
+                .orElseThrow();
+        Assertions.assertEquals(new Vector2d(50, 50), cylinder.getCenterPosition());
+        Assertions.assertEquals(8, cylinder.getRadius());
+    }
+}
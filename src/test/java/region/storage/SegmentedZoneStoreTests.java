@@ -0,0 +1,134 @@
+package region.storage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.zone.region.storage.SegmentedZoneStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+public class SegmentedZoneStoreTests {
+
+    private static ConfigurationNode createNode(String name) throws SerializationException {
+        ConfigurationNode node = BasicConfigurationNode.root();
+        node.node("Name").set(name);
+        node.node("Region", "World").set("minecraft:overworld");
+        return node;
+    }
+
+    @Test
+    public void testWriteAndReopen(@TempDir Path folder) throws ConfigurateException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.write("zones:second", createNode("Second"));
+        store.write("zones:first", createNode("First Renamed"));
+        store.close();
+
+        SegmentedZoneStore reopened = new SegmentedZoneStore(file);
+        Assertions.assertEquals(Set.of("zones:first", "zones:second"), Set.copyOf(reopened.list()));
+        Assertions.assertEquals("First Renamed",
+                reopened.read("zones:first").node("Name").getString());
+        Assertions.assertEquals("Second", reopened.read("zones:second").node("Name").getString());
+        Assertions.assertTrue(reopened.getDeadBytes() > 0);
+    }
+
+    @Test
+    public void testDeleteAndCompact(@TempDir Path folder) throws ConfigurateException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.write("zones:second", createNode("Second"));
+
+        Assertions.assertTrue(store.delete("zones:first"));
+        Assertions.assertFalse(store.delete("zones:first"));
+        Assertions.assertThrows(ConfigurateException.class, () -> store.read("zones:first"));
+
+        long before = file.length();
+        store.compact();
+
+        Assertions.assertEquals(0, store.getDeadBytes());
+        Assertions.assertNotEquals(file, store.getFile());
+        Assertions.assertTrue(store.getFile().length() < before);
+        Assertions.assertFalse(file.exists());
+        Assertions.assertEquals(List.of("zones:second"), List.copyOf(store.list()));
+        Assertions.assertEquals("Second", store.read("zones:second").node("Name").getString());
+    }
+
+    @Test
+    public void testReopenUsesNewestGeneration(@TempDir Path folder) throws ConfigurateException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.compact();
+        store.write("zones:first", createNode("First Renamed"));
+        store.compact();
+        File compacted = store.getFile();
+        store.close();
+
+        SegmentedZoneStore reopened = new SegmentedZoneStore(file);
+        Assertions.assertEquals("First Renamed",
+                reopened.read("zones:first").node("Name").getString());
+        Assertions.assertEquals(compacted, reopened.getFile());
+        Assertions.assertEquals(List.of(compacted), List.of(folder.toFile().listFiles()));
+    }
+
+    @Test
+    public void testTornRecordIsIgnored(@TempDir Path folder) throws IOException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.close();
+        long valid = file.length();
+        store.write("zones:second", createNode("Second"));
+        store.close();
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.setLength(file.length() - 3);
+        }
+
+        SegmentedZoneStore reopened = new SegmentedZoneStore(file);
+        Assertions.assertEquals(List.of("zones:first"), List.copyOf(reopened.list()));
+        Assertions.assertEquals(valid, file.length());
+    }
+
+    @Test
+    public void testStampSurvivesCompaction(@TempDir Path folder) throws ConfigurateException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.write("zones:second", createNode("Second"));
+        store.delete("zones:first");
+        String stamp = store.getStamp("zones:second").orElseThrow();
+
+        store.compact();
+        Assertions.assertEquals(stamp, store.getStamp("zones:second").orElseThrow());
+        Assertions.assertTrue(store.getStamp("zones:first").isEmpty());
+
+        store.write("zones:second", createNode("Second Renamed"));
+        Assertions.assertNotEquals(stamp, store.getStamp("zones:second").orElseThrow());
+    }
+
+    @Test
+    public void testOwnWritesAreNotChangesElsewhere(@TempDir Path folder) throws IOException {
+        File file = folder.resolve("zones.segment").toFile();
+        SegmentedZoneStore store = new SegmentedZoneStore(file);
+        store.write("zones:first", createNode("First"));
+        store.write("zones:first", createNode("First Renamed"));
+        Assertions.assertFalse(store.isChangedElsewhere());
+
+        try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+            access.seek(access.length());
+            access.write(new byte[]{1, 2, 3});
+        }
+        Assertions.assertTrue(store.isChangedElsewhere());
+    }
+}
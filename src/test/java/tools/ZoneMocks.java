@@ -0,0 +1,41 @@
+package tools;
+
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.math.vector.Vector3i;
+import org.zone.region.Zone;
+import org.zone.region.bounds.BoundedRegion;
+import org.zone.region.bounds.ChildRegion;
+
+import java.util.List;
+import java.util.Optional;
+
+public final class ZoneMocks {
+
+    private ZoneMocks() {
+    }
+
+    public static Zone createZone(String id) {
+        Zone zone = Mockito.mock(Zone.class);
+        Mockito.when(zone.getId()).thenReturn(id);
+        return zone;
+    }
+
+    public static Zone createZone(Vector3i pos1, Vector3i pos2) {
+        Zone zone = Mockito.mock(Zone.class);
+        ChildRegion region = new ChildRegion(List.of(new BoundedRegion(pos1, pos2)));
+        Mockito.when(zone.getRegion()).thenReturn(region);
+        return zone;
+    }
+
+    public static Zone createZone(String id, ResourceKey world, Vector3i min, Vector3i max) {
+        return createZone(id, world, new BoundedRegion(min, max));
+    }
+
+    public static Zone createZone(String id, ResourceKey world, BoundedRegion region) {
+        Zone zone = createZone(id);
+        Mockito.when(zone.getWorldKey()).thenReturn(Optional.of(world));
+        Mockito.when(zone.getRegion()).thenReturn(new ChildRegion(List.of(region)));
+        return zone;
+    }
+}
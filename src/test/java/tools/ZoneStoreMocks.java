@@ -0,0 +1,92 @@
+package tools;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.SystemSubject;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+import org.zone.ZonePlugin;
+import org.zone.config.ZoneConfig;
+import org.zone.config.node.ZoneNodes;
+import org.zone.region.storage.ZoneFileFormat;
+import org.zone.region.storage.ZoneStore;
+import org.zone.region.storage.ZoneStoreType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public final class ZoneStoreMocks {
+
+    private ZoneStoreMocks() {
+    }
+
+    public static MockedStatic<Sponge> mockSponge(String... pluginIds) {
+        PluginManager pluginManager = Mockito.mock(PluginManager.class);
+        for (String pluginId : pluginIds) {
+            PluginMetadata metadata = Mockito.mock(PluginMetadata.class);
+            Mockito.when(metadata.id()).thenReturn(pluginId);
+            PluginContainer container = Mockito.mock(PluginContainer.class);
+            Mockito.when(container.metadata()).thenReturn(metadata);
+            Mockito.when(pluginManager.plugin(pluginId)).thenReturn(Optional.of(container));
+        }
+        ResourceKey.Factory keys = Mockito.mock(ResourceKey.Factory.class);
+        Mockito
+                .when(keys.resolve(ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> Mockito.mock(ResourceKey.class));
+        FactoryProvider factories = Mockito.mock(FactoryProvider.class);
+        Mockito.when(factories.provide(ResourceKey.Factory.class)).thenReturn(keys);
+        Game game = Mockito.mock(Game.class);
+        Mockito.when(game.factoryProvider()).thenReturn(factories);
+
+        MockedStatic<Sponge> staticSponge = Mockito.mockStatic(Sponge.class);
+        staticSponge.when(Sponge::pluginManager).thenReturn(pluginManager);
+        staticSponge.when(Sponge::game).thenReturn(game);
+        staticSponge.when(Sponge::systemSubject).thenReturn(Mockito.mock(SystemSubject.class));
+        return staticSponge;
+    }
+
+    public static MockedStatic<ZonePlugin> mockPlugin(ZoneStoreType store) {
+        ZoneConfig config = Mockito.mock(ZoneConfig.class);
+        Mockito.when(config.getOrElse(ZoneNodes.ZONE_STORE)).thenReturn(store);
+        Mockito.when(config.getOrElse(ZoneNodes.ZONE_FORMAT)).thenReturn(ZoneFileFormat.HOCON);
+        ZonePlugin plugin = Mockito.mock(ZonePlugin.class);
+        Mockito.when(plugin.getConfig()).thenReturn(config);
+
+        MockedStatic<ZonePlugin> staticZonePlugin = Mockito.mockStatic(ZonePlugin.class);
+        staticZonePlugin.when(ZonePlugin::getZonesPlugin).thenReturn(plugin);
+        return staticZonePlugin;
+    }
+
+    public static ConfigurationNode createNode(String name) throws SerializationException {
+        ConfigurationNode node = CommentedConfigurationNode.root();
+        node.node("Name").set(name);
+        node.node("Region", "World").set("minecraft:overworld");
+        node.node("Region", "box", "pos1", "x").set(0);
+        node.node("Region", "box", "pos1", "y").set(0);
+        node.node("Region", "box", "pos1", "z").set(0);
+        node.node("Region", "box", "pos2", "x").set(10);
+        node.node("Region", "box", "pos2", "y").set(10);
+        node.node("Region", "box", "pos2", "z").set(10);
+        return node;
+    }
+
+    public static File writeZone(Path folder, String id, String name) throws IOException {
+        File pluginFolder = folder.resolve(ZoneStore.getPluginId(id)).toFile();
+        Files.createDirectories(pluginFolder.toPath());
+        File file = ZoneFileFormat.HOCON.getFile(pluginFolder, ZoneStore.getKey(id));
+        ZoneFileFormat.HOCON.write(file.toPath(), createNode(name));
+        return file;
+    }
+}